@@ -0,0 +1,205 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-event cost of CometDamageModifierSystem's source filter, before and after the
+ * CometWaveMob marker component.
+ *
+ * Runs without the server jar: entities live in a stub component store shaped like the ECS one
+ * (ref -> archetype -> column slot), so each getComponent is the same kind of indexed lookup.
+ *  - before: Player, NPCEntity and UUIDComponent lookups, then the ConcurrentHashMap of
+ *    damage multipliers keyed by UUID
+ *  - after: one CometWaveMob lookup, with the multiplier stored on the component
+ *
+ * Usage: java bench/DamageFilterBenchmark.java [events] [cometShare]
+ *   e.g. java bench/DamageFilterBenchmark.java 2000000 0.01
+ */
+public class DamageFilterBenchmark {
+
+    static final int PLAYER = 0, NPC = 1, UUID_COMPONENT = 2, WAVE_MOB = 3, TYPE_COUNT = 4;
+
+    /** Component layout shared by every entity of the same shape. */
+    static final class Archetype {
+        final int[] slotByType = new int[TYPE_COUNT];
+
+        Archetype(int... types) {
+            java.util.Arrays.fill(slotByType, -1);
+            for (int i = 0; i < types.length; i++) {
+                slotByType[types[i]] = i;
+            }
+        }
+    }
+
+    static final class Ref {
+        final int index;
+        boolean valid = true;
+
+        Ref(int index) {
+            this.index = index;
+        }
+    }
+
+    static final class Store {
+        final List<Archetype> archetypeOf = new ArrayList<>();
+        final List<Object[]> componentsOf = new ArrayList<>();
+
+        /** Components in the archetype's type order. */
+        Ref add(Archetype archetype, Object... components) {
+            archetypeOf.add(archetype);
+            componentsOf.add(components);
+            return new Ref(archetypeOf.size() - 1);
+        }
+
+        Object getComponent(Ref ref, int type) {
+            int slot = archetypeOf.get(ref.index).slotByType[type];
+            return slot < 0 ? null : componentsOf.get(ref.index)[slot];
+        }
+    }
+
+    static final class WaveMob {
+        final float damageMultiplier;
+
+        WaveMob(float damageMultiplier) {
+            this.damageMultiplier = damageMultiplier;
+        }
+    }
+
+    static final class UuidComponent {
+        final UUID uuid;
+
+        UuidComponent(UUID uuid) {
+            this.uuid = uuid;
+        }
+    }
+
+    interface Source {
+    }
+
+    static final class EntitySource implements Source {
+        final Ref ref;
+
+        EntitySource(Ref ref) {
+            this.ref = ref;
+        }
+    }
+
+    static final class EnvironmentSource implements Source {
+    }
+
+    static final class Damage {
+        final Source source;
+        float amount;
+
+        Damage(Source source, float amount) {
+            this.source = source;
+            this.amount = amount;
+        }
+    }
+
+    static final Map<UUID, Float> MULTIPLIERS = new ConcurrentHashMap<>();
+
+    /** Baseline filter: skip players, require an NPC, then look its UUID up in the multiplier map. */
+    static void before(Store store, Damage damage) {
+        if (!(damage.source instanceof EntitySource)) return;
+        Ref ref = ((EntitySource) damage.source).ref;
+        if (ref == null || !ref.valid) return;
+        if (store.getComponent(ref, PLAYER) != null) return;
+        if (store.getComponent(ref, NPC) == null) return;
+        UuidComponent uuid = (UuidComponent) store.getComponent(ref, UUID_COMPONENT);
+        if (uuid == null) return;
+        Float multiplier = MULTIPLIERS.get(uuid.uuid);
+        float m = multiplier != null ? multiplier : 1.0f;
+        if (m == 1.0f) return;
+        damage.amount = Math.max(0, damage.amount * m);
+    }
+
+    /** Current filter: one marker-component lookup decides. */
+    static void after(Store store, Damage damage) {
+        if (!(damage.source instanceof EntitySource)) return;
+        Ref ref = ((EntitySource) damage.source).ref;
+        if (ref == null || !ref.valid) return;
+        WaveMob waveMob = (WaveMob) store.getComponent(ref, WAVE_MOB);
+        if (waveMob == null) return;
+        float m = waveMob.damageMultiplier;
+        if (m == 1.0f) return;
+        damage.amount = Math.max(0, damage.amount * m);
+    }
+
+    interface Filter {
+        void apply(Store store, Damage damage);
+    }
+
+    static volatile float sink;
+
+    public static void main(String[] args) {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        double cometShare = args.length > 1 ? Double.parseDouble(args[1]) : 0.01;
+
+        Archetype player = new Archetype(PLAYER, UUID_COMPONENT);
+        Archetype npc = new Archetype(NPC, UUID_COMPONENT);
+        Archetype cometNpc = new Archetype(NPC, UUID_COMPONENT, WAVE_MOB);
+
+        Store store = new Store();
+        Random random = new Random(42);
+        List<Ref> attackers = new ArrayList<>();
+        for (int i = 0; i < 4096; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            double roll = random.nextDouble();
+            if (roll < cometShare) {
+                attackers.add(store.add(cometNpc, new Object(), new UuidComponent(uuid), new WaveMob(1.5f)));
+                MULTIPLIERS.put(uuid, 1.5f);
+            } else if (roll < 0.5) {
+                attackers.add(store.add(player, new Object(), new UuidComponent(uuid)));
+            } else {
+                attackers.add(store.add(npc, new Object(), new UuidComponent(uuid)));
+            }
+        }
+        // Unrelated multiplier entries the baseline map also held (other waves' mobs)
+        for (int i = 0; i < 512; i++) {
+            MULTIPLIERS.put(new UUID(random.nextLong(), random.nextLong()), 1.25f);
+        }
+
+        Damage[] damages = new Damage[events];
+        Source environment = new EnvironmentSource();
+        for (int i = 0; i < events; i++) {
+            Source source = random.nextInt(10) == 0 ? environment
+                    : new EntitySource(attackers.get(random.nextInt(attackers.size())));
+            damages[i] = new Damage(source, 10.0f);
+        }
+
+        System.out.printf("events=%d cometShare=%.3f%n", events, cometShare);
+        run("warmup before", DamageFilterBenchmark::before, store, damages, 5, false);
+        run("warmup after", DamageFilterBenchmark::after, store, damages, 5, false);
+        run("before", DamageFilterBenchmark::before, store, damages, 10, true);
+        run("after", DamageFilterBenchmark::after, store, damages, 10, true);
+    }
+
+    static void run(String label, Filter filter, Store store, Damage[] damages, int rounds, boolean report) {
+        double best = Double.MAX_VALUE;
+        double total = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (Damage damage : damages) {
+                damage.amount = 10.0f;
+            }
+            long start = System.nanoTime();
+            for (Damage damage : damages) {
+                filter.apply(store, damage);
+            }
+            double nsPerEvent = (System.nanoTime() - start) / (double) damages.length;
+            float checksum = 0;
+            for (Damage damage : damages) {
+                checksum += damage.amount;
+            }
+            sink = checksum;
+            best = Math.min(best, nsPerEvent);
+            total += nsPerEvent;
+        }
+        if (report) {
+            System.out.printf("%-7s best %.2f ns/event, mean %.2f ns/event%n", label, best, total / rounds);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.cometmod.integration;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Per-call cost of each claim guard's provider dispatch: reflection (Method.invoke, as the guards
+ * originally did) against the current MethodHandle holders, one row pair per provider.
+ *
+ * Runs without the server jar or any claim plugin: the nested stub classes mimic each provider's API,
+ * and the holders bind them through the real IntegrationBinder, so every IntegrationBinder shape is
+ * exercised the way the guards use it:
+ *  - SimpleClaims / Hyfaction: instance getInstance (GETTER) + getChunk (CHUNK_LOOKUP), Hyfaction
+ *    adding isSafeZone / isWarZone (CHUNK_TEST)
+ *  - ElbaphFactions: getInstance + isChunkClaimed (CHUNK_TEST)
+ *  - HyperFactions: static isAvailable (FLAG) + static isClaimed (CHUNK_TEST)
+ *  - WiFlowsClaims: static getClaimOwner (CHUNK_LOOKUP)
+ *  - WorldProtect: regionService (GETTER) -> getPrimaryRegionAt (BLOCK_LOOKUP) -> id (GETTER)
+ *  - UltimateFaction: volatile Api checked against the plugin instance, getClaimStore + getClaim (Optional)
+ *
+ * Each provider is measured in its own JVM so earlier rows do not make the shared call site megamorphic.
+ * IntegrationBinder is package-private, so the benchmark is compiled next to it:
+ *   javac -d target/bench src/com/cometmod/integration/IntegrationBinder.java bench/com/cometmod/integration/ClaimDispatchBenchmark.java
+ *   java -cp target/bench com.cometmod.integration.ClaimDispatchBenchmark [calls]
+ */
+public class ClaimDispatchBenchmark {
+
+    // --- Provider stubs ---------------------------------------------------------------------
+
+    static boolean claimed(int chunkX, int chunkZ) {
+        return ((chunkX ^ chunkZ) & 7) == 0;
+    }
+
+    public static final class SimpleClaimsManager {
+        private static final SimpleClaimsManager INSTANCE = new SimpleClaimsManager();
+        private final Object chunk = new Object();
+
+        public static SimpleClaimsManager getInstance() {
+            return INSTANCE;
+        }
+
+        public Object getChunk(String world, int chunkX, int chunkZ) {
+            return claimed(chunkX, chunkZ) ? chunk : null;
+        }
+    }
+
+    public static final class HyfactionManager {
+        private static final HyfactionManager INSTANCE = new HyfactionManager();
+        private final Object chunk = new Object();
+
+        public static HyfactionManager getInstance() {
+            return INSTANCE;
+        }
+
+        public Object getChunk(String world, int chunkX, int chunkZ) {
+            return claimed(chunkX, chunkZ) ? chunk : null;
+        }
+
+        public boolean isSafeZone(String world, int chunkX, int chunkZ) {
+            return chunkX == 3 && chunkZ == 3;
+        }
+
+        public boolean isWarZone(String world, int chunkX, int chunkZ) {
+            return chunkX == 5 && chunkZ == 5;
+        }
+    }
+
+    public static final class ElbaphManager {
+        private static final ElbaphManager INSTANCE = new ElbaphManager();
+
+        public static ElbaphManager getInstance() {
+            return INSTANCE;
+        }
+
+        public boolean isChunkClaimed(String world, int chunkX, int chunkZ) {
+            return claimed(chunkX, chunkZ);
+        }
+    }
+
+    public static final class HyperFactionsApi {
+        public static boolean isAvailable() {
+            return true;
+        }
+
+        public static boolean isClaimed(String world, int chunkX, int chunkZ) {
+            return claimed(chunkX, chunkZ);
+        }
+    }
+
+    public static final class WiFlowsAccess {
+        private static final Object OWNER = new Object();
+
+        public static Object getClaimOwner(String world, int chunkX, int chunkZ) {
+            return claimed(chunkX, chunkZ) ? OWNER : null;
+        }
+    }
+
+    public static final class Region {
+        private final String id;
+
+        Region(String id) {
+            this.id = id;
+        }
+
+        public String id() {
+            return id;
+        }
+    }
+
+    public static final class RegionService {
+        private final Region spawn = new Region("spawn");
+
+        public Region getPrimaryRegionAt(String world, int x, int y, int z) {
+            return claimed(x >> 5, z >> 5) ? spawn : null;
+        }
+
+        public List<Region> listAllRegionsAllWorlds() {
+            return List.of(spawn);
+        }
+    }
+
+    public static final class WorldProtectServices {
+        private static final RegionService SERVICE = new RegionService();
+
+        public static RegionService regionService() {
+            return SERVICE;
+        }
+    }
+
+    public static final class ClaimStore {
+        private final Optional<Object> claim = Optional.of(new Object());
+
+        public Optional<Object> getClaim(String world, int chunkX, int chunkZ) {
+            return claimed(chunkX, chunkZ) ? claim : Optional.empty();
+        }
+    }
+
+    public static final class UltimateFactionPlugin {
+        private final ClaimStore claimStore = new ClaimStore();
+
+        public ClaimStore getClaimStore() {
+            return claimStore;
+        }
+    }
+
+    /** Stand-in for PluginManager.getPlugin(ULTIMATE_FACTION_ID). */
+    static final Object ULTIMATE_PLUGIN = new UltimateFactionPlugin();
+
+    static final String PREFIX = ClaimDispatchBenchmark.class.getName() + "$";
+
+    // --- Holders, bound as in the guards --------------------------------------------------
+
+    static final class SimpleClaimsApi {
+        static final Class<?> MANAGER = IntegrationBinder.findClass(PREFIX + "SimpleClaimsManager");
+        static final MethodHandle GET_INSTANCE = IntegrationBinder.bindOrNull(MANAGER, "getInstance",
+                IntegrationBinder.GETTER);
+        static final MethodHandle GET_CHUNK = IntegrationBinder.bindOrNull(MANAGER, "getChunk",
+                IntegrationBinder.CHUNK_LOOKUP, String.class, int.class, int.class);
+    }
+
+    static final class HyfactionApi {
+        static final Class<?> MANAGER = IntegrationBinder.findClass(PREFIX + "HyfactionManager");
+        static final MethodHandle GET_INSTANCE = IntegrationBinder.bindOrNull(MANAGER, "getInstance",
+                IntegrationBinder.GETTER);
+        static final MethodHandle GET_CHUNK = IntegrationBinder.bindOrNull(MANAGER, "getChunk",
+                IntegrationBinder.CHUNK_LOOKUP, String.class, int.class, int.class);
+        static final MethodHandle IS_SAFE_ZONE = IntegrationBinder.bindOrNull(MANAGER, "isSafeZone",
+                IntegrationBinder.CHUNK_TEST, String.class, int.class, int.class);
+        static final MethodHandle IS_WAR_ZONE = IntegrationBinder.bindOrNull(MANAGER, "isWarZone",
+                IntegrationBinder.CHUNK_TEST, String.class, int.class, int.class);
+    }
+
+    static final class ElbaphApi {
+        static final Class<?> MANAGER = IntegrationBinder.findClass(PREFIX + "ElbaphManager");
+        static final MethodHandle GET_INSTANCE = IntegrationBinder.bindOrNull(MANAGER, "getInstance",
+                IntegrationBinder.GETTER);
+        static final MethodHandle IS_CHUNK_CLAIMED = IntegrationBinder.bindOrNull(MANAGER, "isChunkClaimed",
+                IntegrationBinder.CHUNK_TEST, String.class, int.class, int.class);
+    }
+
+    static final class HyperFactionsHolder {
+        static final Class<?> API = IntegrationBinder.findClass(PREFIX + "HyperFactionsApi");
+        static final MethodHandle IS_AVAILABLE = IntegrationBinder.bindOrNull(API, "isAvailable", IntegrationBinder.FLAG);
+        static final MethodHandle IS_CLAIMED = IntegrationBinder.bindOrNull(API, "isClaimed", IntegrationBinder.CHUNK_TEST,
+                String.class, int.class, int.class);
+    }
+
+    static final class WiFlowsApi {
+        static final MethodHandle GET_CLAIM_OWNER = IntegrationBinder.bindOrNull(
+                IntegrationBinder.findClass(PREFIX + "WiFlowsAccess"), "getClaimOwner",
+                IntegrationBinder.CHUNK_LOOKUP, String.class, int.class, int.class);
+    }
+
+    static final class WorldProtectApi {
+        static final Class<?> SERVICES = IntegrationBinder.findClass(PREFIX + "WorldProtectServices");
+        static final MethodHandle REGION_SERVICE = IntegrationBinder.bindOrNull(SERVICES, "regionService",
+                IntegrationBinder.GETTER);
+        static final Class<?> REGION_SERVICE_TYPE = IntegrationBinder.returnType(SERVICES, "regionService");
+        static final MethodHandle PRIMARY_REGION = IntegrationBinder.bindOrNull(REGION_SERVICE_TYPE,
+                "getPrimaryRegionAt", IntegrationBinder.BLOCK_LOOKUP, String.class, int.class, int.class, int.class);
+        static final MethodHandle REGION_ID = IntegrationBinder.bindOrNull(IntegrationBinder.returnType(
+                REGION_SERVICE_TYPE, "getPrimaryRegionAt", String.class, int.class, int.class, int.class),
+                "id", IntegrationBinder.GETTER);
+    }
+
+    static final class UltimateApi {
+        final Object plugin;
+        final MethodHandle getClaimStore;
+        final MethodHandle getClaim;
+
+        UltimateApi(Object plugin, MethodHandle getClaimStore, MethodHandle getClaim) {
+            this.plugin = plugin;
+            this.getClaimStore = getClaimStore;
+            this.getClaim = getClaim;
+        }
+    }
+
+    static volatile UltimateApi ultimateApi;
+
+    // --- Dispatch paths ---------------------------------------------------------------------
+
+    interface Dispatch {
+        boolean isClaimed(String world, int x, int z) throws Throwable;
+    }
+
+    static final class Reflective {
+        static Method get(Class<?> owner, String name, Class<?>... parameterTypes) {
+            try {
+                return owner.getMethod(name, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        static final Class<?>[] CHUNK = { String.class, int.class, int.class };
+        static final Class<?>[] BLOCK = { String.class, int.class, int.class, int.class };
+
+        static final Method SIMPLE_INSTANCE = get(SimpleClaimsManager.class, "getInstance");
+        static final Method SIMPLE_GET_CHUNK = get(SimpleClaimsManager.class, "getChunk", CHUNK);
+        static final Method HYFACTION_INSTANCE = get(HyfactionManager.class, "getInstance");
+        static final Method HYFACTION_GET_CHUNK = get(HyfactionManager.class, "getChunk", CHUNK);
+        static final Method HYFACTION_SAFE = get(HyfactionManager.class, "isSafeZone", CHUNK);
+        static final Method HYFACTION_WAR = get(HyfactionManager.class, "isWarZone", CHUNK);
+        static final Method ELBAPH_INSTANCE = get(ElbaphManager.class, "getInstance");
+        static final Method ELBAPH_CLAIMED = get(ElbaphManager.class, "isChunkClaimed", CHUNK);
+        static final Method HYPER_AVAILABLE = get(HyperFactionsApi.class, "isAvailable");
+        static final Method HYPER_CLAIMED = get(HyperFactionsApi.class, "isClaimed", CHUNK);
+        static final Method WIFLOWS_OWNER = get(WiFlowsAccess.class, "getClaimOwner", CHUNK);
+        static final Method WP_SERVICE = get(WorldProtectServices.class, "regionService");
+        static final Method WP_PRIMARY = get(RegionService.class, "getPrimaryRegionAt", BLOCK);
+        static final Method WP_ID = get(Region.class, "id");
+        static final Method UF_STORE = get(UltimateFactionPlugin.class, "getClaimStore");
+        static final Method UF_CLAIM = get(ClaimStore.class, "getClaim", CHUNK);
+    }
+
+    static boolean simpleReflection(String world, int x, int z) throws Throwable {
+        Object manager = Reflective.SIMPLE_INSTANCE.invoke(null);
+        return Reflective.SIMPLE_GET_CHUNK.invoke(manager, world, x >> 5, z >> 5) != null;
+    }
+
+    static boolean simpleHolder(String world, int x, int z) throws Throwable {
+        Object manager = (Object) SimpleClaimsApi.GET_INSTANCE.invokeExact((Object) null);
+        return (Object) SimpleClaimsApi.GET_CHUNK.invokeExact(manager, world, x >> 5, z >> 5) != null;
+    }
+
+    static boolean hyfactionReflection(String world, int x, int z) throws Throwable {
+        Object manager = Reflective.HYFACTION_INSTANCE.invoke(null);
+        int chunkX = x >> 5;
+        int chunkZ = z >> 5;
+        return Reflective.HYFACTION_GET_CHUNK.invoke(manager, world, chunkX, chunkZ) != null
+                || (Boolean) Reflective.HYFACTION_SAFE.invoke(manager, world, chunkX, chunkZ)
+                || (Boolean) Reflective.HYFACTION_WAR.invoke(manager, world, chunkX, chunkZ);
+    }
+
+    static boolean hyfactionHolder(String world, int x, int z) throws Throwable {
+        Object manager = (Object) HyfactionApi.GET_INSTANCE.invokeExact((Object) null);
+        int chunkX = x >> 5;
+        int chunkZ = z >> 5;
+        return (Object) HyfactionApi.GET_CHUNK.invokeExact(manager, world, chunkX, chunkZ) != null
+                || (boolean) HyfactionApi.IS_SAFE_ZONE.invokeExact(manager, world, chunkX, chunkZ)
+                || (boolean) HyfactionApi.IS_WAR_ZONE.invokeExact(manager, world, chunkX, chunkZ);
+    }
+
+    static boolean elbaphReflection(String world, int x, int z) throws Throwable {
+        Object manager = Reflective.ELBAPH_INSTANCE.invoke(null);
+        return (Boolean) Reflective.ELBAPH_CLAIMED.invoke(manager, world, x >> 5, z >> 5);
+    }
+
+    static boolean elbaphHolder(String world, int x, int z) throws Throwable {
+        Object manager = (Object) ElbaphApi.GET_INSTANCE.invokeExact((Object) null);
+        return (boolean) ElbaphApi.IS_CHUNK_CLAIMED.invokeExact(manager, world, x >> 5, z >> 5);
+    }
+
+    static boolean hyperReflection(String world, int x, int z) throws Throwable {
+        return (Boolean) Reflective.HYPER_AVAILABLE.invoke(null)
+                && (Boolean) Reflective.HYPER_CLAIMED.invoke(null, world, x >> 5, z >> 5);
+    }
+
+    static boolean hyperHolder(String world, int x, int z) throws Throwable {
+        return (boolean) HyperFactionsHolder.IS_AVAILABLE.invokeExact((Object) null)
+                && (boolean) HyperFactionsHolder.IS_CLAIMED.invokeExact((Object) null, world, x >> 5, z >> 5);
+    }
+
+    static boolean wiflowsReflection(String world, int x, int z) throws Throwable {
+        return Reflective.WIFLOWS_OWNER.invoke(null, world, x >> 5, z >> 5) != null;
+    }
+
+    static boolean wiflowsHolder(String world, int x, int z) throws Throwable {
+        return (Object) WiFlowsApi.GET_CLAIM_OWNER.invokeExact((Object) null, world, x >> 5, z >> 5) != null;
+    }
+
+    static boolean worldProtectReflection(String world, int x, int z) throws Throwable {
+        Object service = Reflective.WP_SERVICE.invoke(null);
+        Object region = Reflective.WP_PRIMARY.invoke(service, world, x, 64, z);
+        return region != null && Reflective.WP_ID.invoke(region) instanceof String;
+    }
+
+    static boolean worldProtectHolder(String world, int x, int z) throws Throwable {
+        Object service = (Object) WorldProtectApi.REGION_SERVICE.invokeExact((Object) null);
+        Object region = (Object) WorldProtectApi.PRIMARY_REGION.invokeExact(service, world, x, 64, z);
+        return region != null && (Object) WorldProtectApi.REGION_ID.invokeExact(region) instanceof String;
+    }
+
+    static boolean ultimateReflection(String world, int x, int z) throws Throwable {
+        Object store = Reflective.UF_STORE.invoke(ULTIMATE_PLUGIN);
+        return ((Optional<?>) Reflective.UF_CLAIM.invoke(store, world, x >> 5, z >> 5)).isPresent();
+    }
+
+    static boolean ultimateHolder(String world, int x, int z) throws Throwable {
+        Object plugin = ULTIMATE_PLUGIN;
+        UltimateApi api = ultimateApi;
+        if (api == null || api.plugin != plugin) {
+            Method getClaimStore = plugin.getClass().getMethod("getClaimStore");
+            api = new UltimateApi(plugin, IntegrationBinder.bind(getClaimStore, IntegrationBinder.GETTER),
+                    IntegrationBinder.bind(getClaimStore.getReturnType(), "getClaim", IntegrationBinder.CHUNK_LOOKUP,
+                            String.class, int.class, int.class));
+            ultimateApi = api;
+        }
+        Object store = (Object) api.getClaimStore.invokeExact(plugin);
+        Object result = (Object) api.getClaim.invokeExact(store, world, x >> 5, z >> 5);
+        return result instanceof Optional<?> optional && optional.isPresent();
+    }
+
+    // --- Harness ----------------------------------------------------------------------------
+
+    static final class Row {
+        final String provider;
+        final String shape;
+        final Dispatch reflection;
+        final Dispatch holder;
+
+        Row(String provider, String shape, Dispatch reflection, Dispatch holder) {
+            this.provider = provider;
+            this.shape = shape;
+            this.reflection = reflection;
+            this.holder = holder;
+        }
+    }
+
+    static volatile int sink;
+
+    public static void main(String[] args) throws Throwable {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 3_000_000;
+
+        List<Row> rows = new ArrayList<>();
+        rows.add(new Row("SimpleClaims", "GETTER+CHUNK_LOOKUP",
+                ClaimDispatchBenchmark::simpleReflection, ClaimDispatchBenchmark::simpleHolder));
+        rows.add(new Row("Hyfaction", "GETTER+CHUNK_LOOKUP+2xCHUNK_TEST",
+                ClaimDispatchBenchmark::hyfactionReflection, ClaimDispatchBenchmark::hyfactionHolder));
+        rows.add(new Row("ElbaphFactions", "GETTER+CHUNK_TEST",
+                ClaimDispatchBenchmark::elbaphReflection, ClaimDispatchBenchmark::elbaphHolder));
+        rows.add(new Row("HyperFactions", "FLAG+CHUNK_TEST (static)",
+                ClaimDispatchBenchmark::hyperReflection, ClaimDispatchBenchmark::hyperHolder));
+        rows.add(new Row("WiFlowsClaims", "CHUNK_LOOKUP (static)",
+                ClaimDispatchBenchmark::wiflowsReflection, ClaimDispatchBenchmark::wiflowsHolder));
+        rows.add(new Row("WorldProtect", "GETTER+BLOCK_LOOKUP+GETTER",
+                ClaimDispatchBenchmark::worldProtectReflection, ClaimDispatchBenchmark::worldProtectHolder));
+        rows.add(new Row("UltimateFaction", "volatile Api, GETTER+CHUNK_LOOKUP",
+                ClaimDispatchBenchmark::ultimateReflection, ClaimDispatchBenchmark::ultimateHolder));
+
+        for (Row row : rows) {
+            if (row.reflection.isClaimed("default", 0, 0) != row.holder.isClaimed("default", 0, 0)) {
+                throw new IllegalStateException(row.provider + ": reflection and holder disagree");
+            }
+        }
+
+        if (args.length > 1) {
+            // Child run: one provider only, so run()'s call site only ever sees this row's two paths
+            for (Row row : rows) {
+                if (row.provider.equals(args[1])) {
+                    run(row.reflection, calls, 3);
+                    run(row.holder, calls, 3);
+                    double reflection = run(row.reflection, calls, 5);
+                    double holder = run(row.holder, calls, 5);
+                    System.out.printf("%-16s %-34s %9.2f ns %9.2f ns%n", row.provider, row.shape, reflection, holder);
+                }
+            }
+            return;
+        }
+
+        System.out.printf("calls=%d java=%s%n", calls, System.getProperty("java.version"));
+        System.out.printf("%-16s %-34s %12s %12s%n", "provider", "shape", "reflection", "holder");
+        String javaBin = java.nio.file.Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        for (Row row : rows) {
+            Process child = new ProcessBuilder(javaBin, "-cp", System.getProperty("java.class.path"),
+                    ClaimDispatchBenchmark.class.getName(), Integer.toString(calls), row.provider)
+                    .inheritIO()
+                    .start();
+            if (child.waitFor() != 0) {
+                throw new IllegalStateException(row.provider + " run failed");
+            }
+        }
+    }
+
+    /** Best ns/call over the given rounds. */
+    static double run(Dispatch dispatch, int calls, int rounds) throws Throwable {
+        String world = "default";
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            int claimed = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                if (dispatch.isClaimed(world, (i & 1023) << 5, (i >>> 10) << 5)) {
+                    claimed++;
+                }
+            }
+            double nsPerCall = (System.nanoTime() - start) / (double) calls;
+            sink = claimed;
+            best = Math.min(best, nsPerCall);
+        }
+        return best;
+    }
+}
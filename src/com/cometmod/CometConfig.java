@@ -7,13 +7,6 @@ import com.cometmod.systems.*;
 import com.cometmod.wave.*;
 
 
-import static com.cometmod.config.parser.ConfigJson.extractBooleanValue;
-import static com.cometmod.config.parser.ConfigJson.extractDoubleValue;
-import static com.cometmod.config.parser.ConfigJson.extractIntValue;
-import static com.cometmod.config.parser.ConfigJson.extractJsonArray;
-import static com.cometmod.config.parser.ConfigJson.extractJsonObject;
-import static com.cometmod.config.parser.ConfigJson.extractStringArray;
-
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -26,8 +19,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.cometmod.config.model.BossEntry;
 import com.cometmod.config.defaults.DefaultThemes;
@@ -35,6 +26,10 @@ import com.cometmod.config.model.MobEntry;
 import com.cometmod.config.validation.ConfigValidationReport;
 import com.cometmod.config.validation.ConfigValidator;
 import com.cometmod.config.model.ThemeConfig;
+import com.cometmod.config.parser.JsonArray;
+import com.cometmod.config.parser.JsonObject;
+import com.cometmod.config.parser.JsonParseException;
+import com.cometmod.config.parser.JsonReader;
 import com.cometmod.config.parser.ThemeConfigParser;
 import com.cometmod.config.parser.ThemeConfigWriter;
 import com.cometmod.config.ThemeConfigLoader;
@@ -44,6 +39,7 @@ import com.cometmod.config.model.TierRewards;
 import com.cometmod.config.model.RewardEntry;
 import com.cometmod.config.model.ZoneSpawnChances;
 import com.cometmod.config.model.TierInheritanceWeights;
+import com.cometmod.util.CometLog;
 import com.hypixel.hytale.common.plugin.PluginIdentifier;
 import com.hypixel.hytale.common.semver.SemverRange;
 import com.hypixel.hytale.server.core.plugin.PluginManager;
@@ -69,67 +65,68 @@ public class CometConfig {
     /** Block radius for "use comet" detection (distance from registered comet block to allow starting wave). */
     public static final int COMET_USE_NEAR_RADIUS = 4;
 
-    /** Half-size of the "asset box": when we register a comet we also register every block in a (2*radius+1)^3 box so any part of a multi-block asset (e.g. chest, coffin) triggers the comet. */
+    /** Half-size of the "asset box": when we register a comet we also register a (2*radius+1)^3 trigger box around it so any part of a multi-block asset (e.g. chest, coffin) triggers the comet. */
     public static final int COMET_ASSET_BOX_RADIUS = 2;
 
-    /** Set to true to log [CometDebug] messages to console (activation, waves, placement). Remember to set false before release. */
-    public static final boolean DEBUG = true;
-
-    // Singleton instance for global access
-    private static CometConfig instance;
+    // Published config; replaced as a whole on load/reload, never mutated after publish (see freeze)
+    private static volatile CometConfig instance;
     private static volatile boolean tier5Enabled = detectTier5Availability();
 
     // Spawn settings (existing)
-    public int minDelaySeconds = 120;
-    public int maxDelaySeconds = 300;
-    public double spawnChance = 0.4;
-    public double despawnTimeMinutes = 30.0;
-    public int minSpawnDistance = 30;
-    public int maxSpawnDistance = 50;
+    private int minDelaySeconds = 120;
+    private int maxDelaySeconds = 300;
+    private double spawnChance = 0.4;
+    private double despawnTimeMinutes = 30.0;
+    private int minSpawnDistance = 30;
+    private int maxSpawnDistance = 50;
 
     // Natural spawns toggle - if false, comets only spawn from fixed spawn points
-    public boolean naturalSpawnsEnabled = true;
+    private boolean naturalSpawnsEnabled = true;
 
     // Global comets setting - if true, any player can trigger any comet (not just the owner)
-    public boolean globalComets = false;
+    private boolean globalComets = false;
 
     /** If true, inject Use interaction into clean-slate spawn blocks (no Use in asset) so F activates comets. If false, skip injection (avoids loadAssets; use hit-to-activate for those blocks). */
-    public boolean injectUseForCleanSlateBlocks = false;
+    private boolean injectUseForCleanSlateBlocks = false;
 
     /** If true, mobs spawned in comet waves do not drop loot from their loot tables (rewards come only from the comet chest). If false, wave mobs use their normal droplist on death. */
-    public boolean disableWaveMobLoot = true;
+    private boolean disableWaveMobLoot = true;
 
     // Message templates (chat + banner) - configurable, BossArena style
     // Placeholders are documented in the README section of the config
-    public String msgCometFallingTitle = "%tier% Comet Falling!";
-    public String msgCometFallingSubtitle = "Watch the sky!";
-    public String msgCometFallingChatCoords =
+    private String msgCometFallingTitle = "%tier% Comet Falling!";
+    private String msgCometFallingSubtitle = "Watch the sky!";
+    private String msgCometFallingChatCoords =
             "%tier% Comet falling! Target: X=%x%, Y=%y%, Z=%z%";
 
-    public String msgWaveBossTitle = "Boss Wave %currentWave%/%totalWaves%";
-    public String msgWaveBossTitleNoCount = "Boss Wave!";
-    public String msgWaveBossSubtitle =
+    private String msgWaveBossTitle = "Boss Wave %currentWave%/%totalWaves%";
+    private String msgWaveBossTitleNoCount = "Boss Wave!";
+    private String msgWaveBossSubtitle =
             "Boss: %bossStatus% | Time: %time%";
 
-    public String msgWaveTitle =
+    private String msgWaveTitle =
             "Wave %currentWave%/%totalWaves% - %theme%";
-    public String msgWaveTitleNoCount = "%theme% Incoming!";
-    public String msgWaveSubtitle =
+    private String msgWaveTitleNoCount = "%theme% Incoming!";
+    private String msgWaveSubtitle =
             "Mobs: %killed%/%total% | Time: %time%";
 
-    public String msgWaveFailedTitle = "Wave Failed!";
-    public String msgWaveFailedSubtitle = "Time's Up!";
+    private String msgWaveFailedTitle = "Wave Failed!";
+    private String msgWaveFailedSubtitle = "Time's Up!";
+
+    private String msgWaveCompleteTitle = "Wave Complete!";
+    private String msgWaveCompleteSubtitle = "Loot Dropped!";
 
-    public String msgWaveCompleteTitle = "Wave Complete!";
-    public String msgWaveCompleteSubtitle = "Loot Dropped!";
+    private String msgWaveCompleteChatHeaderPrefix = "[Comet] ";
+    private String msgWaveCompleteChatHeader = "Wave Complete! Your rewards:";
+    private String msgWaveCompleteChatItemPrefix = " - ";
 
-    public String msgWaveCompleteChatHeaderPrefix = "[Comet] ";
-    public String msgWaveCompleteChatHeader = "Wave Complete! Your rewards:";
-    public String msgWaveCompleteChatItemPrefix = " - ";
+    // msgWave* countdown templates compiled once per loaded config (see getWaveTitleTemplates)
+    private WaveTitleTemplate.Templates waveTitleTemplates;
+    private ThemeIndex themeIndex;
 
     // If non-empty, comet raids are disabled in the listed world names (case-insensitive).
-    private final List<String> disabledWorlds = new ArrayList<>();
-    private final Set<String> disabledWorldLookup = new LinkedHashSet<>();
+    private List<String> disabledWorlds = new ArrayList<>();
+    private Set<String> disabledWorldLookup = new LinkedHashSet<>();
 
     // Theme configurations (new)
     private Map<String, ThemeConfig> themes = new LinkedHashMap<>();
@@ -154,19 +151,26 @@ public class CometConfig {
     // Optional WorldProtect integration: control comet spawning inside protected regions
     private boolean protectedZoneSpawnRulesEnabled = false;
     private boolean protectedZoneDefaultInProtectedRegion = true;
-    private Map<String, Boolean> protectedZoneRegionOverrides = new LinkedHashMap<>();
+    // Replaced wholesale (copy-on-write) by syncProtectedRegionOverrides, the one runtime update
+    private volatile Map<String, Boolean> protectedZoneRegionOverrides = new LinkedHashMap<>();
 
     // Generic claim protection integration
     private boolean claimProtectEnabled = false;
     private boolean claimProtectAutoDetectProviders = false;
-    private final List<String> claimProtectProviders = new ArrayList<>();
-    private final Set<String> claimProtectProviderLookup = new LinkedHashSet<>();
+    private List<String> claimProtectProviders = new ArrayList<>();
+    private Set<String> claimProtectProviderLookup = new LinkedHashSet<>();
+
+    // Per-category log levels for hot-path logging (CometLog), e.g. "wave": "FINE"
+    private Map<String, String> logLevels = new LinkedHashMap<>();
 
     // Bench recipes (new)
 
     // Track if config was loaded successfully
     private boolean themesLoaded = false;
 
+    // Set once the config is published; from then on it is a read-only snapshot
+    private boolean frozen = false;
+
     /**
      * Get the singleton instance (loaded config)
      */
@@ -263,6 +267,14 @@ public class CometConfig {
      * If new config files are missing but legacy files exist, merges legacy into new files and renames legacy to .migrated.
      */
     public static CometConfig load() {
+        return load(false);
+    }
+
+    /**
+     * @param failOnSyntaxError when true and a config is already published, a syntax error is thrown to
+     *                          the caller instead of silently keeping the current configuration
+     */
+    private static CometConfig load(boolean failOnSyntaxError) {
         refreshTier5Availability();
         File configFile = getConfigFile();
         File legacyConfig = getLegacyConfigFile(configFile);
@@ -273,8 +285,7 @@ public class CometConfig {
             if (legacyConfig.exists() && legacyConfig.isFile()) {
                 CometConfig config = migrateFromLegacyFiles(configFile, legacyConfig, legacyThemes);
                 if (config != null) {
-                    instance = config;
-                    return config;
+                    return publish(config);
                 }
             }
         }
@@ -284,9 +295,10 @@ public class CometConfig {
         if (configFile.exists() && configFile.isFile()) {
             try {
                 String content = new String(java.nio.file.Files.readAllBytes(configFile.toPath()));
-                ConfigValidationReport configValidation = ConfigValidator.validateCometConfig(content);
+                JsonObject root = parseConfigFile(content, configFile);
+                ConfigValidationReport configValidation = ConfigValidator.validateCometConfig(root);
                 logValidationReport(CONFIG_FILE_NAME, configValidation);
-                config = parseJson(content, false);
+                config = parseJson(root, false);
                 ThemeConfigLoader.loadThemes(config, configFile);
                 syncConfigFilesOnBoot(config, configFile);
                 if (!configValidation.isClean()) {
@@ -299,6 +311,18 @@ public class CometConfig {
                     LOGGER.warning("  WARNING: No themes defined in config! Waves will not spawn mobs!");
                 }
 
+            } catch (JsonParseException e) {
+                // Leave the files alone so the user's edits survive; fix the reported spot and reload
+                CometConfig current = instance;
+                if (current != null) {
+                    LOGGER.warning("Keeping the current configuration until the syntax error is fixed.");
+                    if (failOnSyntaxError) {
+                        throw e;
+                    }
+                    return current;
+                }
+                LOGGER.warning("Using default configuration until the syntax error is fixed (files not rewritten).");
+                config = createDefaultConfig();
             } catch (Exception e) {
                 LOGGER.warning("Failed to load config file '" + configFile.getAbsolutePath() + "', using defaults: " + e.getMessage());
                 e.printStackTrace();
@@ -313,10 +337,89 @@ public class CometConfig {
             config.save();
         }
 
+        return publish(config);
+    }
+
+    /**
+     * Freeze a fully built config and swap it in as the current one. Readers that already hold the
+     * previous instance (e.g. a running wave) keep using it unchanged.
+     */
+    private static CometConfig publish(CometConfig config) {
+        config.freeze();
         instance = config;
+        CometLog.configure(config.getLogLevels());
         return config;
     }
 
+    /**
+     * Make every collection and nested model object read-only and build derived tables, so the
+     * published instance can be read from any thread without locks or defensive copies.
+     */
+    private void freeze() {
+        if (frozen) return;
+        themes = Collections.unmodifiableMap(new LinkedHashMap<>(themes));
+        themeList = Collections.unmodifiableList(new ArrayList<>(themeList));
+        for (ThemeConfig theme : themes.values()) {
+            if (theme != null) {
+                theme.freeze();
+            }
+        }
+        for (ThemeConfig theme : themeList) {
+            if (theme != null) {
+                theme.freeze();
+            }
+        }
+        tierSettings = Collections.unmodifiableMap(new LinkedHashMap<>(tierSettings));
+        for (TierSettings settings : tierSettings.values()) {
+            if (settings != null) {
+                settings.freeze();
+            }
+        }
+        rewardSettings = Collections.unmodifiableMap(new LinkedHashMap<>(rewardSettings));
+        for (TierRewards rewards : rewardSettings.values()) {
+            if (rewards != null) {
+                rewards.freeze();
+            }
+        }
+        zoneSpawnChances = Collections.unmodifiableMap(new LinkedHashMap<>(zoneSpawnChances));
+        for (ZoneSpawnChances chances : zoneSpawnChances.values()) {
+            if (chances != null) {
+                chances.freeze();
+            }
+        }
+        zoneBaseLootPools = Collections.unmodifiableMap(new LinkedHashMap<>(zoneBaseLootPools));
+        for (TierRewards pool : zoneBaseLootPools.values()) {
+            if (pool != null) {
+                pool.freeze();
+            }
+        }
+        tierInheritanceWeights = Collections.unmodifiableMap(new LinkedHashMap<>(tierInheritanceWeights));
+        for (TierInheritanceWeights weights : tierInheritanceWeights.values()) {
+            if (weights != null) {
+                weights.freeze();
+            }
+        }
+        protectedZoneRegionOverrides = Collections.unmodifiableMap(new LinkedHashMap<>(protectedZoneRegionOverrides));
+        disabledWorlds = Collections.unmodifiableList(new ArrayList<>(disabledWorlds));
+        disabledWorldLookup = Collections.unmodifiableSet(new LinkedHashSet<>(disabledWorldLookup));
+        claimProtectProviders = Collections.unmodifiableList(new ArrayList<>(claimProtectProviders));
+        claimProtectProviderLookup = Collections.unmodifiableSet(new LinkedHashSet<>(claimProtectProviderLookup));
+        logLevels = Collections.unmodifiableMap(new LinkedHashMap<>(logLevels));
+        if (tierStatScaling == null) {
+            tierStatScaling = new TierStatScalingConfig();
+        }
+        tierStatScaling.freeze();
+        waveTitleTemplates = WaveTitleTemplate.Templates.compile(this);
+        themeIndex = new ThemeIndex(themeList);
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("CometConfig is published and read-only; load a new config instead");
+        }
+    }
+
     public static boolean isTier5Enabled() {
         return tier5Enabled;
     }
@@ -400,20 +503,21 @@ public class CometConfig {
     private static CometConfig migrateFromLegacyFiles(File newConfigFile, File legacyConfigFile, File legacyThemesFile) {
         try {
             String legacyContent = new String(java.nio.file.Files.readAllBytes(legacyConfigFile.toPath()));
-            logValidationReport(LEGACY_CONFIG_FILE_NAME, ConfigValidator.validateCometConfig(legacyContent));
-            CometConfig config = parseJson(legacyContent, true);
+            JsonObject legacyRoot = parseConfigFile(legacyContent, legacyConfigFile);
+            logValidationReport(LEGACY_CONFIG_FILE_NAME, ConfigValidator.validateCometConfig(legacyRoot));
+            CometConfig config = parseJson(legacyRoot, true);
 
             // If legacy themes file exists, it overrides themes from comet_config.json
             if (legacyThemesFile.exists() && legacyThemesFile.isFile()) {
                 String themesContent = new String(java.nio.file.Files.readAllBytes(legacyThemesFile.toPath()));
-                String themesBlock = extractJsonObject(themesContent, "themes");
-                if (themesBlock != null && !themesBlock.isBlank()) {
-                    Map<String, ThemeConfig> fromThemesFile = ThemeConfigParser.parseThemes(themesContent);
+                JsonObject themesRoot = parseConfigFile(themesContent, legacyThemesFile);
+                if (themesRoot.getObject("themes") != null) {
+                    Map<String, ThemeConfig> fromThemesFile = ThemeConfigParser.parseThemes(themesRoot);
                     if (!fromThemesFile.isEmpty()) {
                         config.themes = fromThemesFile;
                         config.themeList = new ArrayList<>(config.themes.values());
                     }
-                    TierStatScalingConfig fromFile = ThemeConfigParser.parseTierStatScaling(themesContent);
+                    TierStatScalingConfig fromFile = ThemeConfigParser.parseTierStatScaling(themesRoot);
                     if (fromFile != null) {
                         config.tierStatScaling = fromFile;
                     }
@@ -460,101 +564,115 @@ public class CometConfig {
 
     /**
      * Reload configuration from file
+     *
+     * @throws JsonParseException when a config file has a syntax error; the current configuration stays active
      */
     public static CometConfig reload() {
         LOGGER.info("Reloading configuration from file...");
-        return load();
+        return load(true);
+    }
+
+    /**
+     * Read a config file's text into a JSON tree, logging the file and position of any syntax error.
+     */
+    private static JsonObject parseConfigFile(String content, File file) {
+        try {
+            return JsonReader.parseObject(content);
+        } catch (JsonParseException e) {
+            LOGGER.warning("Syntax error in '" + file.getAbsolutePath() + "': " + e.getMessage());
+            throw e;
+        }
     }
 
     /**
      * Parse JSON configuration.
      * @param includeThemesFromJson when true, parse themes and tierStatScaling from json (used when migrating from legacy comet_config.json)
      */
-    private static CometConfig parseJson(String json, boolean includeThemesFromJson) {
+    private static CometConfig parseJson(JsonObject json, boolean includeThemesFromJson) {
         CometConfig config = new CometConfig();
 
         try {
             // Parse spawn settings (check both old format and new nested format)
-            String spawnBlock = extractJsonObject(json, "spawnSettings");
-            String parseFrom = (spawnBlock != null) ? spawnBlock : json;
+            JsonObject spawnBlock = json.getObject("spawnSettings");
+            JsonObject parseFrom = (spawnBlock != null) ? spawnBlock : json;
 
             // Parse spawn settings
-            Integer minDelaySeconds = extractIntValue(parseFrom, "minDelaySeconds");
+            Integer minDelaySeconds = parseFrom.getInt("minDelaySeconds");
             if (minDelaySeconds != null) config.minDelaySeconds = minDelaySeconds;
 
-            Integer maxDelaySeconds = extractIntValue(parseFrom, "maxDelaySeconds");
+            Integer maxDelaySeconds = parseFrom.getInt("maxDelaySeconds");
             if (maxDelaySeconds != null) config.maxDelaySeconds = maxDelaySeconds;
 
-            Double spawnChance = extractDoubleValue(parseFrom, "spawnChance");
+            Double spawnChance = parseFrom.getDouble("spawnChance");
             if (spawnChance != null) config.spawnChance = spawnChance;
 
-            Double despawnMinutes = extractDoubleValue(parseFrom, "despawnTimeMinutes");
+            Double despawnMinutes = parseFrom.getDouble("despawnTimeMinutes");
             if (despawnMinutes != null) config.despawnTimeMinutes = despawnMinutes;
 
-            Integer minSpawnDistance = extractIntValue(parseFrom, "minSpawnDistance");
+            Integer minSpawnDistance = parseFrom.getInt("minSpawnDistance");
             if (minSpawnDistance != null) config.minSpawnDistance = minSpawnDistance;
 
-            Integer maxSpawnDistance = extractIntValue(parseFrom, "maxSpawnDistance");
+            Integer maxSpawnDistance = parseFrom.getInt("maxSpawnDistance");
             if (maxSpawnDistance != null) config.maxSpawnDistance = maxSpawnDistance;
 
-            Boolean globalComets = extractBooleanValue(parseFrom, "globalComets");
+            Boolean globalComets = parseFrom.getBoolean("globalComets");
             if (globalComets != null) config.globalComets = globalComets;
 
-            Boolean naturalSpawnsEnabled = extractBooleanValue(parseFrom, "naturalSpawnsEnabled");
+            Boolean naturalSpawnsEnabled = parseFrom.getBoolean("naturalSpawnsEnabled");
             if (naturalSpawnsEnabled != null) config.naturalSpawnsEnabled = naturalSpawnsEnabled;
 
-            Boolean injectUseForCleanSlateBlocks = extractBooleanValue(parseFrom, "injectUseForCleanSlateBlocks");
+            Boolean injectUseForCleanSlateBlocks = parseFrom.getBoolean("injectUseForCleanSlateBlocks");
             if (injectUseForCleanSlateBlocks != null) config.injectUseForCleanSlateBlocks = injectUseForCleanSlateBlocks;
 
-            Boolean disableWaveMobLoot = extractBooleanValue(parseFrom, "disableWaveMobLoot");
+            Boolean disableWaveMobLoot = parseFrom.getBoolean("disableWaveMobLoot");
             if (disableWaveMobLoot != null) config.disableWaveMobLoot = disableWaveMobLoot;
 
-            String disabledWorldsArray = extractJsonArray(parseFrom, "disabledWorlds");
+            JsonArray disabledWorldsArray = parseFrom.getArray("disabledWorlds");
             if (disabledWorldsArray != null) {
-                config.setDisabledWorlds(extractStringArray(disabledWorldsArray));
+                config.setDisabledWorlds(disabledWorldsArray.strings());
             }
 
             // Parse optional message templates (under top-level "messages" object if present)
-            String messagesBlock = extractJsonObject(json, "messages");
-            String messageSource = messagesBlock != null ? messagesBlock : json;
+            JsonObject messagesBlock = json.getObject("messages");
+            JsonObject messageSource = messagesBlock != null ? messagesBlock : json;
 
             String v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgCometFallingTitle");
+            v = messageSource.getString("msgCometFallingTitle");
             if (v != null && !v.isEmpty()) config.msgCometFallingTitle = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgCometFallingSubtitle");
+            v = messageSource.getString("msgCometFallingSubtitle");
             if (v != null && !v.isEmpty()) config.msgCometFallingSubtitle = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgCometFallingChatCoords");
+            v = messageSource.getString("msgCometFallingChatCoords");
             if (v != null && !v.isEmpty()) config.msgCometFallingChatCoords = v;
 
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveBossTitle");
+            v = messageSource.getString("msgWaveBossTitle");
             if (v != null && !v.isEmpty()) config.msgWaveBossTitle = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveBossTitleNoCount");
+            v = messageSource.getString("msgWaveBossTitleNoCount");
             if (v != null && !v.isEmpty()) config.msgWaveBossTitleNoCount = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveBossSubtitle");
+            v = messageSource.getString("msgWaveBossSubtitle");
             if (v != null && !v.isEmpty()) config.msgWaveBossSubtitle = v;
 
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveTitle");
+            v = messageSource.getString("msgWaveTitle");
             if (v != null && !v.isEmpty()) config.msgWaveTitle = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveTitleNoCount");
+            v = messageSource.getString("msgWaveTitleNoCount");
             if (v != null && !v.isEmpty()) config.msgWaveTitleNoCount = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveSubtitle");
+            v = messageSource.getString("msgWaveSubtitle");
             if (v != null && !v.isEmpty()) config.msgWaveSubtitle = v;
 
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveFailedTitle");
+            v = messageSource.getString("msgWaveFailedTitle");
             if (v != null && !v.isEmpty()) config.msgWaveFailedTitle = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveFailedSubtitle");
+            v = messageSource.getString("msgWaveFailedSubtitle");
             if (v != null && !v.isEmpty()) config.msgWaveFailedSubtitle = v;
 
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveCompleteTitle");
+            v = messageSource.getString("msgWaveCompleteTitle");
             if (v != null && !v.isEmpty()) config.msgWaveCompleteTitle = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveCompleteSubtitle");
+            v = messageSource.getString("msgWaveCompleteSubtitle");
             if (v != null && !v.isEmpty()) config.msgWaveCompleteSubtitle = v;
 
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveCompleteChatHeaderPrefix");
+            v = messageSource.getString("msgWaveCompleteChatHeaderPrefix");
             if (v != null && !v.isEmpty()) config.msgWaveCompleteChatHeaderPrefix = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveCompleteChatHeader");
+            v = messageSource.getString("msgWaveCompleteChatHeader");
             if (v != null && !v.isEmpty()) config.msgWaveCompleteChatHeader = v;
-            v = com.cometmod.config.parser.ConfigJson.extractStringValue(messageSource, "msgWaveCompleteChatItemPrefix");
+            v = messageSource.getString("msgWaveCompleteChatItemPrefix");
             if (v != null && !v.isEmpty()) config.msgWaveCompleteChatItemPrefix = v;
 
             // Themes: from this json when migrating from legacy; otherwise loaded later from themes.json
@@ -591,43 +709,49 @@ public class CometConfig {
             }
 
             // Parse optional WorldProtect spawn rules
-            String worldProtectRules = extractJsonObject(json, "worldProtectSpawnRules");
+            JsonObject worldProtectRules = json.getObject("worldProtectSpawnRules");
             if (worldProtectRules != null) {
-                Boolean enabled = extractBooleanValue(worldProtectRules, "enabled");
+                Boolean enabled = worldProtectRules.getBoolean("enabled");
                 if (enabled != null) {
                     config.protectedZoneSpawnRulesEnabled = enabled;
                 }
 
-                Boolean defaultInProtectedRegion = extractBooleanValue(worldProtectRules, "defaultInWorldProtectRegion");
+                Boolean defaultInProtectedRegion = worldProtectRules.getBoolean("defaultInWorldProtectRegion");
                 if (defaultInProtectedRegion != null) {
                     config.protectedZoneDefaultInProtectedRegion = defaultInProtectedRegion;
                 }
 
-                String regionOverrides = extractJsonObject(worldProtectRules, "regionOverrides");
+                JsonObject regionOverrides = worldProtectRules.getObject("regionOverrides");
                 if (regionOverrides != null) {
                     config.protectedZoneRegionOverrides = parseProtectedZoneRegionOverrides(regionOverrides);
                 }
             }
 
             // Parse generic claim protection rules
-            String claimProtect = extractJsonObject(json, "claimProtect");
+            JsonObject claimProtect = json.getObject("claimProtect");
             if (claimProtect != null) {
-                Boolean enabled = extractBooleanValue(claimProtect, "enabled");
+                Boolean enabled = claimProtect.getBoolean("enabled");
                 if (enabled != null) {
                     config.claimProtectEnabled = enabled;
                 }
 
-                Boolean autoDetectProviders = extractBooleanValue(claimProtect, "autoDetectProviders");
+                Boolean autoDetectProviders = claimProtect.getBoolean("autoDetectProviders");
                 if (autoDetectProviders != null) {
                     config.claimProtectAutoDetectProviders = autoDetectProviders;
                 }
 
-                String providersArray = extractJsonArray(claimProtect, "providers");
+                JsonArray providersArray = claimProtect.getArray("providers");
                 if (providersArray != null) {
-                    config.setClaimProtectProviders(extractStringArray(providersArray));
+                    config.setClaimProtectProviders(providersArray.strings());
                 }
             }
 
+            // Parse per-category log levels
+            JsonObject logLevels = json.getObject("logLevels");
+            if (logLevels != null) {
+                config.logLevels.putAll(parseLogLevels(logLevels));
+            }
+
         } catch (Exception e) {
             LOGGER.warning("Error parsing JSON: " + e.getMessage());
             e.printStackTrace();
@@ -647,7 +771,10 @@ public class CometConfig {
             parentDir.mkdirs();
         }
 
-        ensureDefaultsForPersistence();
+        // Published configs already had defaults merged before freezing
+        if (!frozen) {
+            ensureDefaultsForPersistence();
+        }
 
         try (FileWriter writer = new FileWriter(configFile)) {
             String json = buildConfigJsonForPersistence();
@@ -707,21 +834,31 @@ public class CometConfig {
         return defaults;
     }
 
-    private static Map<String, Boolean> parseProtectedZoneRegionOverrides(String jsonObject) {
+    private static Map<String, Boolean> parseProtectedZoneRegionOverrides(JsonObject jsonObject) {
         Map<String, Boolean> overrides = new LinkedHashMap<>();
-        Pattern pairPattern = Pattern.compile("\"([^\"]+)\"\\s*:\\s*(true|false)", Pattern.CASE_INSENSITIVE);
-        Matcher matcher = pairPattern.matcher(jsonObject);
-        while (matcher.find()) {
-            String regionId = matcher.group(1);
-            String boolText = matcher.group(2);
-            if (regionId == null || regionId.isBlank()) {
+        for (Map.Entry<String, Object> entry : jsonObject.entrySet()) {
+            String regionId = entry.getKey();
+            if (regionId.isBlank() || !(entry.getValue() instanceof Boolean)) {
                 continue;
             }
-            overrides.put(regionId.toLowerCase(Locale.ROOT), Boolean.parseBoolean(boolText));
+            overrides.put(regionId.toLowerCase(Locale.ROOT), (Boolean) entry.getValue());
         }
         return overrides;
     }
 
+    private static Map<String, String> parseLogLevels(JsonObject jsonObject) {
+        Map<String, String> levels = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : jsonObject.entrySet()) {
+            String category = entry.getKey();
+            String level = entry.getValue() instanceof String ? (String) entry.getValue() : null;
+            if (category.isBlank() || level == null || level.isBlank()) {
+                continue;
+            }
+            levels.put(category.trim().toLowerCase(Locale.ROOT), level.trim().toUpperCase(Locale.ROOT));
+        }
+        return levels;
+    }
+
     /**
      * Merge in default values for any missing keys. Preserves user values; adds new defaults on updates.
      */
@@ -730,6 +867,9 @@ public class CometConfig {
         for (Map.Entry<String, ThemeConfig> e : defaultThemes.entrySet()) {
             themes.putIfAbsent(e.getKey(), e.getValue());
         }
+        for (CometLog.Category category : CometLog.Category.values()) {
+            logLevels.putIfAbsent(category.key(), "INFO");
+        }
         themeList = new ArrayList<>(themes.values());
         for (Map.Entry<Integer, TierSettings> e : DefaultThemes.getDefaultTierSettings().entrySet()) {
             tierSettings.putIfAbsent(e.getKey(), e.getValue());
@@ -818,7 +958,8 @@ public class CometConfig {
                 msgWaveTitle, msgWaveTitleNoCount, msgWaveSubtitle,
                 msgWaveFailedTitle, msgWaveFailedSubtitle,
                 msgWaveCompleteTitle, msgWaveCompleteSubtitle,
-                msgWaveCompleteChatHeaderPrefix, msgWaveCompleteChatHeader, msgWaveCompleteChatItemPrefix);
+                msgWaveCompleteChatHeaderPrefix, msgWaveCompleteChatHeader, msgWaveCompleteChatItemPrefix,
+                getLogLevels());
     }
 
     private static void syncConfigFilesOnBoot(CometConfig config, File configFile) {
@@ -909,6 +1050,112 @@ public class CometConfig {
         }
     }
 
+    // ========== Spawn and Message Settings ==========
+
+    public int getMinDelaySeconds() {
+        return minDelaySeconds;
+    }
+
+    public int getMaxDelaySeconds() {
+        return maxDelaySeconds;
+    }
+
+    public double getSpawnChance() {
+        return spawnChance;
+    }
+
+    public double getDespawnTimeMinutes() {
+        return despawnTimeMinutes;
+    }
+
+    public int getMinSpawnDistance() {
+        return minSpawnDistance;
+    }
+
+    public int getMaxSpawnDistance() {
+        return maxSpawnDistance;
+    }
+
+    public boolean isNaturalSpawnsEnabled() {
+        return naturalSpawnsEnabled;
+    }
+
+    public boolean isGlobalComets() {
+        return globalComets;
+    }
+
+    public boolean isInjectUseForCleanSlateBlocks() {
+        return injectUseForCleanSlateBlocks;
+    }
+
+    public boolean isDisableWaveMobLoot() {
+        return disableWaveMobLoot;
+    }
+
+    public String getMsgCometFallingTitle() {
+        return msgCometFallingTitle;
+    }
+
+    public String getMsgCometFallingSubtitle() {
+        return msgCometFallingSubtitle;
+    }
+
+    public String getMsgCometFallingChatCoords() {
+        return msgCometFallingChatCoords;
+    }
+
+    public String getMsgWaveBossTitle() {
+        return msgWaveBossTitle;
+    }
+
+    public String getMsgWaveBossTitleNoCount() {
+        return msgWaveBossTitleNoCount;
+    }
+
+    public String getMsgWaveBossSubtitle() {
+        return msgWaveBossSubtitle;
+    }
+
+    public String getMsgWaveTitle() {
+        return msgWaveTitle;
+    }
+
+    public String getMsgWaveTitleNoCount() {
+        return msgWaveTitleNoCount;
+    }
+
+    public String getMsgWaveSubtitle() {
+        return msgWaveSubtitle;
+    }
+
+    public String getMsgWaveFailedTitle() {
+        return msgWaveFailedTitle;
+    }
+
+    public String getMsgWaveFailedSubtitle() {
+        return msgWaveFailedSubtitle;
+    }
+
+    public String getMsgWaveCompleteTitle() {
+        return msgWaveCompleteTitle;
+    }
+
+    public String getMsgWaveCompleteSubtitle() {
+        return msgWaveCompleteSubtitle;
+    }
+
+    public String getMsgWaveCompleteChatHeaderPrefix() {
+        return msgWaveCompleteChatHeaderPrefix;
+    }
+
+    public String getMsgWaveCompleteChatHeader() {
+        return msgWaveCompleteChatHeader;
+    }
+
+    public String getMsgWaveCompleteChatItemPrefix() {
+        return msgWaveCompleteChatItemPrefix;
+    }
+
     // ========== Theme Access Methods ==========
 
     /**
@@ -919,6 +1166,7 @@ public class CometConfig {
     }
 
     public void setThemes(Map<String, ThemeConfig> themes) {
+        checkMutable();
         this.themes = themes != null ? themes : new LinkedHashMap<>();
     }
 
@@ -930,13 +1178,25 @@ public class CometConfig {
     }
 
     public void setThemeList(List<ThemeConfig> themeList) {
+        checkMutable();
         this.themeList = themeList != null ? themeList : new ArrayList<>();
     }
 
     public void setThemesLoaded(boolean themesLoaded) {
+        checkMutable();
         this.themesLoaded = themesLoaded;
     }
 
+    /**
+     * Wave countdown title templates compiled from the msgWave* strings (built when the config is published).
+     */
+    public WaveTitleTemplate.Templates getWaveTitleTemplates() {
+        if (waveTitleTemplates == null) {
+            waveTitleTemplates = WaveTitleTemplate.Templates.compile(this);
+        }
+        return waveTitleTemplates;
+    }
+
     /**
      * Get a theme by ID
      */
@@ -951,17 +1211,16 @@ public class CometConfig {
      * @return List of themes that can spawn naturally at this tier
      */
     public List<ThemeConfig> getThemesForTier(int tier) {
-        List<ThemeConfig> result = new ArrayList<>();
-        for (ThemeConfig theme : themeList) {
-            // Skip themes with naturalSpawn: false - they can only be spawned manually
-            if (!theme.isNaturalSpawn()) {
-                continue;
-            }
-            if (theme.isAvailableForTier(tier)) {
-                result.add(theme);
-            }
-        }
-        return result;
+        return getThemeIndex().getThemesForTier(tier);
+    }
+
+    /**
+     * Per-tier theme index and shuffle bags (built when the config is published; rebuilt per call
+     * before that, since themes may still change).
+     */
+    public ThemeIndex getThemeIndex() {
+        ThemeIndex index = themeIndex;
+        return index != null ? index : new ThemeIndex(themeList);
     }
 
     /**
@@ -994,6 +1253,7 @@ public class CometConfig {
     }
 
     public void setTierStatScaling(TierStatScalingConfig tierStatScaling) {
+        checkMutable();
         this.tierStatScaling = tierStatScaling != null ? tierStatScaling : new TierStatScalingConfig();
     }
 
@@ -1129,6 +1389,7 @@ public class CometConfig {
      * Set zone spawn chances for a specific zone
      */
     public void setZoneSpawnChances(String zoneKey, ZoneSpawnChances chances) {
+        checkMutable();
         zoneSpawnChances.put(zoneKey, chances);
     }
 
@@ -1146,7 +1407,7 @@ public class CometConfig {
         return Collections.unmodifiableMap(protectedZoneRegionOverrides);
     }
 
-    public synchronized boolean isProtectedRegionSpawnAllowed(String regionId) {
+    public boolean isProtectedRegionSpawnAllowed(String regionId) {
         if (!protectedZoneSpawnRulesEnabled) {
             return true;
         }
@@ -1158,6 +1419,10 @@ public class CometConfig {
         return (override != null) ? override : protectedZoneDefaultInProtectedRegion;
     }
 
+    public Map<String, String> getLogLevels() {
+        return Collections.unmodifiableMap(logLevels);
+    }
+
     public boolean isClaimProtectEnabled() {
         return claimProtectEnabled;
     }
@@ -1166,11 +1431,12 @@ public class CometConfig {
         return claimProtectAutoDetectProviders;
     }
 
-    public synchronized List<String> getClaimProtectProviders() {
-        return new ArrayList<>(claimProtectProviders);
+    public List<String> getClaimProtectProviders() {
+        return Collections.unmodifiableList(claimProtectProviders);
     }
 
-    public synchronized void setClaimProtectProviders(List<String> providers) {
+    public void setClaimProtectProviders(List<String> providers) {
+        checkMutable();
         claimProtectProviders.clear();
         claimProtectProviderLookup.clear();
 
@@ -1222,39 +1488,34 @@ public class CometConfig {
         }
 
         boolean changed = false;
+        Map<String, Boolean> updated = new LinkedHashMap<>(protectedZoneRegionOverrides);
 
         for (String regionId : normalizedActive) {
-            if (!protectedZoneRegionOverrides.containsKey(regionId)) {
-                protectedZoneRegionOverrides.put(regionId, protectedZoneDefaultInProtectedRegion);
+            if (!updated.containsKey(regionId)) {
+                updated.put(regionId, protectedZoneDefaultInProtectedRegion);
                 changed = true;
             }
         }
 
-        Set<String> keysToRemove = new LinkedHashSet<>();
-        for (String existing : protectedZoneRegionOverrides.keySet()) {
-            if (!normalizedActive.contains(existing)) {
-                keysToRemove.add(existing);
-            }
-        }
-        if (!keysToRemove.isEmpty()) {
-            for (String removeKey : keysToRemove) {
-                protectedZoneRegionOverrides.remove(removeKey);
-            }
+        if (updated.keySet().retainAll(normalizedActive)) {
             changed = true;
         }
 
         if (changed) {
+            // Swap in a new map so concurrent readers never see a partial update
+            protectedZoneRegionOverrides = frozen ? Collections.unmodifiableMap(updated) : updated;
             save();
         }
 
         return changed;
     }
 
-    public synchronized List<String> getDisabledWorlds() {
-        return new ArrayList<>(disabledWorlds);
+    public List<String> getDisabledWorlds() {
+        return Collections.unmodifiableList(disabledWorlds);
     }
 
-    public synchronized void setDisabledWorlds(List<String> worldNames) {
+    public void setDisabledWorlds(List<String> worldNames) {
+        checkMutable();
         disabledWorlds.clear();
         disabledWorldLookup.clear();
 
@@ -1280,7 +1541,7 @@ public class CometConfig {
         return isRaidEnabledInWorld(world.getName());
     }
 
-    public synchronized boolean isRaidEnabledInWorld(String worldName) {
+    public boolean isRaidEnabledInWorld(String worldName) {
         String normalized = normalizeWorldName(worldName);
         if (normalized == null) {
             return true;
@@ -1323,6 +1584,7 @@ public class CometConfig {
             LOGGER.warning("Cannot add null theme or theme with null ID");
             return;
         }
+        checkMutable();
 
         // If theme has no tiers specified, add all tiers by default
         if (theme.getTiers() == null || theme.getTiers().isEmpty()) {
@@ -1351,6 +1613,7 @@ public class CometConfig {
         if (themeId == null) {
             return;
         }
+        checkMutable();
 
         themes.remove(themeId);
         themeList.removeIf(t -> themeId.equals(t.getId()));
@@ -1362,7 +1625,6 @@ public class CometConfig {
      * Reload configuration from disk (renamed to avoid conflict)
      */
     public static void reloadConfig() {
-        instance = null;
         load();
     }
 
@@ -21,6 +21,9 @@ import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3i;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
 public class CometMarkerProvider implements WorldMapManager.MarkerProvider {
@@ -28,6 +31,15 @@ public class CometMarkerProvider implements WorldMapManager.MarkerProvider {
     private static final Logger LOGGER = Logger.getLogger(CometMarkerProvider.class.getName());
     public static final CometMarkerProvider INSTANCE = new CometMarkerProvider();
 
+    /** Markers last built for a player and the marker-set version they were built from. */
+    private static final class ViewerMarkers {
+        long version = -1;
+        MapMarker[] markers;
+    }
+
+    /** Weakly keyed so entries go away with the player. */
+    private final Map<Player, ViewerMarkers> viewers = Collections.synchronizedMap(new WeakHashMap<>());
+
     private CometMarkerProvider() {
     }
     
@@ -41,76 +53,21 @@ public class CometMarkerProvider implements WorldMapManager.MarkerProvider {
         }
 
         try {
-            java.util.UUID viewingPlayerUUID = viewingPlayer.getUuid();
-            
-            // Get active comets from wave manager
-            java.util.Map<Vector3i, CometWaveManager.CometState> activeComets = 
-                waveManager.getActiveComets();
-            java.util.Map<Vector3i, CometTier> cometTiers = 
-                waveManager.getCometTiers();
-            java.util.Map<Vector3i, java.util.UUID> cometOwners = 
-                waveManager.getCometOwners();
-            
-            if (activeComets == null || activeComets.isEmpty()) {
-                return;  // No logging - this is called constantly
-            }
-            
-            // Iterate through all active comets
-            for (java.util.Map.Entry<Vector3i, CometWaveManager.CometState> entry : activeComets.entrySet()) {
-                Vector3i blockPos = entry.getKey();
-                CometWaveManager.CometState state = entry.getValue();
-                
-                // Check ownership - only show markers for comets owned by this player
-                java.util.UUID ownerUUID = cometOwners != null ? cometOwners.get(blockPos) : null;
-                if (ownerUUID != null && !ownerUUID.equals(viewingPlayerUUID)) {
-                    // This comet belongs to someone else, don't show marker
-                    continue;
+            // Rebuild this player's marker list only when the comet set changed since we last built it.
+            // No logging - this is called constantly
+            ViewerMarkers view = viewers.computeIfAbsent(viewingPlayer, p -> new ViewerMarkers());
+            MapMarker[] markers;
+            synchronized (view) {
+                long version = waveManager.getMarkerVersion();
+                if (view.version != version || view.markers == null) {
+                    view.markers = waveManager.getVisibleMarkers(viewingPlayer.getUuid());
+                    view.version = version;
                 }
-                
-                // Get tier for this comet
-                CometTier tier = cometTiers != null ? cometTiers.get(blockPos) : null;
-                if (tier == null) {
-                    tier = CometTier.UNCOMMON; // Default tier
-                }
-                
-                // Convert block position to world position (center of block)
-                Vector3d markerPos = blockPos.toVector3d();
-                
-                // Create marker ID (unique per comet position)
-                String markerId = "Comet-" + blockPos.x + "," + blockPos.y + "," + blockPos.z;
-                
-                // Create marker name with tier and state info
-                String markerName = "Comet (" + tier.getName() + ")";
-                if (state == CometWaveManager.CometState.WAVE_ACTIVE) {
-                    markerName += " - Active";
-                } else if (state == CometWaveManager.CometState.COMPLETED) {
-                    markerName += " - Completed";
-                }
-                
-                // Determine icon based on tier
-                String iconPath = getIconPathForTier(tier);
-                
-                // Create Transform using PROTOCOL classes (like MapTrail does!)
-                Position position = new Position(markerPos.x, markerPos.y, markerPos.z);
-                Direction direction = new Direction();  // Zero rotation
-                Transform transform = new Transform(position, direction);
-                
-                // Create FormattedMessage for the marker name
-                FormattedMessage nameMsg = new FormattedMessage();
-                nameMsg.rawText = markerName;
-
-                // Create the MapMarker
-                MapMarker marker = new MapMarker(
-                    markerId,
-                    nameMsg,
-                    null,       // customName
-                    iconPath,
-                    transform,
-                    null,       // no context menu items
-                    null        // no components
-                );
-
-                // Add marker via collector (handles view distance internally)
+                markers = view.markers;
+            }
+
+            // The collector expects the full visible set on every update; these are cached instances
+            for (MapMarker marker : markers) {
                 collector.add(marker);
             }
         } catch (Exception e) {
@@ -119,7 +76,46 @@ public class CometMarkerProvider implements WorldMapManager.MarkerProvider {
         }
     }
 
-    private String getIconPathForTier(CometTier tier) {
+    /**
+     * Build the map marker for a comet. Called only when a comet's tier or state changes;
+     * the result is cached and shared by every viewer.
+     */
+    public static MapMarker buildMarker(Vector3i blockPos, CometTier tier, CometWaveManager.CometState state) {
+        // Convert block position to world position (center of block)
+        Vector3d markerPos = blockPos.toVector3d();
+
+        // Create marker ID (unique per comet position)
+        String markerId = "Comet-" + blockPos.x + "," + blockPos.y + "," + blockPos.z;
+
+        // Create marker name with tier and state info
+        String markerName = "Comet (" + tier.getName() + ")";
+        if (state == CometWaveManager.CometState.WAVE_ACTIVE) {
+            markerName += " - Active";
+        } else if (state == CometWaveManager.CometState.COMPLETED) {
+            markerName += " - Completed";
+        }
+
+        // Create Transform using PROTOCOL classes (like MapTrail does!)
+        Position position = new Position(markerPos.x, markerPos.y, markerPos.z);
+        Direction direction = new Direction();  // Zero rotation
+        Transform transform = new Transform(position, direction);
+
+        // Create FormattedMessage for the marker name
+        FormattedMessage nameMsg = new FormattedMessage();
+        nameMsg.rawText = markerName;
+
+        return new MapMarker(
+            markerId,
+            nameMsg,
+            null,       // customName
+            getIconPathForTier(tier),
+            transform,
+            null,       // no context menu items
+            null        // no components
+        );
+    }
+
+    private static String getIconPathForTier(CometTier tier) {
         switch (tier) {
             case UNCOMMON:
                 return "Comet_Stone_Uncommon.png";
@@ -1,13 +1,19 @@
 package com.cometmod;
 
 import com.cometmod.commands.*;
+import com.cometmod.components.CometWaveMob;
+import com.cometmod.integration.ClaimProtectionGuard;
 import com.cometmod.loot.*;
 import com.cometmod.services.*;
 import com.cometmod.spawn.*;
 import com.cometmod.systems.*;
+import com.cometmod.util.CometLog;
 import com.cometmod.wave.*;
 
 
+import com.hypixel.hytale.assetstore.event.LoadedAssetsEvent;
+import com.hypixel.hytale.assetstore.event.RemovedAssetsEvent;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.event.events.entity.EntityRemoveEvent;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
@@ -112,6 +118,10 @@ public class CometModPlugin extends JavaPlugin {
         getCodecRegistry(Interaction.CODEC).register("Comet_OpenRewardChest",
                 CometOpenRewardChestInteraction.class, CometOpenRewardChestInteraction.CODEC);
 
+        // Transient marker for wave NPCs (no codec, so it is never saved with the entity)
+        CometWaveMob.setComponentType(
+                getEntityStoreRegistry().registerComponent(CometWaveMob.class, CometWaveMob::new));
+
         getEventRegistry().registerGlobal(EntityRemoveEvent.class, this::onEntityRemove);
 
         com.hypixel.hytale.server.core.command.system.CommandManager.get().registerSystemCommand(new CometCommand());
@@ -177,6 +187,14 @@ public class CometModPlugin extends JavaPlugin {
                     }
                 });
 
+        // Block materials can change on an asset (re)load; ground solidity and cached heights follow them
+        getEventRegistry().register(LoadedAssetsEvent.class, BlockType.class, event -> onBlockTypesChanged());
+        getEventRegistry().register(RemovedAssetsEvent.class, BlockType.class, event -> onBlockTypesChanged());
+
+        getEventRegistry().registerGlobal(
+                com.hypixel.hytale.server.core.universe.world.events.RemoveWorldEvent.class,
+                event -> onWorldRemoved(event.getWorld()));
+
     }
 
     @Override
@@ -244,10 +262,17 @@ public class CometModPlugin extends JavaPlugin {
             LOGGER.warning("Failed to register CometWaveLootBlockerSystem: " + e.getMessage());
         }
 
+        try {
+            getEntityStoreRegistry().registerSystem(new CometColumnInvalidationSystems.OnBreak());
+            getEntityStoreRegistry().registerSystem(new CometColumnInvalidationSystems.OnPlace());
+        } catch (Exception e) {
+            LOGGER.warning("Failed to register CometColumnInvalidationSystems: " + e.getMessage());
+        }
+
         this.fallingSystem = null;
 
         CometConfig config = CometConfig.load();
-        CometFallingSystem.setDespawnTimeMinutes(config.despawnTimeMinutes);
+        CometFallingSystem.setDespawnTimeMinutes(config.getDespawnTimeMinutes());
 
         this.spawnTask = null;
         this.config = config;
@@ -299,7 +324,20 @@ public class CometModPlugin extends JavaPlugin {
         if (spawnTask != null) spawnTask.stop();
         if (fixedSpawnManager != null) fixedSpawnManager.stop();
         CometLootChestService.getInstance().clear();
+        ColumnHeightCache.clearAll();
         waveManager.cleanup();
+        CometLog.shutdown();
+    }
+
+    /** Drop per-world caches so a removed world and its chunk data are not retained. */
+    private void onWorldRemoved(com.hypixel.hytale.server.core.universe.world.World world) {
+        ColumnHeightCache.removeWorld(world);
+        ClaimProtectionGuard.removeWorld(world);
+    }
+
+    private void onBlockTypesChanged() {
+        BlockSolidityTable.invalidate();
+        ColumnHeightCache.clearAll();
     }
 
     private void onEntityRemove(EntityRemoveEvent event) {
@@ -315,9 +353,10 @@ public class CometModPlugin extends JavaPlugin {
 
                     if (uuidComponent != null) {
                         java.util.UUID entityUUID = uuidComponent.getUuid();
-                        com.hypixel.hytale.math.vector.Vector3i targetPos = this.fallingSystem.getTrackedTarget(entityUUID);
+                        // Claim the projectile atomically so the scheduled fallback cannot land it too
+                        CometFallingSystem.TrackedProjectile projectile = this.fallingSystem.removeTrackedProjectile(entityUUID);
 
-                        if (targetPos != null) {
+                        if (projectile != null) {
                             com.hypixel.hytale.server.core.modules.entity.component.TransformComponent transform = store
                                     .getComponent(entityRef,
                                             com.hypixel.hytale.server.core.modules.entity.component.TransformComponent.getComponentType());
@@ -336,22 +375,11 @@ public class CometModPlugin extends JavaPlugin {
                                     int blockY = (solidGroundY != -1) ? solidGroundY + 1 : landingBlockY + 1;
 
                                     com.hypixel.hytale.math.vector.Vector3i actualBlockPos = new com.hypixel.hytale.math.vector.Vector3i(blockX, blockY, blockZ);
-                                    CometTier tier = this.fallingSystem.getProjectileTier(entityUUID);
-                                    String themeId = this.fallingSystem.getProjectileThemeId(entityUUID);
-                                    java.util.UUID ownerUUID = this.fallingSystem.getProjectileOwner(entityUUID);
-                                    int zoneId = this.fallingSystem.getProjectileZone(entityUUID);
-                                    this.fallingSystem.spawnCometBlock(world, actualBlockPos, store, tier, themeId, ownerUUID, zoneId);
-                                    this.fallingSystem.removeTrackedProjectile(entityUUID);
+                                    this.fallingSystem.landProjectile(world, store, projectile, actualBlockPos);
                                 });
                             } else if (world != null) {
-                                CometTier tier = this.fallingSystem.getProjectileTier(entityUUID);
-                                String themeId = this.fallingSystem.getProjectileThemeId(entityUUID);
-                                java.util.UUID ownerUUID = this.fallingSystem.getProjectileOwner(entityUUID);
-                                int zoneId = this.fallingSystem.getProjectileZone(entityUUID);
-                                world.execute(() -> {
-                                    this.fallingSystem.spawnCometBlock(world, targetPos, store, tier, themeId, ownerUUID, zoneId);
-                                    this.fallingSystem.removeTrackedProjectile(entityUUID);
-                                });
+                                world.execute(() -> this.fallingSystem.landProjectile(world, store, projectile,
+                                        projectile.getTarget()));
                             }
                             return;
                         }
@@ -5,6 +5,7 @@ import com.cometmod.commands.*;
 import com.cometmod.services.*;
 import com.cometmod.spawn.*;
 import com.cometmod.systems.*;
+import com.cometmod.util.CometLog;
 import com.cometmod.wave.*;
 
 
@@ -20,6 +21,7 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.math.vector.Vector3i;
 
 import javax.annotation.Nonnull;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class CometStoneActivateInteraction extends SimpleInstantInteraction {
@@ -65,8 +67,8 @@ public class CometStoneActivateInteraction extends SimpleInstantInteraction {
         commandBuffer.run(store -> {
             try {
                 CometWaveManager.CometState state = waveManager.getCometState(blockPos);
-                if (CometConfig.DEBUG) {
-                    LOGGER.info("[CometDebug] CometStoneActivateInteraction at " + blockPos + " state=" + state);
+                if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+                    CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] CometStoneActivateInteraction at " + blockPos + " state=" + state);
                 }
                 if (state != CometWaveManager.CometState.COMPLETED) {
                     waveManager.handleCometActivation(store, playerRef, blockPos);
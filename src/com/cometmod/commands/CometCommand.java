@@ -26,5 +26,6 @@ public class CometCommand extends AbstractCommandCollection {
         addSubCommand(new CometScheduleSpawnCommand());
         addSubCommand(new CometRemoveSpawnCommand());
         addSubCommand(new CometListSpawnsCommand());
+        addSubCommand(new CometStatsCommand());
     }
 }
@@ -19,4 +19,5 @@ public final class CometPermissions {
     public static final String SCHEDULE_SPAWN = HytalePermissions.fromCommand("comet.schedulespawn");
     public static final String REMOVE_SPAWN = HytalePermissions.fromCommand("comet.removespawn");
     public static final String LIST_SPAWNS = HytalePermissions.fromCommand("comet.listspawns");
+    public static final String STATS = HytalePermissions.fromCommand("comet.stats");
 }
@@ -2,6 +2,7 @@ package com.cometmod.commands;
 
 import com.cometmod.*;
 import com.cometmod.commands.*;
+import com.cometmod.config.parser.JsonParseException;
 import com.cometmod.integration.ClaimProtectionGuard;
 import com.cometmod.services.*;
 import com.cometmod.spawn.*;
@@ -51,7 +52,7 @@ public class CometReloadCommand extends AbstractWorldCommand {
             }
 
             // Apply despawn time
-            CometFallingSystem.setDespawnTimeMinutes(config.despawnTimeMinutes);
+            CometFallingSystem.setDespawnTimeMinutes(config.getDespawnTimeMinutes());
 
             // Reload fixed spawn points
             FixedSpawnManager fixedSpawnManager = CometModPlugin.getFixedSpawnManager();
@@ -65,12 +66,12 @@ public class CometReloadCommand extends AbstractWorldCommand {
             StringBuilder sb = new StringBuilder();
             sb.append("Configuration reloaded!\n");
             sb.append("Spawn Settings:\n");
-            sb.append("  - Delay: ").append(config.minDelaySeconds).append("-").append(config.maxDelaySeconds)
+            sb.append("  - Delay: ").append(config.getMinDelaySeconds()).append("-").append(config.getMaxDelaySeconds())
                     .append("s\n");
-            sb.append("  - Chance: ").append((int) (config.spawnChance * 100)).append("%\n");
-            sb.append("  - Distance: ").append(config.minSpawnDistance).append("-").append(config.maxSpawnDistance)
+            sb.append("  - Chance: ").append((int) (config.getSpawnChance() * 100)).append("%\n");
+            sb.append("  - Distance: ").append(config.getMinSpawnDistance()).append("-").append(config.getMaxSpawnDistance())
                     .append(" blocks\n");
-            sb.append("  - Despawn: ").append(config.despawnTimeMinutes).append(" min\n");
+            sb.append("  - Despawn: ").append(config.getDespawnTimeMinutes()).append(" min\n");
             List<String> activeClaimProviders = ClaimProtectionGuard.getResolvedProviderKeys(config);
             sb.append("Claim Protect: enabled=").append(config.isClaimProtectEnabled())
                     .append(", autoDetect=").append(config.isClaimProtectAutoDetectProviders())
@@ -87,6 +88,10 @@ public class CometReloadCommand extends AbstractWorldCommand {
             context.sendMessage(Message.raw(sb.toString()));
             LOGGER.info("Configuration reloaded via command");
 
+        } catch (JsonParseException e) {
+            context.sendMessage(Message.raw("Config not reloaded, syntax error: " + e.getMessage()
+                    + "\nThe current configuration is still active. Fix the file and run /comet reload again."));
+            LOGGER.warning("Config reload rejected, syntax error: " + e.getMessage());
         } catch (Exception e) {
             context.sendMessage(Message.raw("Error reloading config: " + e.getMessage()));
             LOGGER.severe("Error reloading config: " + e.getMessage());
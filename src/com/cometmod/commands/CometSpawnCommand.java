@@ -115,7 +115,7 @@ public class CometSpawnCommand extends AbstractWorldCommand {
                                 String.join(", ", waveManager.getThemeNames())));
                         return;
                     }
-                    themeNameStr = WaveThemeProvider.getThemeName(themeId);
+                    themeNameStr = WaveThemeProvider.getThemeName(CometConfig.getInstance(), themeId);
                 }
             }
         }
@@ -262,8 +262,8 @@ public class CometSpawnCommand extends AbstractWorldCommand {
                                 direction);
 
                 if (projectileRef != null) {
-                    fallingSystem.trackProjectile(projectileUUID, targetBlockPos, spawnPos.y, finalTier, themeId,
-                            ownerUUID, zoneId);
+                    fallingSystem.trackProjectile(projectileUUID, projectileRef, targetBlockPos, spawnPos.y,
+                            finalTier, themeId, ownerUUID, zoneId);
                 } else {
                     spawnCometBlockDirectly(world, targetBlockPos, store, finalTier, themeId, ownerUUID, zoneId);
                 }
@@ -333,42 +333,10 @@ public class CometSpawnCommand extends AbstractWorldCommand {
     }
 
     private int findGroundLevel(World world, int x, int z, int startY) {
-        int searchStartY = 255;
         int minY = Math.max(0, startY - 150);
-
-        long chunkIndex = com.hypixel.hytale.math.util.ChunkUtil.indexChunkFromBlock(x, z);
-        com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk chunk = world.getChunkIfInMemory(chunkIndex);
-
-        for (int y = searchStartY; y >= minY; y--) {
-            try {
-                com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType blockType = null;
-
-                if (chunk != null) {
-                    blockType = chunk.getBlockType(x, y, z);
-                } else {
-                    blockType = world.getBlockType(x, y, z);
-                }
-
-                if (blockType != null) {
-                    int blockId = com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType.getAssetMap()
-                            .getIndex(blockType.getId());
-
-                    if (blockId != 0) {
-                        Object material = blockType.getMaterial();
-                        if (material != null) {
-                            String materialStr = material.toString();
-                            if (materialStr.equals("Solid") || materialStr.equals("Opaque")) {
-                                return y;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                // Continue searching
-            }
-        }
-
-        return -1;
+        // Topmost solid block from y=255 down, answered from the column cache after the first scan
+        int top = ColumnHeightCache.forWorld(world).getTopSolidY(world, x, z);
+        return top >= minY ? top : -1;
     }
 
     private void spawnCometBlockDirectly(World world, Vector3i blockPos, Store<EntityStore> store, CometTier tier,
@@ -0,0 +1,47 @@
+package com.cometmod.commands;
+
+import com.cometmod.*;
+import com.cometmod.commands.*;
+import com.cometmod.services.*;
+import com.cometmod.spawn.*;
+import com.cometmod.systems.*;
+import com.cometmod.wave.*;
+
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractWorldCommand;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Read-only runtime counters: active waves and the wave dispatch queue depths.
+ * Usage: /comet stats
+ */
+public class CometStatsCommand extends AbstractWorldCommand {
+
+    public CometStatsCommand() {
+        super("stats", "Shows active waves and wave dispatch queue depths");
+        requirePermission(CometPermissions.STATS);
+    }
+
+    @Override
+    protected void execute(@Nonnull CommandContext context, @Nonnull World world, @Nonnull Store<EntityStore> store) {
+        CometWaveManager waveManager = CometModPlugin.getWaveManager();
+        if (waveManager == null) {
+            context.sendMessage(Message.raw("Wave manager is not initialized."));
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Comet Stats:\n");
+        sb.append("  - Active waves: ").append(waveManager.getActiveWaveCount()).append("\n");
+        sb.append("  - Wave dispatch (last tick): ").append(waveManager.getLastWaveDispatchDepth()).append("\n");
+        sb.append("  - Wave dispatch (max): ").append(waveManager.getMaxWaveDispatchDepth()).append("\n");
+        sb.append("  - Wave dispatch (pending): ").append(waveManager.getPendingWaveDispatchDepth());
+        context.sendMessage(Message.raw(sb.toString()));
+    }
+}
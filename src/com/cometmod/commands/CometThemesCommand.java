@@ -1,5 +1,6 @@
 package com.cometmod.commands;
 
+import com.cometmod.CometConfig;
 import com.cometmod.loot.RewardContainerTheme;
 import com.cometmod.wave.WaveThemeProvider;
 
@@ -30,7 +31,8 @@ public class CometThemesCommand extends AbstractWorldCommand {
             @Nonnull World world,
             @Nonnull Store<EntityStore> store) {
 
-        String[] themeIds = WaveThemeProvider.getAllThemeIds();
+        CometConfig config = CometConfig.getInstance();
+        String[] themeIds = WaveThemeProvider.getAllThemeIds(config);
         if (themeIds == null || themeIds.length == 0) {
             context.sendMessage(Message.raw("No themes configured. Add themes in themes.json."));
             return;
@@ -39,7 +41,7 @@ public class CometThemesCommand extends AbstractWorldCommand {
         List<String> lines = new ArrayList<>();
         lines.add("Available themes (use with /comet spawn --theme <name>). Theme affects which mobs spawn:");
         for (String themeId : themeIds) {
-            String displayName = WaveThemeProvider.getThemeName(themeId);
+            String displayName = WaveThemeProvider.getThemeName(config, themeId);
             String cometReplacement = cometReplacementLabel(themeId);
             lines.add("  " + displayName + " (" + themeId + ") — " + cometReplacement);
         }
@@ -0,0 +1,97 @@
+package com.cometmod.components;
+
+import com.cometmod.util.BlockPosKey;
+import com.cometmod.wave.CometTier;
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Marks an NPC spawned by a comet wave and carries its wave key (packed comet block position),
+ * tier and stat multipliers. Registered without a codec, so it is never persisted: an entity that
+ * unloads simply loses it, and nothing is left behind in global maps.
+ */
+public class CometWaveMob implements Component<EntityStore> {
+
+    private static ComponentType<EntityStore, CometWaveMob> componentType;
+
+    private long waveKey;
+    private CometTier tier = CometTier.UNCOMMON;
+    private float hpMultiplier = 1.0f;
+    private float damageMultiplier = 1.0f;
+    private float scaleMultiplier = 1.0f;
+    private float speedMultiplier = 1.0f;
+    private boolean modifiersApplied;
+
+    public CometWaveMob() {
+    }
+
+    public CometWaveMob(Vector3i waveBlockPos, CometTier tier, float hpMultiplier, float damageMultiplier,
+            float scaleMultiplier, float speedMultiplier) {
+        this.waveKey = BlockPosKey.pack(waveBlockPos);
+        this.tier = tier != null ? tier : CometTier.UNCOMMON;
+        this.hpMultiplier = hpMultiplier;
+        this.damageMultiplier = damageMultiplier;
+        this.scaleMultiplier = scaleMultiplier;
+        this.speedMultiplier = speedMultiplier;
+    }
+
+    public static ComponentType<EntityStore, CometWaveMob> getComponentType() {
+        return componentType;
+    }
+
+    public static void setComponentType(ComponentType<EntityStore, CometWaveMob> type) {
+        componentType = type;
+    }
+
+    /** Packed block position of the comet whose wave spawned this mob (see BlockPosKey). */
+    public long getWaveKey() {
+        return waveKey;
+    }
+
+    public Vector3i getWaveBlockPos() {
+        return BlockPosKey.unpack(waveKey);
+    }
+
+    public CometTier getTier() {
+        return tier;
+    }
+
+    public float getHpMultiplier() {
+        return hpMultiplier;
+    }
+
+    public float getDamageMultiplier() {
+        return damageMultiplier;
+    }
+
+    public float getScaleMultiplier() {
+        return scaleMultiplier;
+    }
+
+    public float getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+
+    public boolean isModifiersApplied() {
+        return modifiersApplied;
+    }
+
+    public void setModifiersApplied(boolean modifiersApplied) {
+        this.modifiersApplied = modifiersApplied;
+    }
+
+    @Override
+    public Component<EntityStore> clone() {
+        CometWaveMob copy = new CometWaveMob();
+        copy.waveKey = waveKey;
+        copy.tier = tier;
+        copy.hpMultiplier = hpMultiplier;
+        copy.damageMultiplier = damageMultiplier;
+        copy.scaleMultiplier = scaleMultiplier;
+        copy.speedMultiplier = speedMultiplier;
+        copy.modifiersApplied = modifiersApplied;
+        return copy;
+    }
+}
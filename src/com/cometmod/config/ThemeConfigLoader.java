@@ -4,6 +4,9 @@ import com.cometmod.CometConfig;
 import com.cometmod.config.defaults.DefaultThemes;
 import com.cometmod.config.model.ThemeConfig;
 import com.cometmod.config.model.TierStatScalingConfig;
+import com.cometmod.config.parser.JsonObject;
+import com.cometmod.config.parser.JsonParseException;
+import com.cometmod.config.parser.JsonReader;
 import com.cometmod.config.parser.ThemeConfigParser;
 import com.cometmod.config.parser.ThemeConfigWriter;
 
@@ -13,8 +16,6 @@ import java.util.ArrayList;
 import java.util.Map;
 import java.util.logging.Logger;
 
-import static com.cometmod.config.parser.ConfigJson.extractJsonObject;
-
 /**
  * Loads and saves themes.json. Split from CometConfig so theme config evolution is in one place.
  */
@@ -34,6 +35,8 @@ public final class ThemeConfigLoader {
 
     /**
      * Load themes from themes.json (and legacy file if present).
+     *
+     * @throws JsonParseException when themes.json has a syntax error; the file is left as is
      */
     public static void loadThemes(CometConfig config, File baseConfigFile) {
         if (config == null) return;
@@ -44,11 +47,12 @@ public final class ThemeConfigLoader {
             if (legacyThemesFile.exists() && legacyThemesFile.isFile()) {
                 try {
                     String themesContent = new String(java.nio.file.Files.readAllBytes(legacyThemesFile.toPath()));
-                    Map<String, ThemeConfig> fromLegacy = ThemeConfigParser.parseThemes(themesContent);
+                    JsonObject themesRoot = JsonReader.parseObject(themesContent);
+                    Map<String, ThemeConfig> fromLegacy = ThemeConfigParser.parseThemes(themesRoot);
                     if (!fromLegacy.isEmpty()) {
                         config.setThemes(fromLegacy);
                         config.setThemeList(new ArrayList<>(config.getThemes().values()));
-                        config.setTierStatScaling(ThemeConfigParser.parseTierStatScaling(themesContent));
+                        config.setTierStatScaling(ThemeConfigParser.parseTierStatScaling(themesRoot));
                         config.setThemesLoaded(true);
                     }
                     saveThemes(config, themesFile);
@@ -65,8 +69,9 @@ public final class ThemeConfigLoader {
         }
         try {
             String themesJson = new String(java.nio.file.Files.readAllBytes(themesFile.toPath()));
-            String themesBlock = extractJsonObject(themesJson, "themes");
-            if (themesBlock == null || themesBlock.isBlank()) {
+            JsonObject themesRoot = JsonReader.parseObject(themesJson);
+            JsonObject themesBlock = themesRoot.getObject("themes");
+            if (themesBlock == null) {
                 LOGGER.warning("Themes file is missing top-level 'themes' object: " + themesFile.getAbsolutePath() + " — loading default themes and repairing file.");
                 Map<String, ThemeConfig> defaultThemes = DefaultThemes.generateDefaults();
                 config.setThemes(defaultThemes);
@@ -77,7 +82,7 @@ public final class ThemeConfigLoader {
                 LOGGER.info("Repaired themes.json with " + defaultThemes.size() + " default themes.");
                 return;
             }
-            Map<String, ThemeConfig> externalThemes = ThemeConfigParser.parseThemes(themesJson);
+            Map<String, ThemeConfig> externalThemes = ThemeConfigParser.parseThemes(themesRoot);
             if (externalThemes.isEmpty()) {
                 LOGGER.warning("Themes file has no parsed themes — loading default themes and repairing file.");
                 Map<String, ThemeConfig> defaultThemes = DefaultThemes.generateDefaults();
@@ -92,13 +97,16 @@ public final class ThemeConfigLoader {
             config.setThemes(externalThemes);
             config.setThemeList(new ArrayList<>(externalThemes.values()));
             config.setThemesLoaded(true);
-            TierStatScalingConfig fromFile = ThemeConfigParser.parseTierStatScaling(themesJson);
+            TierStatScalingConfig fromFile = ThemeConfigParser.parseTierStatScaling(themesRoot);
             if (fromFile != null) config.setTierStatScaling(fromFile);
             LOGGER.info("Loaded themes from: " + themesFile.getAbsolutePath() + " (" + externalThemes.size() + " themes)");
             for (Map.Entry<String, ThemeConfig> e : externalThemes.entrySet()) {
                 String sb = e.getValue().getSpawnBlock();
                 LOGGER.info("  Theme '" + e.getKey() + "' spawnBlock=" + (sb != null ? "'" + sb + "'" : "null"));
             }
+        } catch (JsonParseException e) {
+            LOGGER.warning("Syntax error in themes file '" + themesFile.getAbsolutePath() + "': " + e.getMessage());
+            throw e;
         } catch (Exception e) {
             LOGGER.warning("Failed to load themes file '" + themesFile.getAbsolutePath() + "': " + e.getMessage());
         }
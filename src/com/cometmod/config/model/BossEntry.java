@@ -10,6 +10,9 @@ public class BossEntry {
     // tier -> {hp, damage, scale, speed}
     private java.util.Map<Integer, float[]> multipliers = new java.util.HashMap<>();
 
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     public BossEntry() {
         this.id = "";
     }
@@ -33,17 +36,35 @@ public class BossEntry {
 
     // Setters
     public void setId(String id) {
+        checkMutable();
         this.id = id;
     }
 
     public void setMultipliers(java.util.Map<Integer, float[]> multipliers) {
+        checkMutable();
         this.multipliers = multipliers;
     }
 
     public void addMultiplier(int tier, float hp, float damage, float scale, float speed) {
+        checkMutable();
         this.multipliers.put(tier, new float[] { hp, damage, scale, speed });
     }
 
+    /**
+     * Make this entry read-only; called when the owning CometConfig is published.
+     */
+    public void freeze() {
+        if (frozen) return;
+        multipliers = java.util.Collections.unmodifiableMap(new java.util.HashMap<>(multipliers));
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("BossEntry belongs to a published CometConfig and is read-only");
+        }
+    }
+
     @Override
     public String toString() {
         return "BossEntry{id='" + id + "', multipliers=" + multipliers.size() + "}";
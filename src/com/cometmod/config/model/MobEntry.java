@@ -13,6 +13,9 @@ public class MobEntry {
     // tier -> {hp, damage, scale, speed}
     private java.util.Map<Integer, float[]> multipliers = new java.util.HashMap<>();
 
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     public MobEntry() {
         this.id = "";
         this.count = 1;
@@ -60,25 +63,48 @@ public class MobEntry {
 
     // Setters
     public void setId(String id) {
+        checkMutable();
         this.id = id;
     }
 
     public void setCount(int count) {
+        checkMutable();
         this.count = Math.max(1, count);
     }
 
     public void setTierCounts(java.util.Map<Integer, Integer> tierCounts) {
+        checkMutable();
         this.tierCounts = tierCounts;
     }
 
     public void setMultipliers(java.util.Map<Integer, float[]> multipliers) {
+        checkMutable();
         this.multipliers = multipliers;
     }
 
     public void addMultiplier(int tier, float hp, float damage, float scale, float speed) {
+        checkMutable();
         this.multipliers.put(tier, new float[] { hp, damage, scale, speed });
     }
 
+    /**
+     * Make this entry read-only; called when the owning CometConfig is published.
+     */
+    public void freeze() {
+        if (frozen) return;
+        if (tierCounts != null) {
+            tierCounts = java.util.Collections.unmodifiableMap(new java.util.HashMap<>(tierCounts));
+        }
+        multipliers = java.util.Collections.unmodifiableMap(new java.util.HashMap<>(multipliers));
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("MobEntry belongs to a published CometConfig and is read-only");
+        }
+    }
+
     @Override
     public String toString() {
         String countStr = tierCounts != null ? "tierCounts=" + tierCounts : "count=" + count;
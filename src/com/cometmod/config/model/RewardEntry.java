@@ -7,11 +7,19 @@ package com.cometmod.config.model;
  */
 public class RewardEntry {
 
+    private static final long ALWAYS = Long.MAX_VALUE;
+    private static final double UNIT = 1L << 53;
+
     private String id;
     private int minCount;
     private int maxCount;
     private double chance; // 0 to 100 (percentage), defaults to 100 (always drops)
     private String displayName;
+    // chance as a cutoff on a 53-bit random integer, so shouldDrop is one draw and a compare
+    private long dropThreshold;
+
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
 
     public RewardEntry() {
         this.id = "";
@@ -19,6 +27,7 @@ public class RewardEntry {
         this.maxCount = 1;
         this.chance = 100.0; // 100% by default
         this.displayName = "";
+        this.dropThreshold = toThreshold(chance);
     }
 
     public RewardEntry(String id, int minCount, int maxCount, String displayName) {
@@ -27,6 +36,7 @@ public class RewardEntry {
         this.maxCount = maxCount;
         this.chance = 100.0; // 100% by default
         this.displayName = displayName;
+        this.dropThreshold = toThreshold(chance);
     }
 
     public RewardEntry(String id, int minCount, int maxCount, double chance, String displayName) {
@@ -35,6 +45,7 @@ public class RewardEntry {
         this.maxCount = maxCount;
         this.chance = chance; // Now expects 0-100
         this.displayName = displayName;
+        this.dropThreshold = toThreshold(chance);
     }
 
     // Getters
@@ -60,22 +71,28 @@ public class RewardEntry {
 
     // Setters
     public void setId(String id) {
+        checkMutable();
         this.id = id;
     }
 
     public void setMinCount(int minCount) {
+        checkMutable();
         this.minCount = Math.max(1, minCount);
     }
 
     public void setMaxCount(int maxCount) {
+        checkMutable();
         this.maxCount = Math.max(this.minCount, maxCount);
     }
 
     public void setChance(double chance) {
+        checkMutable();
         this.chance = Math.max(0.0, Math.min(100.0, chance));
+        this.dropThreshold = toThreshold(this.chance);
     }
 
     public void setDisplayName(String displayName) {
+        checkMutable();
         this.displayName = displayName;
     }
 
@@ -93,13 +110,23 @@ public class RewardEntry {
      * Check if this reward should drop based on its chance (percentage 0-100)
      */
     public boolean shouldDrop(java.util.Random random) {
-        if (chance >= 100.0) {
+        if (dropThreshold == ALWAYS) {
             return true;
         }
-        if (chance <= 0.0) {
+        if (dropThreshold == 0L) {
             return false;
         }
-        return (random.nextDouble() * 100.0) < chance;
+        return (random.nextLong() >>> 11) < dropThreshold;
+    }
+
+    private static long toThreshold(double chance) {
+        if (chance >= 100.0) {
+            return ALWAYS;
+        }
+        if (!(chance > 0.0)) {
+            return 0L;
+        }
+        return (long) Math.ceil(chance / 100.0 * UNIT);
     }
 
     /**
@@ -112,6 +139,19 @@ public class RewardEntry {
         return String.format("%.0f%%", chance);
     }
 
+    /**
+     * Make this entry read-only; called when the owning CometConfig is published.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("RewardEntry belongs to a published CometConfig and is read-only");
+        }
+    }
+
     @Override
     public String toString() {
         return "RewardEntry{id='" + id + "', count=" + minCount + "-" + maxCount +
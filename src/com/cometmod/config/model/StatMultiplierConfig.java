@@ -1,5 +1,7 @@
 package com.cometmod.config.model;
 
+import com.cometmod.config.parser.JsonObject;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -67,7 +69,7 @@ public class StatMultiplierConfig {
     }
 
     /**
-     * Parse multipliers from JSON object string
+     * Parse multipliers from a parsed theme object
      * Expected format:
      * {
      * "statMultipliers": {
@@ -80,71 +82,34 @@ public class StatMultiplierConfig {
      * }
      * }
      */
-    public static StatMultiplierConfig parseFromThemeJson(String themeId, String json) {
+    public static StatMultiplierConfig parseFromThemeJson(String themeId, JsonObject json) {
         StatMultiplierConfig config = new StatMultiplierConfig();
 
         try {
             // Find "statMultipliers" section
-            int statMultStart = json.indexOf("\"statMultipliers\"");
-            if (statMultStart < 0) {
+            JsonObject statMultJson = json.getObject("statMultipliers");
+            if (statMultJson == null) {
                 return config; // No multipliers configured
             }
 
-            // Find the opening brace for statMultipliers
-            int openBrace = json.indexOf("{", statMultStart);
-            if (openBrace < 0)
-                return config;
-
-            // Find matching closing brace
-            int closeBrace = findMatchingBrace(json, openBrace);
-            if (closeBrace < 0)
-                return config;
-
-            String statMultJson = json.substring(openBrace + 1, closeBrace);
-
             // Parse each tier
             for (int tier = 1; tier <= 5; tier++) {
-                String tierKey = "\"" + tier + "\"";
-                int tierStart = statMultJson.indexOf(tierKey);
-                if (tierStart < 0)
-                    continue;
-
-                int tierOpenBrace = statMultJson.indexOf("{", tierStart);
-                if (tierOpenBrace < 0)
-                    continue;
-
-                int tierCloseBrace = findMatchingBrace(statMultJson, tierOpenBrace);
-                if (tierCloseBrace < 0)
+                JsonObject tierJson = statMultJson.getObject(String.valueOf(tier));
+                if (tierJson == null)
                     continue;
 
-                String tierJson = statMultJson.substring(tierOpenBrace + 1, tierCloseBrace);
-
                 TierMultipliers tierMults = new TierMultipliers();
 
                 // Parse boss multipliers
-                int bossStart = tierJson.indexOf("\"boss\"");
-                if (bossStart >= 0) {
-                    int bossOpenBrace = tierJson.indexOf("{", bossStart);
-                    if (bossOpenBrace >= 0) {
-                        int bossCloseBrace = findMatchingBrace(tierJson, bossOpenBrace);
-                        if (bossCloseBrace >= 0) {
-                            String bossJson = tierJson.substring(bossOpenBrace + 1, bossCloseBrace);
-                            tierMults.bossMultipliers = parseMobMultipliers(bossJson);
-                        }
-                    }
+                JsonObject bossJson = tierJson.getObject("boss");
+                if (bossJson != null) {
+                    tierMults.bossMultipliers = parseMobMultipliers(bossJson);
                 }
 
                 // Parse per-mob multipliers
-                int mobsStart = tierJson.indexOf("\"mobs\"");
-                if (mobsStart >= 0) {
-                    int mobsOpenBrace = tierJson.indexOf("{", mobsStart);
-                    if (mobsOpenBrace >= 0) {
-                        int mobsCloseBrace = findMatchingBrace(tierJson, mobsOpenBrace);
-                        if (mobsCloseBrace >= 0) {
-                            String mobsJson = tierJson.substring(mobsOpenBrace + 1, mobsCloseBrace);
-                            tierMults.mobMultipliers = parseMobsSection(mobsJson);
-                        }
-                    }
+                JsonObject mobsJson = tierJson.getObject("mobs");
+                if (mobsJson != null) {
+                    tierMults.mobMultipliers = parseMobsSection(mobsJson);
                 }
 
                 if (tierMults.bossMultipliers != null || tierMults.mobMultipliers != null) {
@@ -161,7 +126,7 @@ public class StatMultiplierConfig {
         return config;
     }
 
-    private static MobMultipliers parseMobMultipliers(String json) {
+    private static MobMultipliers parseMobMultipliers(JsonObject json) {
         MobMultipliers mults = new MobMultipliers();
 
         mults.hp = parseFloatValue(json, "hp", 1.0f);
@@ -171,85 +136,22 @@ public class StatMultiplierConfig {
         return mults;
     }
 
-    private static Map<String, MobMultipliers> parseMobsSection(String json) {
+    private static Map<String, MobMultipliers> parseMobsSection(JsonObject json) {
         Map<String, MobMultipliers> result = new HashMap<>();
 
-        // Find each mob entry: "MobName": { ... }
-        int pos = 0;
-        while (pos < json.length()) {
-            int quoteStart = json.indexOf("\"", pos);
-            if (quoteStart < 0)
-                break;
-
-            int quoteEnd = json.indexOf("\"", quoteStart + 1);
-            if (quoteEnd < 0)
-                break;
-
-            String mobName = json.substring(quoteStart + 1, quoteEnd);
-
-            int openBrace = json.indexOf("{", quoteEnd);
-            if (openBrace < 0)
-                break;
-
-            int closeBrace = findMatchingBrace(json, openBrace);
-            if (closeBrace < 0)
-                break;
-
-            String mobJson = json.substring(openBrace + 1, closeBrace);
-            result.put(mobName, parseMobMultipliers(mobJson));
-
-            pos = closeBrace + 1;
+        // Each mob entry: "MobName": { ... }
+        for (Map.Entry<String, Object> entry : json.entrySet()) {
+            if (entry.getValue() instanceof JsonObject) {
+                result.put(entry.getKey(), parseMobMultipliers((JsonObject) entry.getValue()));
+            }
         }
 
         return result;
     }
 
-    private static float parseFloatValue(String json, String key, float defaultValue) {
-        try {
-            String searchKey = "\"" + key + "\"";
-            int keyPos = json.indexOf(searchKey);
-            if (keyPos < 0)
-                return defaultValue;
-
-            int colonPos = json.indexOf(":", keyPos);
-            if (colonPos < 0)
-                return defaultValue;
-
-            // Find the value (number)
-            int valueStart = colonPos + 1;
-            while (valueStart < json.length() && Character.isWhitespace(json.charAt(valueStart))) {
-                valueStart++;
-            }
-
-            int valueEnd = valueStart;
-            while (valueEnd < json.length()) {
-                char c = json.charAt(valueEnd);
-                if (c == ',' || c == '}' || c == ']' || Character.isWhitespace(c))
-                    break;
-                valueEnd++;
-            }
-
-            String valueStr = json.substring(valueStart, valueEnd).trim();
-            return Float.parseFloat(valueStr);
-
-        } catch (Exception e) {
-            return defaultValue;
-        }
-    }
-
-    private static int findMatchingBrace(String json, int openPos) {
-        int depth = 1;
-        for (int i = openPos + 1; i < json.length(); i++) {
-            char c = json.charAt(i);
-            if (c == '{')
-                depth++;
-            else if (c == '}') {
-                depth--;
-                if (depth == 0)
-                    return i;
-            }
-        }
-        return -1;
+    private static float parseFloatValue(JsonObject json, String key, float defaultValue) {
+        Double value = json.getDouble(key);
+        return value != null ? value.floatValue() : defaultValue;
     }
 
     /**
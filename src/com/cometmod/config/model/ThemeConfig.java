@@ -1,6 +1,7 @@
 package com.cometmod.config.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,9 @@ public class ThemeConfig {
     // Per-tier reward overrides: if set for a tier, uses these instead of global tier rewards
     private Map<Integer, TierRewards> rewardOverride;
 
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     public ThemeConfig() {
         this.id = "";
         this.displayName = "Unknown";
@@ -90,34 +94,42 @@ public class ThemeConfig {
 
     // Setters
     public void setId(String id) {
+        checkMutable();
         this.id = id;
     }
 
     public void setDisplayName(String displayName) {
+        checkMutable();
         this.displayName = displayName;
     }
 
     public void setTiers(List<Integer> tiers) {
+        checkMutable();
         this.tiers = tiers;
     }
 
     public void setMobs(List<MobEntry> mobs) {
+        checkMutable();
         this.mobs = mobs;
     }
 
     public void setBosses(List<BossEntry> bosses) {
+        checkMutable();
         this.bosses = bosses;
     }
 
     public void setUseTierSuffix(boolean useTierSuffix) {
+        checkMutable();
         this.useTierSuffix = useTierSuffix;
     }
 
     public void setRandomBossSelection(boolean randomBossSelection) {
+        checkMutable();
         this.randomBossSelection = randomBossSelection;
     }
 
     public void setNaturalSpawn(boolean naturalSpawn) {
+        checkMutable();
         this.naturalSpawn = naturalSpawn;
     }
 
@@ -127,6 +139,7 @@ public class ThemeConfig {
     }
 
     public void setCometReplacement(String cometReplacement) {
+        checkMutable();
         this.cometReplacement = cometReplacement;
     }
 
@@ -135,6 +148,7 @@ public class ThemeConfig {
     }
 
     public void setSpawnBlock(String spawnBlock) {
+        checkMutable();
         this.spawnBlock = spawnBlock;
     }
 
@@ -145,6 +159,7 @@ public class ThemeConfig {
     }
 
     public void setRewardOverride(Map<Integer, TierRewards> rewardOverride) {
+        checkMutable();
         this.rewardOverride = rewardOverride != null ? rewardOverride : new LinkedHashMap<>();
     }
 
@@ -165,6 +180,7 @@ public class ThemeConfig {
      * @param rewards The rewards to use for this tier
      */
     public void setRewardOverrideForTier(int tier, TierRewards rewards) {
+        checkMutable();
         if (rewardOverride == null) {
             rewardOverride = new LinkedHashMap<>();
         }
@@ -197,6 +213,7 @@ public class ThemeConfig {
     }
 
     public void setWaves(List<WaveEntry> waves) {
+        checkMutable();
         this.waves = waves != null ? waves : new ArrayList<>();
     }
 
@@ -477,6 +494,44 @@ public class ThemeConfig {
         return null;
     }
 
+    /**
+     * Make this theme, its waves and its reward overrides read-only; called when the owning
+     * CometConfig is published.
+     */
+    public void freeze() {
+        if (frozen) return;
+        for (MobEntry mob : mobs) {
+            mob.freeze();
+        }
+        for (BossEntry boss : bosses) {
+            boss.freeze();
+        }
+        tiers = Collections.unmodifiableList(new ArrayList<>(tiers));
+        mobs = Collections.unmodifiableList(new ArrayList<>(mobs));
+        bosses = Collections.unmodifiableList(new ArrayList<>(bosses));
+        if (waves != null) {
+            for (WaveEntry wave : waves) {
+                wave.freeze();
+            }
+            waves = Collections.unmodifiableList(new ArrayList<>(waves));
+        }
+        if (rewardOverride != null) {
+            for (TierRewards rewards : rewardOverride.values()) {
+                if (rewards != null) {
+                    rewards.freeze();
+                }
+            }
+            rewardOverride = Collections.unmodifiableMap(new LinkedHashMap<>(rewardOverride));
+        }
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("ThemeConfig belongs to a published CometConfig and is read-only");
+        }
+    }
+
     @Override
     public String toString() {
         if (hasMultiWave()) {
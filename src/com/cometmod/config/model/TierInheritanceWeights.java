@@ -17,6 +17,9 @@ public class TierInheritanceWeights {
     private double tier4Chance;
     private double tier5Chance;
 
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     public TierInheritanceWeights() {
     }
 
@@ -33,6 +36,7 @@ public class TierInheritanceWeights {
     }
 
     public void setTier1Chance(double tier1Chance) {
+        checkMutable();
         this.tier1Chance = clampChance(tier1Chance);
     }
 
@@ -41,6 +45,7 @@ public class TierInheritanceWeights {
     }
 
     public void setTier2Chance(double tier2Chance) {
+        checkMutable();
         this.tier2Chance = clampChance(tier2Chance);
     }
 
@@ -49,6 +54,7 @@ public class TierInheritanceWeights {
     }
 
     public void setTier3Chance(double tier3Chance) {
+        checkMutable();
         this.tier3Chance = clampChance(tier3Chance);
     }
 
@@ -57,6 +63,7 @@ public class TierInheritanceWeights {
     }
 
     public void setTier4Chance(double tier4Chance) {
+        checkMutable();
         this.tier4Chance = clampChance(tier4Chance);
     }
 
@@ -65,6 +72,7 @@ public class TierInheritanceWeights {
     }
 
     public void setTier5Chance(double tier5Chance) {
+        checkMutable();
         this.tier5Chance = clampChance(tier5Chance);
     }
 
@@ -86,6 +94,7 @@ public class TierInheritanceWeights {
     }
 
     public void setChanceForTier(int tier, double chance) {
+        checkMutable();
         double clamped = clampChance(chance);
         switch (tier) {
             case 1:
@@ -112,6 +121,7 @@ public class TierInheritanceWeights {
      * Ensure tiers above current tier are disabled.
      */
     public void clampToCurrentTier(int currentTier) {
+        checkMutable();
         if (currentTier < 5) {
             tier5Chance = 0.0;
         }
@@ -129,6 +139,19 @@ public class TierInheritanceWeights {
         }
     }
 
+    /**
+     * Make these weights read-only; called when the owning CometConfig is published.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("TierInheritanceWeights belongs to a published CometConfig and is read-only");
+        }
+    }
+
     private static double clampChance(double value) {
         if (Double.isNaN(value) || Double.isInfinite(value)) {
             return 0.0;
@@ -1,6 +1,7 @@
 package com.cometmod.config.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -13,6 +14,9 @@ public class TierRewards {
     private List<RewardEntry> drops;
     private List<RewardEntry> bonusDrops;
 
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     public TierRewards() {
         this.drops = new ArrayList<>();
         this.bonusDrops = new ArrayList<>();
@@ -34,18 +38,22 @@ public class TierRewards {
 
     // Setters
     public void setDrops(List<RewardEntry> drops) {
+        checkMutable();
         this.drops = drops != null ? drops : new ArrayList<>();
     }
 
     public void setBonusDrops(List<RewardEntry> bonusDrops) {
+        checkMutable();
         this.bonusDrops = bonusDrops != null ? bonusDrops : new ArrayList<>();
     }
 
     public void addDrop(RewardEntry drop) {
+        checkMutable();
         this.drops.add(drop);
     }
 
     public void addBonusDrop(RewardEntry bonusDrop) {
+        checkMutable();
         this.bonusDrops.add(bonusDrop);
     }
 
@@ -79,6 +87,29 @@ public class TierRewards {
         }
     }
 
+    /**
+     * Make this reward table and its entries read-only; called when the owning CometConfig is
+     * published.
+     */
+    public void freeze() {
+        if (frozen) return;
+        for (RewardEntry drop : drops) {
+            drop.freeze();
+        }
+        for (RewardEntry bonusDrop : bonusDrops) {
+            bonusDrop.freeze();
+        }
+        drops = Collections.unmodifiableList(new ArrayList<>(drops));
+        bonusDrops = Collections.unmodifiableList(new ArrayList<>(bonusDrops));
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("TierRewards belongs to a published CometConfig and is read-only");
+        }
+    }
+
     @Override
     public String toString() {
         return "TierRewards{drops=" + drops.size() + ", bonusDrops=" + bonusDrops.size() + "}";
@@ -9,6 +9,9 @@ public class TierSettings {
     private double minRadius;
     private double maxRadius;
 
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     // Default values for each tier
     public static final TierSettings TIER1_DEFAULTS = new TierSettings(90, 3.0, 5.0);
     public static final TierSettings TIER2_DEFAULTS = new TierSettings(150, 4.0, 6.0);
@@ -16,6 +19,15 @@ public class TierSettings {
     public static final TierSettings TIER4_DEFAULTS = new TierSettings(240, 6.0, 8.0);
     public static final TierSettings TIER5_DEFAULTS = new TierSettings(300, 7.0, 9.0);
 
+    // The defaults are shared by every config that falls back to them, so they are never writable
+    static {
+        TIER1_DEFAULTS.freeze();
+        TIER2_DEFAULTS.freeze();
+        TIER3_DEFAULTS.freeze();
+        TIER4_DEFAULTS.freeze();
+        TIER5_DEFAULTS.freeze();
+    }
+
     public TierSettings() {
         this.timeoutSeconds = 90;
         this.minRadius = 3.0;
@@ -47,14 +59,17 @@ public class TierSettings {
 
     // Setters
     public void setTimeoutSeconds(int timeoutSeconds) {
+        checkMutable();
         this.timeoutSeconds = Math.max(10, timeoutSeconds);
     }
 
     public void setMinRadius(double minRadius) {
+        checkMutable();
         this.minRadius = Math.max(1.0, minRadius);
     }
 
     public void setMaxRadius(double maxRadius) {
+        checkMutable();
         this.maxRadius = Math.max(this.minRadius + 1.0, maxRadius);
     }
 
@@ -81,6 +96,19 @@ public class TierSettings {
         }
     }
 
+    /**
+     * Make these settings read-only; called when the owning CometConfig is published.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("TierSettings belongs to a published CometConfig and is read-only");
+        }
+    }
+
     @Override
     public String toString() {
         return "TierSettings{timeout=" + timeoutSeconds + "s, radius=" + minRadius + "-" + maxRadius + "}";
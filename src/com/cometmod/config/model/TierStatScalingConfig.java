@@ -16,11 +16,15 @@ public class TierStatScalingConfig {
     private boolean applySpeed = true;
     private boolean applyScale = false;
 
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     public boolean isEnabled() {
         return enabled;
     }
 
     public void setEnabled(boolean enabled) {
+        checkMutable();
         this.enabled = enabled;
     }
 
@@ -29,6 +33,7 @@ public class TierStatScalingConfig {
     }
 
     public void setPercentPerTier(double percentPerTier) {
+        checkMutable();
         this.percentPerTier = percentPerTier;
     }
 
@@ -37,6 +42,7 @@ public class TierStatScalingConfig {
     }
 
     public void setZonePercentPerLevel(double zonePercentPerLevel) {
+        checkMutable();
         this.zonePercentPerLevel = zonePercentPerLevel;
     }
 
@@ -45,6 +51,7 @@ public class TierStatScalingConfig {
     }
 
     public void setApplyHp(boolean applyHp) {
+        checkMutable();
         this.applyHp = applyHp;
     }
 
@@ -53,6 +60,7 @@ public class TierStatScalingConfig {
     }
 
     public void setApplyDamage(boolean applyDamage) {
+        checkMutable();
         this.applyDamage = applyDamage;
     }
 
@@ -61,6 +69,7 @@ public class TierStatScalingConfig {
     }
 
     public void setApplySpeed(boolean applySpeed) {
+        checkMutable();
         this.applySpeed = applySpeed;
     }
 
@@ -69,9 +78,23 @@ public class TierStatScalingConfig {
     }
 
     public void setApplyScale(boolean applyScale) {
+        checkMutable();
         this.applyScale = applyScale;
     }
 
+    /**
+     * Make this scaling config read-only; called when the owning CometConfig is published.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("TierStatScalingConfig belongs to a published CometConfig and is read-only");
+        }
+    }
+
     public float getTierMultiplier(int tier) {
         if (!enabled) {
             return 1.0f;
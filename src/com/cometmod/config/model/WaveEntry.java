@@ -1,6 +1,7 @@
 package com.cometmod.config.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -24,6 +25,9 @@ public class WaveEntry {
     private List<BossEntry> bosses;
     private boolean randomBossSelection;
 
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     public WaveEntry() {
         this.type = WaveType.NORMAL;
         this.mobs = new ArrayList<>();
@@ -65,10 +69,12 @@ public class WaveEntry {
 
     // Setters
     public void setType(WaveType type) {
+        checkMutable();
         this.type = type;
     }
 
     public void setType(String typeStr) {
+        checkMutable();
         if ("boss".equalsIgnoreCase(typeStr)) {
             this.type = WaveType.BOSS;
         } else {
@@ -77,14 +83,17 @@ public class WaveEntry {
     }
 
     public void setMobs(List<MobEntry> mobs) {
+        checkMutable();
         this.mobs = mobs != null ? mobs : new ArrayList<>();
     }
 
     public void setBosses(List<BossEntry> bosses) {
+        checkMutable();
         this.bosses = bosses != null ? bosses : new ArrayList<>();
     }
 
     public void setRandomBossSelection(boolean randomBossSelection) {
+        checkMutable();
         this.randomBossSelection = randomBossSelection;
     }
 
@@ -175,6 +184,29 @@ public class WaveEntry {
         return total;
     }
 
+    /**
+     * Make this wave and its mob/boss entries read-only; called when the owning CometConfig is
+     * published.
+     */
+    public void freeze() {
+        if (frozen) return;
+        for (MobEntry mob : mobs) {
+            mob.freeze();
+        }
+        for (BossEntry boss : bosses) {
+            boss.freeze();
+        }
+        mobs = Collections.unmodifiableList(new ArrayList<>(mobs));
+        bosses = Collections.unmodifiableList(new ArrayList<>(bosses));
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("WaveEntry belongs to a published CometConfig and is read-only");
+        }
+    }
+
     @Override
     public String toString() {
         return "WaveEntry{type=" + type + ", mobs=" + mobs.size() + ", bosses=" + bosses.size() + "}";
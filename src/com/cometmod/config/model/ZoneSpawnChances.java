@@ -1,5 +1,7 @@
 package com.cometmod.config.model;
 
+import com.cometmod.util.AliasTable;
+
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
@@ -24,6 +26,14 @@ public class ZoneSpawnChances {
     private double tier4 = 0.0;
     private double tier5 = 0.0;
 
+    // Alias tables for selectTier / selectTierWithoutTier5, built on first use and dropped by setters
+    private volatile AliasTable sampler;
+    private volatile AliasTable samplerWithoutTier5;
+    private volatile boolean samplersBuilt;
+
+    // Set when the owning CometConfig is published; setters throw from then on
+    private boolean frozen;
+
     public ZoneSpawnChances() {
     }
 
@@ -37,18 +47,18 @@ public class ZoneSpawnChances {
 
     // Getters and setters
     public double getTier1() { return tier1; }
-    public void setTier1(double tier1) { this.tier1 = tier1; }
+    public void setTier1(double tier1) { checkMutable(); this.tier1 = tier1; invalidateSamplers(); }
 
     public double getTier2() { return tier2; }
-    public void setTier2(double tier2) { this.tier2 = tier2; }
+    public void setTier2(double tier2) { checkMutable(); this.tier2 = tier2; invalidateSamplers(); }
 
     public double getTier3() { return tier3; }
-    public void setTier3(double tier3) { this.tier3 = tier3; }
+    public void setTier3(double tier3) { checkMutable(); this.tier3 = tier3; invalidateSamplers(); }
 
     public double getTier4() { return tier4; }
-    public void setTier4(double tier4) { this.tier4 = tier4; }
+    public void setTier4(double tier4) { checkMutable(); this.tier4 = tier4; invalidateSamplers(); }
     public double getTier5() { return tier5; }
-    public void setTier5(double tier5) { this.tier5 = tier5; }
+    public void setTier5(double tier5) { checkMutable(); this.tier5 = tier5; invalidateSamplers(); }
 
     /**
      * Get probability for a specific tier (1-5)
@@ -68,6 +78,7 @@ public class ZoneSpawnChances {
      * Set probability for a specific tier (1-5)
      */
     public void setProbability(int tier, double probability) {
+        checkMutable();
         switch (tier) {
             case 1: tier1 = probability; break;
             case 2: tier2 = probability; break;
@@ -75,33 +86,87 @@ public class ZoneSpawnChances {
             case 4: tier4 = probability; break;
             case 5: tier5 = probability; break;
         }
+        invalidateSamplers();
     }
 
     /**
-     * Select a tier based on the configured probabilities.
-     * Uses weighted random selection.
+     * Select a tier based on the configured probabilities: a roll in [0, 1) walks tiers 1-4 in
+     * order and anything left over goes to tier 5. Sampled from a precomputed alias table with
+     * exactly those odds, so a roll is one draw and a lookup.
      *
      * @param random Random instance for selection
      * @return Selected tier (1-5)
      */
     public int selectTier(Random random) {
-        double roll = random.nextDouble();
-        double cumulative = 0.0;
+        compileSamplers();
+        return sampler.sample(random) + 1;
+    }
 
-        cumulative += tier1;
-        if (roll < cumulative) return 1;
+    /**
+     * Select among tiers 1-4 in proportion to their probabilities, for when tier 5 is disabled.
+     *
+     * @return Selected tier (1-4), or 0 when tiers 1-4 have no weight
+     */
+    public int selectTierWithoutTier5(Random random) {
+        compileSamplers();
+        AliasTable table = samplerWithoutTier5;
+        return table != null ? table.sample(random) + 1 : 0;
+    }
 
-        cumulative += tier2;
-        if (roll < cumulative) return 2;
+    /**
+     * Build the alias tables now rather than on the first roll. Called when a config is published;
+     * safe to call again, it only rebuilds after a setter changed the odds.
+     */
+    public void compileSamplers() {
+        if (samplersBuilt) {
+            return;
+        }
+        double[] tiers = { weight(tier1), weight(tier2), weight(tier3), weight(tier4) };
+
+        // Odds of the cumulative walk: each tier gets its slice of [0, 1), clipped at 1
+        double[] walk = new double[5];
+        double previous = 0.0;
+        for (int i = 0; i < 4; i++) {
+            double cumulative = Math.min(1.0, previous + tiers[i]);
+            walk[i] = cumulative - previous;
+            previous = cumulative;
+        }
+        walk[4] = 1.0 - previous;
+        AliasTable withTier5 = new AliasTable(walk);
 
-        cumulative += tier3;
-        if (roll < cumulative) return 3;
+        AliasTable withoutTier5 = null;
+        double total = tiers[0] + tiers[1] + tiers[2] + tiers[3];
+        if (total > 0.0 && !Double.isInfinite(total)) {
+            withoutTier5 = new AliasTable(tiers);
+        }
+
+        sampler = withTier5;
+        samplerWithoutTier5 = withoutTier5;
+        samplersBuilt = true;
+    }
 
-        cumulative += tier4;
-        if (roll < cumulative) return 4;
+    /** Negative and NaN probabilities count as 0. */
+    private static double weight(double probability) {
+        return probability > 0.0 ? probability : 0.0;
+    }
+
+    private void invalidateSamplers() {
+        samplersBuilt = false;
+    }
 
-        // Default to tier 5 if nothing else matched
-        return 5;
+    /**
+     * Build the samplers and make these chances read-only; called when the owning CometConfig is
+     * published.
+     */
+    public void freeze() {
+        compileSamplers();
+        frozen = true;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("ZoneSpawnChances belongs to a published CometConfig and is read-only");
+        }
     }
 
     /**
@@ -123,6 +188,7 @@ public class ZoneSpawnChances {
      * Normalize probabilities to sum to 1.0
      */
     public void normalize() {
+        checkMutable();
         double total = getTotalProbability();
         if (total > 0) {
             tier1 /= total;
@@ -130,6 +196,7 @@ public class ZoneSpawnChances {
             tier3 /= total;
             tier4 /= total;
             tier5 /= total;
+            invalidateSamplers();
         }
     }
 
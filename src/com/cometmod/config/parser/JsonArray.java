@@ -0,0 +1,69 @@
+package com.cometmod.config.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A parsed JSON array. Elements use the same value types as JsonObject.
+ */
+public final class JsonArray {
+
+    private final List<Object> elements = new ArrayList<>();
+
+    JsonArray() {
+    }
+
+    void add(Object value) {
+        elements.add(value);
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    public Object get(int index) {
+        return elements.get(index);
+    }
+
+    /** The object elements, skipping anything else. */
+    public List<JsonObject> objects() {
+        List<JsonObject> objects = new ArrayList<>();
+        for (Object element : elements) {
+            if (element instanceof JsonObject) {
+                objects.add((JsonObject) element);
+            }
+        }
+        return objects;
+    }
+
+    /** The non-empty string elements, skipping anything else. */
+    public List<String> strings() {
+        List<String> strings = new ArrayList<>();
+        for (Object element : elements) {
+            if (element instanceof String && !((String) element).isEmpty()) {
+                strings.add((String) element);
+            }
+        }
+        return strings;
+    }
+
+    /** The number elements (and numeric strings, e.g. "tiers": ["2"]) as ints, skipping anything else. */
+    public List<Integer> ints() {
+        List<Integer> ints = new ArrayList<>();
+        for (Object element : elements) {
+            if (element instanceof Number) {
+                ints.add(((Number) element).intValue());
+            } else if (element instanceof String) {
+                try {
+                    ints.add(Integer.parseInt(((String) element).trim()));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        return ints;
+    }
+}
@@ -0,0 +1,70 @@
+package com.cometmod.config.parser;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A parsed JSON object. Members keep file order. Values are JsonObject, JsonArray, String, Long,
+ * Double, Boolean or null. The typed getters return null when the key is missing or holds a
+ * different type, matching how config parsing treats absent settings.
+ */
+public final class JsonObject {
+
+    private final Map<String, Object> members = new LinkedHashMap<>();
+
+    JsonObject() {
+    }
+
+    /** First occurrence wins when a key repeats, as the old key scan did. */
+    void put(String key, Object value) {
+        members.putIfAbsent(key, value);
+    }
+
+    public boolean has(String key) {
+        return members.containsKey(key);
+    }
+
+    public Object get(String key) {
+        return members.get(key);
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return Collections.unmodifiableMap(members).entrySet();
+    }
+
+    public JsonObject getObject(String key) {
+        Object value = members.get(key);
+        return value instanceof JsonObject ? (JsonObject) value : null;
+    }
+
+    public JsonArray getArray(String key) {
+        Object value = members.get(key);
+        return value instanceof JsonArray ? (JsonArray) value : null;
+    }
+
+    public String getString(String key) {
+        Object value = members.get(key);
+        return value instanceof String ? (String) value : null;
+    }
+
+    public Integer getInt(String key) {
+        Object value = members.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : null;
+    }
+
+    public Double getDouble(String key) {
+        Object value = members.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    public Boolean getBoolean(String key) {
+        Object value = members.get(key);
+        return value instanceof Boolean ? (Boolean) value : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cometmod.config.parser;
+
+/**
+ * Syntax error in a config file. Carries the character offset of the problem and its 1-based
+ * line/column so the load log can point at the exact spot.
+ */
+public class JsonParseException extends RuntimeException {
+
+    private final int offset;
+    private final int line;
+    private final int column;
+
+    public JsonParseException(String message, int offset, int line, int column) {
+        super(message + " at line " + line + ", column " + column + " (offset " + offset + ")");
+        this.offset = offset;
+        this.line = line;
+        this.column = column;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,261 @@
+package com.cometmod.config.parser;
+
+/**
+ * Single-pass JSON reader for the mod's config files. Walks the text once and builds a JsonObject
+ * tree, so looking up a key is a map get instead of a rescan of the file. Lenient where hand-edited
+ * configs tend to slip: commas between members are optional, trailing commas are allowed and
+ * // or /* *&#47; comments are skipped. Anything else malformed throws JsonParseException with the
+ * offset, line and column of the problem.
+ */
+public final class JsonReader {
+
+    private static final int MAX_DEPTH = 256;
+
+    private final String text;
+    private int pos;
+    private int depth;
+
+    private JsonReader(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parse a document whose top-level value is an object. Blank input reads as an empty object, so
+     * an emptied file falls back to defaults the same way a file missing every key does.
+     */
+    public static JsonObject parseObject(String json) {
+        if (json == null || json.isBlank()) {
+            return new JsonObject();
+        }
+        JsonReader reader = new JsonReader(json);
+        if (json.charAt(0) == '\uFEFF') {
+            reader.pos = 1;
+        }
+        reader.skipIgnorable();
+        if (reader.pos >= json.length()) {
+            return new JsonObject();
+        }
+        if (json.charAt(reader.pos) != '{') {
+            throw reader.error("Expected '{' at start of document");
+        }
+        JsonObject root = reader.readObject();
+        reader.skipIgnorable();
+        if (reader.pos < json.length()) {
+            throw reader.error("Unexpected content after top-level object");
+        }
+        return root;
+    }
+
+    private Object readValue() {
+        skipIgnorable();
+        if (pos >= text.length()) {
+            throw error("Unexpected end of input, expected a value");
+        }
+        char c = text.charAt(pos);
+        switch (c) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                expectLiteral("true");
+                return Boolean.TRUE;
+            case 'f':
+                expectLiteral("false");
+                return Boolean.FALSE;
+            case 'n':
+                expectLiteral("null");
+                return null;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private JsonObject readObject() {
+        enter();
+        JsonObject object = new JsonObject();
+        pos++; // '{'
+        while (true) {
+            skipSeparators();
+            if (pos >= text.length()) {
+                throw error("Unterminated object");
+            }
+            char c = text.charAt(pos);
+            if (c == '}') {
+                pos++;
+                break;
+            }
+            if (c != '"') {
+                throw error("Expected a quoted key or '}'");
+            }
+            String key = readString();
+            skipIgnorable();
+            if (pos >= text.length() || text.charAt(pos) != ':') {
+                throw error("Expected ':' after key \"" + key + "\"");
+            }
+            pos++;
+            object.put(key, readValue());
+        }
+        depth--;
+        return object;
+    }
+
+    private JsonArray readArray() {
+        enter();
+        JsonArray array = new JsonArray();
+        pos++; // '['
+        while (true) {
+            skipSeparators();
+            if (pos >= text.length()) {
+                throw error("Unterminated array");
+            }
+            if (text.charAt(pos) == ']') {
+                pos++;
+                break;
+            }
+            array.add(readValue());
+        }
+        depth--;
+        return array;
+    }
+
+    private String readString() {
+        int start = ++pos; // opening quote
+        StringBuilder sb = null;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == '"') {
+                String value = sb == null ? text.substring(start, pos) : sb.append(text, start, pos).toString();
+                pos++;
+                return value;
+            }
+            if (c == '\\') {
+                if (sb == null) {
+                    sb = new StringBuilder();
+                }
+                sb.append(text, start, pos);
+                pos++;
+                if (pos >= text.length()) {
+                    break;
+                }
+                char e = text.charAt(pos);
+                switch (e) {
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        if (pos + 4 >= text.length()) {
+                            throw error("Incomplete \\u escape");
+                        }
+                        try {
+                            sb.append((char) Integer.parseInt(text.substring(pos + 1, pos + 5), 16));
+                        } catch (NumberFormatException ex) {
+                            throw error("Invalid \\u escape");
+                        }
+                        pos += 4;
+                        break;
+                    default:
+                        // \" \\ \/ and anything unknown: keep the character itself
+                        sb.append(e);
+                }
+                start = ++pos;
+                continue;
+            }
+            pos++;
+        }
+        pos = start - 1;
+        throw error("Unterminated string");
+    }
+
+    private Number readNumber() {
+        int start = pos;
+        boolean integral = true;
+        if (text.charAt(pos) == '-') pos++;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                pos++;
+            } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                integral = false;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        String token = text.substring(start, pos);
+        try {
+            if (integral && token.length() < 19) {
+                return Long.parseLong(token);
+            }
+            return Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Invalid number '" + token + "'");
+        }
+    }
+
+    private void expectLiteral(String literal) {
+        if (!text.startsWith(literal, pos)) {
+            throw error("Unexpected token, expected " + literal);
+        }
+        pos += literal.length();
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw error("Nesting deeper than " + MAX_DEPTH);
+        }
+    }
+
+    /** Whitespace and commas between members/elements (missing or trailing commas are tolerated). */
+    private void skipSeparators() {
+        while (true) {
+            skipIgnorable();
+            if (pos < text.length() && text.charAt(pos) == ',') {
+                pos++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void skipIgnorable() {
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                pos++;
+            } else if (c == '/' && pos + 1 < text.length() && text.charAt(pos + 1) == '/') {
+                int end = text.indexOf('\n', pos);
+                pos = end < 0 ? text.length() : end + 1;
+            } else if (c == '/' && pos + 1 < text.length() && text.charAt(pos + 1) == '*') {
+                int end = text.indexOf("*/", pos + 2);
+                if (end < 0) {
+                    throw error("Unterminated comment");
+                }
+                pos = end + 2;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private JsonParseException error(String message) {
+        int line = 1;
+        int lineStart = 0;
+        int limit = Math.min(pos, text.length());
+        for (int i = 0; i < limit; i++) {
+            if (text.charAt(i) == '\n') {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+        return new JsonParseException(message, pos, line, pos - lineStart + 1);
+    }
+}
@@ -1,17 +1,5 @@
 package com.cometmod.config.parser;
 
-import static com.cometmod.config.parser.ConfigJson.extractArrayFromPosition;
-import static com.cometmod.config.parser.ConfigJson.extractArrayObjects;
-import static com.cometmod.config.parser.ConfigJson.extractBooleanValue;
-import static com.cometmod.config.parser.ConfigJson.extractDoubleValue;
-import static com.cometmod.config.parser.ConfigJson.extractIntArray;
-import static com.cometmod.config.parser.ConfigJson.extractIntValue;
-import static com.cometmod.config.parser.ConfigJson.extractJsonArray;
-import static com.cometmod.config.parser.ConfigJson.extractJsonObject;
-import static com.cometmod.config.parser.ConfigJson.extractObjectFromPosition;
-import static com.cometmod.config.parser.ConfigJson.extractStringArray;
-import static com.cometmod.config.parser.ConfigJson.extractStringValue;
-
 import com.cometmod.config.defaults.DefaultThemes;
 import com.cometmod.config.model.BossEntry;
 import com.cometmod.config.model.MobEntry;
@@ -31,51 +19,45 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * JSON parser for theme configurations.
- * Handles nested objects and arrays for theme definitions.
- * 
- * Note: This is a simple parser without external dependencies.
- * For production use, consider using a JSON library like Gson.
+ * Binds parsed config JSON (see JsonReader) to the theme, tier, reward and zone model classes.
+ * Every method takes the already parsed document, so a file is read once no matter how many
+ * sections are pulled from it.
  */
 public class ThemeConfigParser {
 
     private static final Logger LOGGER = Logger.getLogger(ThemeConfigParser.class.getName());
 
+    /** Theme and zone ids are plain identifiers; object entries under any other key are skipped. */
+    private static final Pattern ENTRY_ID_PATTERN = Pattern.compile("[a-zA-Z0-9_]+");
+
     /**
-     * Parse themes from a JSON string
+     * Parse themes from a config document
      * 
-     * @param json The full config JSON content
+     * @param root The parsed config (or themes.json) document
      * @return Map of theme ID to ThemeConfig
      */
-    public static Map<String, ThemeConfig> parseThemes(String json) {
+    public static Map<String, ThemeConfig> parseThemes(JsonObject root) {
         Map<String, ThemeConfig> themes = new LinkedHashMap<>();
 
         try {
             // Find the "themes" object
-            String themesBlock = extractJsonObject(json, "themes");
-            if (themesBlock == null || themesBlock.isEmpty()) {
+            JsonObject themesBlock = root.getObject("themes");
+            if (themesBlock == null || themesBlock.size() == 0) {
                 return DefaultThemes.generateDefaults();
             }
 
-            // Parse each theme within the themes block
-            // Look for pattern: "themeId": { ... }
-            Pattern themePattern = Pattern.compile("\"([a-zA-Z0-9_]+)\"\\s*:\\s*\\{");
-            Matcher matcher = themePattern.matcher(themesBlock);
-
-            while (matcher.find()) {
-                String themeId = matcher.group(1);
-                int startPos = matcher.end() - 1; // Position of opening brace
-                String themeJson = extractObjectFromPosition(themesBlock, startPos);
-
-                if (themeJson != null) {
-                    ThemeConfig theme = parseTheme(themeId, themeJson);
-                    if (theme != null) {
-                        themes.put(themeId, theme);
-                    }
+            // Parse each theme within the themes block: "themeId": { ... }
+            for (Map.Entry<String, Object> entry : themesBlock.entrySet()) {
+                String themeId = entry.getKey();
+                if (!(entry.getValue() instanceof JsonObject) || !ENTRY_ID_PATTERN.matcher(themeId).matches()) {
+                    continue;
+                }
+                ThemeConfig theme = parseTheme(themeId, (JsonObject) entry.getValue());
+                if (theme != null) {
+                    themes.put(themeId, theme);
                 }
             }
         } catch (Exception e) {
@@ -110,35 +92,35 @@ public class ThemeConfigParser {
     /**
      * Parse a single theme from its JSON block
      */
-    private static ThemeConfig parseTheme(String id, String json) {
+    private static ThemeConfig parseTheme(String id, JsonObject json) {
         try {
             ThemeConfig theme = new ThemeConfig();
             theme.setId(id);
 
             // Parse displayName
-            String displayName = extractStringValue(json, "displayName");
+            String displayName = json.getString("displayName");
             theme.setDisplayName(displayName != null ? displayName : id);
 
             // Parse useTierSuffix (default true)
-            Boolean useTierSuffix = extractBooleanValue(json, "useTierSuffix");
+            Boolean useTierSuffix = json.getBoolean("useTierSuffix");
             theme.setUseTierSuffix(useTierSuffix != null ? useTierSuffix : true);
 
             // Parse randomBossSelection (default false)
-            Boolean randomBossSelection = extractBooleanValue(json, "randomBossSelection");
+            Boolean randomBossSelection = json.getBoolean("randomBossSelection");
             theme.setRandomBossSelection(randomBossSelection != null ? randomBossSelection : false);
 
             // Parse naturalSpawn (default true) - if false, theme won't spawn naturally.
-            Boolean naturalSpawn = extractBooleanValue(json, "naturalSpawn");
+            Boolean naturalSpawn = json.getBoolean("naturalSpawn");
             theme.setNaturalSpawn(naturalSpawn != null ? naturalSpawn : true);
 
             // Parse cometReplacement (optional): "default", "coffin", "portal", "volcano"
-            String cometReplacement = extractStringValue(json, "cometReplacement");
+            String cometReplacement = json.getString("cometReplacement");
             if (cometReplacement != null && !cometReplacement.isBlank()) {
                 theme.setCometReplacement(cometReplacement.trim());
             }
 
             // Parse spawnBlock (optional): block type ID to spawn for this theme
-            String spawnBlock = extractStringValue(json, "spawnBlock");
+            String spawnBlock = json.getString("spawnBlock");
             if (spawnBlock != null && !spawnBlock.isBlank()) {
                 String trimmed = spawnBlock.trim();
                 theme.setSpawnBlock(trimmed);
@@ -146,7 +128,8 @@ public class ThemeConfigParser {
             }
 
             // Parse tiers array
-            List<Integer> tiers = extractIntArray(json, "tiers");
+            JsonArray tiersArray = json.getArray("tiers");
+            List<Integer> tiers = tiersArray != null ? tiersArray.ints() : new ArrayList<>();
             theme.setTiers(tiers);
 
             // Parse mobs array
@@ -187,45 +170,45 @@ public class ThemeConfigParser {
      *   "applyScale": false
      * }
      */
-    public static TierStatScalingConfig parseTierStatScaling(String json) {
+    public static TierStatScalingConfig parseTierStatScaling(JsonObject json) {
         TierStatScalingConfig scaling = new TierStatScalingConfig();
         try {
-            String block = extractJsonObject(json, "tierStatScaling");
+            JsonObject block = json.getObject("tierStatScaling");
             if (block == null) {
                 return scaling;
             }
 
-            Boolean enabled = extractBooleanValue(block, "enabled");
+            Boolean enabled = block.getBoolean("enabled");
             if (enabled != null) {
                 scaling.setEnabled(enabled);
             }
 
-            Double percentPerTier = extractDoubleValue(block, "percentPerTier");
+            Double percentPerTier = block.getDouble("percentPerTier");
             if (percentPerTier != null) {
                 scaling.setPercentPerTier(percentPerTier);
             }
 
-            Double zonePercentPerLevel = extractDoubleValue(block, "zonePercentPerLevel");
+            Double zonePercentPerLevel = block.getDouble("zonePercentPerLevel");
             if (zonePercentPerLevel != null) {
                 scaling.setZonePercentPerLevel(zonePercentPerLevel);
             }
 
-            Boolean applyHp = extractBooleanValue(block, "applyHp");
+            Boolean applyHp = block.getBoolean("applyHp");
             if (applyHp != null) {
                 scaling.setApplyHp(applyHp);
             }
 
-            Boolean applyDamage = extractBooleanValue(block, "applyDamage");
+            Boolean applyDamage = block.getBoolean("applyDamage");
             if (applyDamage != null) {
                 scaling.setApplyDamage(applyDamage);
             }
 
-            Boolean applySpeed = extractBooleanValue(block, "applySpeed");
+            Boolean applySpeed = block.getBoolean("applySpeed");
             if (applySpeed != null) {
                 scaling.setApplySpeed(applySpeed);
             }
 
-            Boolean applyScale = extractBooleanValue(block, "applyScale");
+            Boolean applyScale = block.getBoolean("applyScale");
             if (applyScale != null) {
                 scaling.setApplyScale(applyScale);
             }
@@ -243,9 +226,9 @@ public class ThemeConfigParser {
      *   "3": { "drops": [...], "bonusDrops": [...] }
      * }
      */
-    private static void parseRewardOverride(String json, ThemeConfig theme) {
+    private static void parseRewardOverride(JsonObject json, ThemeConfig theme) {
         try {
-            String rewardBlock = extractJsonObject(json, "rewardOverride");
+            JsonObject rewardBlock = json.getObject("rewardOverride");
             if (rewardBlock == null) {
                 return; // No reward override configured
             }
@@ -255,7 +238,7 @@ public class ThemeConfigParser {
             // Parse each tier's rewards: "1": {...}, "2": {...}, etc.
             for (int tier = 1; tier <= 5; tier++) {
                 String tierKey = String.valueOf(tier);
-                String tierJson = extractJsonObject(rewardBlock, tierKey);
+                JsonObject tierJson = rewardBlock.getObject(tierKey);
 
                 if (tierJson != null) {
                     TierRewards tr = new TierRewards();
@@ -283,34 +266,33 @@ public class ThemeConfigParser {
     /**
      * Parse mobs array from theme JSON
      */
-    private static List<MobEntry> parseMobs(String json) {
+    private static List<MobEntry> parseMobs(JsonObject json) {
         List<MobEntry> mobs = new ArrayList<>();
 
         try {
-            String mobsArray = extractJsonArray(json, "mobs");
+            JsonArray mobsArray = json.getArray("mobs");
             if (mobsArray == null)
                 return mobs;
 
             // Parse each mob object in the array
-            List<String> mobObjects = extractArrayObjects(mobsArray);
-            for (String mobJson : mobObjects) {
+            for (JsonObject mobJson : mobsArray.objects()) {
                 MobEntry mob = new MobEntry();
 
-                String id = extractStringValue(mobJson, "id");
+                String id = mobJson.getString("id");
                 if (id != null)
                     mob.setId(id);
 
                 // Try to parse count as integer first
-                Integer count = extractIntValue(mobJson, "count");
+                Integer count = mobJson.getInt("count");
                 if (count != null) {
                     mob.setCount(count);
                 } else {
                     // Try to parse as tier-based count object: "count": { "1": 4, "2": 5 }
-                    String countObj = extractJsonObject(mobJson, "count");
+                    JsonObject countObj = mobJson.getObject("count");
                     if (countObj != null) {
                         Map<Integer, Integer> tierCounts = new LinkedHashMap<>();
                         for (int tier = 1; tier <= 5; tier++) {
-                            Integer tierCount = extractIntValue(countObj, String.valueOf(tier));
+                            Integer tierCount = countObj.getInt(String.valueOf(tier));
                             if (tierCount != null) {
                                 tierCounts.put(tier, tierCount);
                             }
@@ -344,22 +326,21 @@ public class ThemeConfigParser {
      *   { "type": "boss", "bosses": [...], "randomBossSelection": true }
      * ]
      */
-    private static List<WaveEntry> parseWaves(String json) {
+    private static List<WaveEntry> parseWaves(JsonObject json) {
         List<WaveEntry> waves = new ArrayList<>();
 
         try {
-            String wavesArray = extractJsonArray(json, "waves");
+            JsonArray wavesArray = json.getArray("waves");
             if (wavesArray == null) {
                 return waves;
             }
 
             // Parse each wave object in the array
-            List<String> waveObjects = extractArrayObjects(wavesArray);
-            for (String waveJson : waveObjects) {
+            for (JsonObject waveJson : wavesArray.objects()) {
                 WaveEntry wave = new WaveEntry();
 
                 // Parse type (default to "normal")
-                String type = extractStringValue(waveJson, "type");
+                String type = waveJson.getString("type");
                 if (type != null) {
                     wave.setType(type);
                 }
@@ -373,7 +354,7 @@ public class ThemeConfigParser {
                 wave.setBosses(waveBosses);
 
                 // Parse randomBossSelection (default false)
-                Boolean randomBossSelection = extractBooleanValue(waveJson, "randomBossSelection");
+                Boolean randomBossSelection = waveJson.getBoolean("randomBossSelection");
                 wave.setRandomBossSelection(randomBossSelection != null ? randomBossSelection : false);
 
                 waves.add(wave);
@@ -408,22 +389,22 @@ public class ThemeConfigParser {
     /**
      * Parse bosses array from theme JSON
      */
-    private static List<BossEntry> parseBosses(String json) {
+    private static List<BossEntry> parseBosses(JsonObject json) {
         List<BossEntry> bosses = new ArrayList<>();
 
         try {
-            String bossesArray = extractJsonArray(json, "bosses");
+            JsonArray bossesArray = json.getArray("bosses");
             if (bossesArray == null)
                 return bosses;
 
             // Check if bosses are simple strings or objects
-            if (bossesArray.contains("{")) {
+            List<JsonObject> bossObjects = bossesArray.objects();
+            if (!bossObjects.isEmpty()) {
                 // Object format: { "id": "Boss" }
-                List<String> bossObjects = extractArrayObjects(bossesArray);
-                for (String bossJson : bossObjects) {
+                for (JsonObject bossJson : bossObjects) {
                     BossEntry boss = new BossEntry();
 
-                    String id = extractStringValue(bossJson, "id");
+                    String id = bossJson.getString("id");
                     if (id != null)
                         boss.setId(id);
 
@@ -433,7 +414,7 @@ public class ThemeConfigParser {
                 }
             } else {
                 // Simple string format: ["Boss1", "Boss2"]
-                List<String> bossNames = extractStringArray(bossesArray);
+                List<String> bossNames = bossesArray.strings();
                 for (String name : bossNames) {
                     if (name != null && !name.isEmpty()) {
                         bosses.add(new BossEntry(name));
@@ -450,11 +431,11 @@ public class ThemeConfigParser {
     /**
      * Parse tier settings from config JSON
      */
-    public static Map<Integer, TierSettings> parseTierSettings(String json) {
+    public static Map<Integer, TierSettings> parseTierSettings(JsonObject json) {
         Map<Integer, TierSettings> settings = new LinkedHashMap<>();
 
         try {
-            String tierBlock = extractJsonObject(json, "tierSettings");
+            JsonObject tierBlock = json.getObject("tierSettings");
             if (tierBlock == null) {
                 return DefaultThemes.getDefaultTierSettings();
             }
@@ -462,20 +443,20 @@ public class ThemeConfigParser {
             // Parse each tier: "1": { ... }, "2": { ... }
             for (int tier = 1; tier <= 5; tier++) {
                 String tierKey = String.valueOf(tier);
-                String tierJson = extractJsonObject(tierBlock, tierKey);
+                JsonObject tierJson = tierBlock.getObject(tierKey);
 
                 if (tierJson != null) {
                     TierSettings ts = new TierSettings();
 
-                    Integer timeout = extractIntValue(tierJson, "timeoutSeconds");
+                    Integer timeout = tierJson.getInt("timeoutSeconds");
                     if (timeout != null)
                         ts.setTimeoutSeconds(timeout);
 
-                    Double minRadius = extractDoubleValue(tierJson, "minRadius");
+                    Double minRadius = tierJson.getDouble("minRadius");
                     if (minRadius != null)
                         ts.setMinRadius(minRadius);
 
-                    Double maxRadius = extractDoubleValue(tierJson, "maxRadius");
+                    Double maxRadius = tierJson.getDouble("maxRadius");
                     if (maxRadius != null)
                         ts.setMaxRadius(maxRadius);
 
@@ -496,11 +477,11 @@ public class ThemeConfigParser {
     /**
      * Parse reward settings from config JSON
      */
-    public static Map<Integer, TierRewards> parseRewardSettings(String json) {
+    public static Map<Integer, TierRewards> parseRewardSettings(JsonObject json) {
         Map<Integer, TierRewards> rewards = new LinkedHashMap<>();
 
         try {
-            String rewardBlock = extractJsonObject(json, "rewardSettings");
+            JsonObject rewardBlock = json.getObject("rewardSettings");
             if (rewardBlock == null) {
                 // Return defaults
                 for (int tier = 1; tier <= 5; tier++) {
@@ -512,7 +493,7 @@ public class ThemeConfigParser {
             // Parse each tier: "1": { ... }, "2": { ... }
             for (int tier = 1; tier <= 5; tier++) {
                 String tierKey = String.valueOf(tier);
-                String tierJson = extractJsonObject(rewardBlock, tierKey);
+                JsonObject tierJson = rewardBlock.getObject(tierKey);
 
                 if (tierJson != null) {
                     TierRewards tr = new TierRewards();
@@ -545,36 +526,35 @@ public class ThemeConfigParser {
     /**
      * Parse reward entries (drops or bonusDrops) from tier JSON
      */
-    private static List<RewardEntry> parseRewardEntries(String json, String key) {
+    private static List<RewardEntry> parseRewardEntries(JsonObject json, String key) {
         List<RewardEntry> entries = new ArrayList<>();
 
         try {
-            String entriesArray = extractJsonArray(json, key);
+            JsonArray entriesArray = json.getArray(key);
             if (entriesArray == null)
                 return entries;
 
             // Parse each reward object in the array
-            List<String> rewardObjects = extractArrayObjects(entriesArray);
-            for (String rewardJson : rewardObjects) {
+            for (JsonObject rewardJson : entriesArray.objects()) {
                 RewardEntry reward = new RewardEntry();
 
-                String id = extractStringValue(rewardJson, "id");
+                String id = rewardJson.getString("id");
                 if (id != null)
                     reward.setId(id);
 
-                Integer minCount = extractIntValue(rewardJson, "minCount");
+                Integer minCount = rewardJson.getInt("minCount");
                 if (minCount != null)
                     reward.setMinCount(minCount);
 
-                Integer maxCount = extractIntValue(rewardJson, "maxCount");
+                Integer maxCount = rewardJson.getInt("maxCount");
                 if (maxCount != null)
                     reward.setMaxCount(maxCount);
 
-                Double chance = extractDoubleValue(rewardJson, "chance");
+                Double chance = rewardJson.getDouble("chance");
                 if (chance != null)
                     reward.setChance(chance);
 
-                String displayName = extractStringValue(rewardJson, "displayName");
+                String displayName = rewardJson.getString("displayName");
                 if (displayName != null)
                     reward.setDisplayName(displayName);
 
@@ -597,40 +577,38 @@ public class ThemeConfigParser {
      *   "1": { "tier1": 0.8, "tier2": 0.2, "tier3": 0.0, "tier4": 0.0 }
      * }
      */
-    public static Map<String, ZoneSpawnChances> parseZoneSpawnChances(String json) {
+    public static Map<String, ZoneSpawnChances> parseZoneSpawnChances(JsonObject json) {
         Map<String, ZoneSpawnChances> zoneChances = new LinkedHashMap<>();
 
         try {
-            String zoneBlock = extractJsonObject(json, "zoneSpawnChances");
+            JsonObject zoneBlock = json.getObject("zoneSpawnChances");
             if (zoneBlock == null) {
                 return zoneChances;
             }
 
             // Parse each zone entry: "0": { ... }, "1": { ... }
-            Pattern zonePattern = Pattern.compile("\"([a-zA-Z0-9_]+)\"\\s*:\\s*\\{");
-            Matcher matcher = zonePattern.matcher(zoneBlock);
-
-            while (matcher.find()) {
-                String zoneKey = matcher.group(1);
-                int startPos = matcher.end() - 1;
-                String zoneJson = extractObjectFromPosition(zoneBlock, startPos);
-
-                if (zoneJson != null) {
+            for (Map.Entry<String, Object> entry : zoneBlock.entrySet()) {
+                String zoneKey = entry.getKey();
+                if (!ENTRY_ID_PATTERN.matcher(zoneKey).matches()) {
+                    continue;
+                }
+                if (entry.getValue() instanceof JsonObject) {
+                    JsonObject zoneJson = (JsonObject) entry.getValue();
                     ZoneSpawnChances chances = new ZoneSpawnChances();
 
-                    Double tier1 = extractDoubleValue(zoneJson, "tier1");
+                    Double tier1 = zoneJson.getDouble("tier1");
                     if (tier1 != null) chances.setTier1(tier1);
 
-                    Double tier2 = extractDoubleValue(zoneJson, "tier2");
+                    Double tier2 = zoneJson.getDouble("tier2");
                     if (tier2 != null) chances.setTier2(tier2);
 
-                    Double tier3 = extractDoubleValue(zoneJson, "tier3");
+                    Double tier3 = zoneJson.getDouble("tier3");
                     if (tier3 != null) chances.setTier3(tier3);
 
-                    Double tier4 = extractDoubleValue(zoneJson, "tier4");
+                    Double tier4 = zoneJson.getDouble("tier4");
                     if (tier4 != null) chances.setTier4(tier4);
 
-                    Double tier5 = extractDoubleValue(zoneJson, "tier5");
+                    Double tier5 = zoneJson.getDouble("tier5");
                     if (tier5 != null) chances.setTier5(tier5);
 
                     zoneChances.put(zoneKey, chances);
@@ -657,27 +635,22 @@ public class ThemeConfigParser {
      *   "default": { "drops": [...], "bonusDrops": [...] }
      * }
      */
-    public static Map<String, TierRewards> parseZoneBaseLootPools(String json) {
+    public static Map<String, TierRewards> parseZoneBaseLootPools(JsonObject json) {
         Map<String, TierRewards> zonePools = new LinkedHashMap<>();
 
         try {
-            String zoneBlock = extractJsonObject(json, "zoneBaseLootPools");
-            if (zoneBlock == null || zoneBlock.isEmpty()) {
+            JsonObject zoneBlock = json.getObject("zoneBaseLootPools");
+            if (zoneBlock == null || zoneBlock.size() == 0) {
                 return zonePools;
             }
 
-            Pattern zonePattern = Pattern.compile("\"([a-zA-Z0-9_]+)\"\\s*:\\s*\\{");
-            Matcher matcher = zonePattern.matcher(zoneBlock);
-
-            while (matcher.find()) {
-                String zoneKey = matcher.group(1);
-                int startPos = matcher.end() - 1;
-                String zoneJson = extractObjectFromPosition(zoneBlock, startPos);
-                if (zoneJson == null) {
+            for (Map.Entry<String, Object> entry : zoneBlock.entrySet()) {
+                String zoneKey = entry.getKey();
+                if (!(entry.getValue() instanceof JsonObject) || !ENTRY_ID_PATTERN.matcher(zoneKey).matches()) {
                     continue;
                 }
 
-                TierRewards pool = parseTierRewardsObject(zoneJson);
+                TierRewards pool = parseTierRewardsObject((JsonObject) entry.getValue());
                 zonePools.put(zoneKey, pool);
             }
         } catch (Exception e) {
@@ -695,44 +668,44 @@ public class ThemeConfigParser {
      *   "2": { "tier1": 0.2, "tier2": 1.0, "tier3": 0.0, "tier4": 0.0 }
      * }
      */
-    public static Map<Integer, TierInheritanceWeights> parseTierInheritanceWeights(String json) {
+    public static Map<Integer, TierInheritanceWeights> parseTierInheritanceWeights(JsonObject json) {
         Map<Integer, TierInheritanceWeights> weights = new LinkedHashMap<>();
 
         try {
-            String weightsBlock = extractJsonObject(json, "tierInheritanceWeights");
-            if (weightsBlock == null || weightsBlock.isEmpty()) {
+            JsonObject weightsBlock = json.getObject("tierInheritanceWeights");
+            if (weightsBlock == null || weightsBlock.size() == 0) {
                 return weights;
             }
 
             for (int tier = 1; tier <= 5; tier++) {
-                String tierJson = extractJsonObject(weightsBlock, String.valueOf(tier));
+                JsonObject tierJson = weightsBlock.getObject(String.valueOf(tier));
                 if (tierJson == null) {
                     continue;
                 }
 
                 TierInheritanceWeights tih = new TierInheritanceWeights();
 
-                Double t1 = extractDoubleValue(tierJson, "tier1");
+                Double t1 = tierJson.getDouble("tier1");
                 if (t1 != null) {
                     tih.setTier1Chance(t1);
                 }
 
-                Double t2 = extractDoubleValue(tierJson, "tier2");
+                Double t2 = tierJson.getDouble("tier2");
                 if (t2 != null) {
                     tih.setTier2Chance(t2);
                 }
 
-                Double t3 = extractDoubleValue(tierJson, "tier3");
+                Double t3 = tierJson.getDouble("tier3");
                 if (t3 != null) {
                     tih.setTier3Chance(t3);
                 }
 
-                Double t4 = extractDoubleValue(tierJson, "tier4");
+                Double t4 = tierJson.getDouble("tier4");
                 if (t4 != null) {
                     tih.setTier4Chance(t4);
                 }
 
-                Double t5 = extractDoubleValue(tierJson, "tier5");
+                Double t5 = tierJson.getDouble("tier5");
                 if (t5 != null) {
                     tih.setTier5Chance(t5);
                 }
@@ -748,7 +721,7 @@ public class ThemeConfigParser {
         return weights;
     }
 
-    private static TierRewards parseTierRewardsObject(String json) {
+    private static TierRewards parseTierRewardsObject(JsonObject json) {
         TierRewards tr = new TierRewards();
         tr.setDrops(parseRewardEntries(json, "drops"));
         tr.setBonusDrops(parseRewardEntries(json, "bonusDrops"));
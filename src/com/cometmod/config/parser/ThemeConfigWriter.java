@@ -180,7 +180,7 @@ public class ThemeConfigWriter {
                 "Mobs: %killed%/%total% | Time: %time%",
                 "Wave Failed!", "Time's Up!",
                 "Wave Complete!", "Loot Dropped!",
-                "[Comet] ", "Wave Complete! Your rewards:", " - ");
+                "[Comet] ", "Wave Complete! Your rewards:", " - ", null);
     }
 
     /**
@@ -203,7 +203,8 @@ public class ThemeConfigWriter {
             String msgWaveTitle, String msgWaveTitleNoCount, String msgWaveSubtitle,
             String msgWaveFailedTitle, String msgWaveFailedSubtitle,
             String msgWaveCompleteTitle, String msgWaveCompleteSubtitle,
-            String msgWaveCompleteChatHeaderPrefix, String msgWaveCompleteChatHeader, String msgWaveCompleteChatItemPrefix) {
+            String msgWaveCompleteChatHeaderPrefix, String msgWaveCompleteChatHeader, String msgWaveCompleteChatItemPrefix,
+            Map<String, String> logLevels) {
 
         StringBuilder sb = new StringBuilder();
         sb.append("{\n");
@@ -240,6 +241,9 @@ public class ThemeConfigWriter {
         // Generic claim-protection providers
         writeClaimProtectSettings(sb, claimProtectEnabled, claimProtectAutoDetectProviders, claimProtectProviders);
 
+        // Per-category log levels
+        writeLogLevels(sb, logLevels);
+
         // Tier settings section
         sb.append(INDENT).append("\"tierSettings\": {\n");
         int tierCount = 0;
@@ -664,6 +668,25 @@ public class ThemeConfigWriter {
         sb.append(INDENT).append("},\n\n");
     }
 
+    private static void writeLogLevels(StringBuilder sb, Map<String, String> logLevels) {
+        sb.append(INDENT).append("\"logLevels\": {\n");
+        int count = 0;
+        int size = (logLevels == null) ? 0 : logLevels.size();
+        if (logLevels != null) {
+            for (Map.Entry<String, String> entry : logLevels.entrySet()) {
+                count++;
+                sb.append(INDENT).append(INDENT)
+                        .append("\"").append(escapeString(entry.getKey())).append("\": \"")
+                        .append(escapeString(entry.getValue())).append("\"");
+                if (count < size) {
+                    sb.append(",");
+                }
+                sb.append("\n");
+            }
+        }
+        sb.append(INDENT).append("},\n\n");
+    }
+
     private static List<String> sanitizeWorldNames(List<String> worldNames) {
         if (worldNames == null || worldNames.isEmpty()) {
             return java.util.Collections.emptyList();
@@ -1,12 +1,14 @@
 package com.cometmod.integration;
 
 import com.cometmod.CometConfig;
+import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.server.core.universe.world.World;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
@@ -27,6 +29,32 @@ public final class ClaimProtectionGuard {
             "ultimatefaction",
             "elbaphfactions");
 
+    /** Chunk claim decisions are reused for this long before the providers are asked again. */
+    private static final long CLAIM_CACHE_TTL_MS = 30_000L;
+    private static final int CLAIM_CACHE_MAX_CHUNKS = 16_384;
+
+    /** Providers resolved for one config instance; a reload creates a new config and so a new resolution. */
+    private static final class ResolvedProviders {
+        final CometConfig config;
+        final List<String> keys;
+        /** Chunk-granular claim providers: their answer is the same for every block of a chunk. */
+        final List<String> chunkKeys;
+        /** WorldProtect regions are arbitrary boxes, so they are always checked per block. */
+        final boolean checkRegions;
+
+        ResolvedProviders(CometConfig config, List<String> keys) {
+            this.config = config;
+            this.keys = List.copyOf(keys);
+            List<String> chunk = new ArrayList<>(keys);
+            this.checkRegions = chunk.remove("worldprotect");
+            this.chunkKeys = List.copyOf(chunk);
+        }
+    }
+
+    private static volatile ResolvedProviders resolved;
+    /** Key: world, then chunk index. Value: expiry time in ms, shifted left one bit, low bit set when claimed. */
+    private static final Map<World, Map<Long, Long>> chunkClaimCache = new ConcurrentHashMap<>();
+
     private ClaimProtectionGuard() {
     }
 
@@ -37,10 +65,12 @@ public final class ClaimProtectionGuard {
 
         boolean claimProtectActive = config.isClaimProtectEnabled();
         if (claimProtectActive) {
-            for (String providerKey : resolveProviderKeys(config)) {
-                if (isClaimedByProvider(providerKey, world, x, y, z)) {
-                    return false;
-                }
+            ResolvedProviders providers = resolve(config);
+            if (!providers.chunkKeys.isEmpty() && isChunkClaimed(providers, world, x, y, z)) {
+                return false;
+            }
+            if (providers.checkRegions && isClaimedByProvider("worldprotect", world, x, y, z)) {
+                return false;
             }
         }
 
@@ -48,7 +78,57 @@ public final class ClaimProtectionGuard {
     }
 
     public static List<String> getResolvedProviderKeys(CometConfig config) {
-        return new ArrayList<>(resolveProviderKeys(config));
+        return new ArrayList<>(resolve(config).keys);
+    }
+
+    /** Forget a removed world so neither its cached chunk decisions nor the World itself are retained. */
+    public static void removeWorld(World world) {
+        if (world != null) {
+            chunkClaimCache.remove(world);
+        }
+    }
+
+    private static ResolvedProviders resolve(CometConfig config) {
+        ResolvedProviders current = resolved;
+        if (current != null && current.config == config) {
+            return current;
+        }
+        synchronized (ClaimProtectionGuard.class) {
+            current = resolved;
+            if (current == null || current.config != config) {
+                current = new ResolvedProviders(config, resolveProviderKeys(config));
+                resolved = current;
+                chunkClaimCache.clear();
+            }
+            return current;
+        }
+    }
+
+    private static boolean isChunkClaimed(ResolvedProviders providers, World world, int x, int y, int z) {
+        if (world == null) {
+            return false;
+        }
+        Map<Long, Long> worldCache = chunkClaimCache.computeIfAbsent(world, w -> new ConcurrentHashMap<>());
+        long chunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
+        long now = System.currentTimeMillis();
+        Long cached = worldCache.get(chunkIndex);
+        if (cached != null && (cached >>> 1) > now) {
+            return (cached & 1L) != 0;
+        }
+
+        boolean claimed = false;
+        for (String providerKey : providers.chunkKeys) {
+            if (isClaimedByProvider(providerKey, world, x, y, z)) {
+                claimed = true;
+                break;
+            }
+        }
+
+        if (worldCache.size() >= CLAIM_CACHE_MAX_CHUNKS) {
+            worldCache.clear();
+        }
+        worldCache.put(chunkIndex, ((now + CLAIM_CACHE_TTL_MS) << 1) | (claimed ? 1L : 0L));
+        return claimed;
     }
 
     private static boolean isClaimedByProvider(String providerKey, World world, int x, int y, int z) {
@@ -3,7 +3,7 @@ package com.cometmod.integration;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.server.core.universe.world.World;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Locale;
 import java.util.logging.Logger;
 
@@ -14,8 +14,15 @@ public final class ElbaphFactionsClaimGuard {
 
     private static final Logger LOGGER = Logger.getLogger(ElbaphFactionsClaimGuard.class.getName());
 
-    private static Method claimManagerGetInstanceMethod;
-    private static Method isChunkClaimedMethod;
+    /** Bound on first use; every handle is null when ElbaphFactions is not installed. */
+    private static final class Api {
+        static final Class<?> MANAGER = IntegrationBinder.findClass("net.elbaph.factions.factions.ClaimManager");
+        static final MethodHandle GET_INSTANCE = IntegrationBinder.bindOrNull(MANAGER, "getInstance",
+                IntegrationBinder.GETTER);
+        static final MethodHandle IS_CHUNK_CLAIMED = IntegrationBinder.bindOrNull(MANAGER, "isChunkClaimed",
+                IntegrationBinder.CHUNK_TEST, String.class, int.class, int.class);
+    }
+
     private static boolean warnedMissingApi;
     private static boolean warnedApiFailure;
 
@@ -40,10 +47,6 @@ public final class ElbaphFactionsClaimGuard {
         int chunkZ = ChunkUtil.chunkCoordinate(blockZ);
 
         try {
-            if (isChunkClaimedMethod == null) {
-                isChunkClaimedMethod = claimManager.getClass().getMethod("isChunkClaimed",
-                        String.class, int.class, int.class);
-            }
             String worldName = world.getName();
             if (isClaimedInWorldKey(claimManager, worldName, chunkX, chunkZ)) {
                 return true;
@@ -51,34 +54,39 @@ public final class ElbaphFactionsClaimGuard {
 
             String lowerName = worldName.toLowerCase(Locale.ROOT);
             return !lowerName.equals(worldName) && isClaimedInWorldKey(claimManager, lowerName, chunkX, chunkZ);
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("ElbaphFactions API call failed, claim checks disabled for this run: " + e.getMessage());
             }
             return false;
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
     }
 
     private static boolean isClaimedInWorldKey(Object claimManager, String worldKey, int chunkX, int chunkZ)
-            throws Exception {
-        Object claimed = isChunkClaimedMethod.invoke(claimManager, worldKey, chunkX, chunkZ);
-        return claimed instanceof Boolean && ((Boolean) claimed);
+            throws Throwable {
+        return (boolean) Api.IS_CHUNK_CLAIMED.invokeExact(claimManager, worldKey, chunkX, chunkZ);
     }
 
     private static Object getClaimManager() {
         try {
-            if (claimManagerGetInstanceMethod == null) {
-                Class<?> managerClass = Class.forName("net.elbaph.factions.factions.ClaimManager");
-                claimManagerGetInstanceMethod = managerClass.getMethod("getInstance");
+            if (Api.GET_INSTANCE != null && Api.IS_CHUNK_CLAIMED != null) {
+                Object claimManager = (Object) Api.GET_INSTANCE.invokeExact((Object) null);
+                if (claimManager != null) {
+                    return claimManager;
+                }
             }
-            return claimManagerGetInstanceMethod.invoke(null);
-        } catch (Exception e) {
-            if (!warnedMissingApi) {
-                warnedMissingApi = true;
-                LOGGER.warning("ElbaphFactions not detected. ElbaphFactions claim checks are inactive.");
-            }
-            return null;
+        } catch (Exception | LinkageError e) {
+            // Reported below as not detected
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
+        }
+        if (!warnedMissingApi) {
+            warnedMissingApi = true;
+            LOGGER.warning("ElbaphFactions not detected. ElbaphFactions claim checks are inactive.");
         }
+        return null;
     }
 }
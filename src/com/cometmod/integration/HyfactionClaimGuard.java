@@ -3,7 +3,7 @@ package com.cometmod.integration;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.server.core.universe.world.World;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Locale;
 import java.util.logging.Logger;
 
@@ -14,10 +14,19 @@ public final class HyfactionClaimGuard {
 
     private static final Logger LOGGER = Logger.getLogger(HyfactionClaimGuard.class.getName());
 
-    private static Method claimManagerGetInstanceMethod;
-    private static Method getChunkMethod;
-    private static Method isSafeZoneMethod;
-    private static Method isWarZoneMethod;
+    /** Bound on first use; every handle is null when Hyfaction is not installed. */
+    private static final class Api {
+        static final Class<?> MANAGER = IntegrationBinder.findClass("com.kaws.hyfaction.claim.ClaimManager");
+        static final MethodHandle GET_INSTANCE = IntegrationBinder.bindOrNull(MANAGER, "getInstance",
+                IntegrationBinder.GETTER);
+        static final MethodHandle GET_CHUNK = IntegrationBinder.bindOrNull(MANAGER, "getChunk",
+                IntegrationBinder.CHUNK_LOOKUP, String.class, int.class, int.class);
+        static final MethodHandle IS_SAFE_ZONE = IntegrationBinder.bindOrNull(MANAGER, "isSafeZone",
+                IntegrationBinder.CHUNK_TEST, String.class, int.class, int.class);
+        static final MethodHandle IS_WAR_ZONE = IntegrationBinder.bindOrNull(MANAGER, "isWarZone",
+                IntegrationBinder.CHUNK_TEST, String.class, int.class, int.class);
+    }
+
     private static boolean warnedMissingApi;
     private static boolean warnedApiFailure;
 
@@ -49,53 +58,46 @@ public final class HyfactionClaimGuard {
 
             String lowerName = worldName.toLowerCase(Locale.ROOT);
             return !lowerName.equals(worldName) && isClaimedInWorldKey(claimManager, lowerName, chunkX, chunkZ);
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("Hyfaction API call failed, claim checks disabled for this run: " + e.getMessage());
             }
             return false;
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
     }
 
     private static boolean isClaimedInWorldKey(Object claimManager, String worldKey, int chunkX, int chunkZ)
-            throws Exception {
-        if (getChunkMethod == null) {
-            getChunkMethod = claimManager.getClass().getMethod("getChunk", String.class, int.class, int.class);
-        }
-        Object chunk = getChunkMethod.invoke(claimManager, worldKey, chunkX, chunkZ);
+            throws Throwable {
+        Object chunk = (Object) Api.GET_CHUNK.invokeExact(claimManager, worldKey, chunkX, chunkZ);
         if (chunk != null) {
             return true;
         }
-
-        if (isSafeZoneMethod == null) {
-            isSafeZoneMethod = claimManager.getClass().getMethod("isSafeZone", String.class, int.class, int.class);
-        }
-        Object safeZone = isSafeZoneMethod.invoke(claimManager, worldKey, chunkX, chunkZ);
-        if (safeZone instanceof Boolean && ((Boolean) safeZone)) {
+        if (Api.IS_SAFE_ZONE != null && (boolean) Api.IS_SAFE_ZONE.invokeExact(claimManager, worldKey, chunkX, chunkZ)) {
             return true;
         }
-
-        if (isWarZoneMethod == null) {
-            isWarZoneMethod = claimManager.getClass().getMethod("isWarZone", String.class, int.class, int.class);
-        }
-        Object warZone = isWarZoneMethod.invoke(claimManager, worldKey, chunkX, chunkZ);
-        return warZone instanceof Boolean && ((Boolean) warZone);
+        return Api.IS_WAR_ZONE != null && (boolean) Api.IS_WAR_ZONE.invokeExact(claimManager, worldKey, chunkX, chunkZ);
     }
 
     private static Object getClaimManager() {
         try {
-            if (claimManagerGetInstanceMethod == null) {
-                Class<?> managerClass = Class.forName("com.kaws.hyfaction.claim.ClaimManager");
-                claimManagerGetInstanceMethod = managerClass.getMethod("getInstance");
+            if (Api.GET_INSTANCE != null && Api.GET_CHUNK != null) {
+                Object claimManager = (Object) Api.GET_INSTANCE.invokeExact((Object) null);
+                if (claimManager != null) {
+                    return claimManager;
+                }
             }
-            return claimManagerGetInstanceMethod.invoke(null);
-        } catch (Exception e) {
-            if (!warnedMissingApi) {
-                warnedMissingApi = true;
-                LOGGER.warning("Hyfaction not detected. Hyfaction claim checks are inactive.");
-            }
-            return null;
+        } catch (Exception | LinkageError e) {
+            // Reported below as not detected
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
+        }
+        if (!warnedMissingApi) {
+            warnedMissingApi = true;
+            LOGGER.warning("Hyfaction not detected. Hyfaction claim checks are inactive.");
         }
+        return null;
     }
 }
@@ -3,7 +3,7 @@ package com.cometmod.integration;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.server.core.universe.world.World;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Locale;
 import java.util.logging.Logger;
 
@@ -14,8 +14,14 @@ public final class HyperFactionsClaimGuard {
 
     private static final Logger LOGGER = Logger.getLogger(HyperFactionsClaimGuard.class.getName());
 
-    private static Method isAvailableMethod;
-    private static Method isClaimedMethod;
+    /** Bound on first use; every handle is null when HyperFactions is not installed. */
+    private static final class Api {
+        static final Class<?> API = IntegrationBinder.findClass("com.hyperfactions.api.HyperFactionsAPI");
+        static final MethodHandle IS_AVAILABLE = IntegrationBinder.bindOrNull(API, "isAvailable", IntegrationBinder.FLAG);
+        static final MethodHandle IS_CLAIMED = IntegrationBinder.bindOrNull(API, "isClaimed", IntegrationBinder.CHUNK_TEST,
+                String.class, int.class, int.class);
+    }
+
     private static boolean warnedMissingApi;
     private static boolean warnedApiFailure;
 
@@ -45,36 +51,35 @@ public final class HyperFactionsClaimGuard {
 
             String lowerName = worldName.toLowerCase(Locale.ROOT);
             return !lowerName.equals(worldName) && invokeIsClaimed(lowerName, chunkX, chunkZ);
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("HyperFactions API call failed, claim checks disabled for this run: " + e.getMessage());
             }
             return false;
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
     }
 
-    private static boolean invokeIsClaimed(String worldKey, int chunkX, int chunkZ) throws Exception {
-        Object claimed = isClaimedMethod.invoke(null, worldKey, chunkX, chunkZ);
-        return claimed instanceof Boolean && ((Boolean) claimed);
+    private static boolean invokeIsClaimed(String worldKey, int chunkX, int chunkZ) throws Throwable {
+        return (boolean) Api.IS_CLAIMED.invokeExact((Object) null, worldKey, chunkX, chunkZ);
     }
 
     private static boolean isApiAvailable() {
         try {
-            if (isAvailableMethod == null || isClaimedMethod == null) {
-                Class<?> apiClass = Class.forName("com.hyperfactions.api.HyperFactionsAPI");
-                isAvailableMethod = apiClass.getMethod("isAvailable");
-                isClaimedMethod = apiClass.getMethod("isClaimed", String.class, int.class, int.class);
-            }
-
-            Object available = isAvailableMethod.invoke(null);
-            return available instanceof Boolean && ((Boolean) available);
-        } catch (Exception e) {
-            if (!warnedMissingApi) {
-                warnedMissingApi = true;
-                LOGGER.warning("HyperFactions not detected. HyperFactions claim checks are inactive.");
+            if (Api.IS_AVAILABLE != null && Api.IS_CLAIMED != null) {
+                return (boolean) Api.IS_AVAILABLE.invokeExact((Object) null);
             }
-            return false;
+        } catch (Exception | LinkageError e) {
+            // Reported below as not detected
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
+        }
+        if (!warnedMissingApi) {
+            warnedMissingApi = true;
+            LOGGER.warning("HyperFactions not detected. HyperFactions claim checks are inactive.");
         }
+        return false;
     }
 }
@@ -0,0 +1,93 @@
+package com.cometmod.integration;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Binds a provider API method (looked up reflectively once) to a MethodHandle of a fixed shape, so
+ * guards call it with invokeExact: no Object[] argument array, no int boxing, no reflective dispatch.
+ * Static methods get a leading ignored receiver so every shape starts with the receiver (pass null).
+ *
+ * Guards keep their handles in static final fields of a nested holder class. The holder is initialized
+ * on first use, which publishes the handles safely and lets the JIT treat them as constants. Binding
+ * happens once: a provider that is not loaded when its guard is first used stays inactive until restart.
+ * Guards are first used from comet spawning and /comet reload, both after every plugin has started.
+ */
+final class IntegrationBinder {
+
+    /** (receiver, worldKey, chunkX, chunkZ) -> boolean */
+    static final MethodType CHUNK_TEST = MethodType.methodType(boolean.class, Object.class, String.class, int.class, int.class);
+    /** (receiver, worldKey, chunkX, chunkZ) -> Object */
+    static final MethodType CHUNK_LOOKUP = MethodType.methodType(Object.class, Object.class, String.class, int.class, int.class);
+    /** (receiver, worldKey, x, y, z) -> Object */
+    static final MethodType BLOCK_LOOKUP = MethodType.methodType(Object.class, Object.class, String.class, int.class, int.class, int.class);
+    /** (receiver) -> boolean */
+    static final MethodType FLAG = MethodType.methodType(boolean.class, Object.class);
+    /** (receiver) -> Object */
+    static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private IntegrationBinder() {
+    }
+
+    static MethodHandle bind(Method method, MethodType shape) throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(shape);
+    }
+
+    static MethodHandle bind(Class<?> owner, String name, MethodType shape, Class<?>... parameterTypes)
+            throws NoSuchMethodException, IllegalAccessException {
+        return bind(owner.getMethod(name, parameterTypes), shape);
+    }
+
+    /** The named class, or null when the provider plugin is not installed. */
+    static Class<?> findClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /** Like bind, but null when owner is null or the method is missing, inaccessible or of another shape. */
+    static MethodHandle bindOrNull(Class<?> owner, String name, MethodType shape, Class<?>... parameterTypes) {
+        if (owner == null) {
+            return null;
+        }
+        try {
+            return bind(owner, name, shape, parameterTypes);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /** Declared return type of a public method, or null when owner is null or the method is missing. */
+    static Class<?> returnType(Class<?> owner, String name, Class<?>... parameterTypes) {
+        if (owner == null) {
+            return null;
+        }
+        try {
+            return owner.getMethod(name, parameterTypes).getReturnType();
+        } catch (NoSuchMethodException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * For the catch-all after a guard's catch (Exception | LinkageError). invokeExact declares
+     * Throwable, but anything left here is an Error such as OutOfMemoryError or StackOverflowError,
+     * which must propagate instead of disabling the integration. Use as: throw rethrow(t).
+     */
+    static RuntimeException rethrow(Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new UndeclaredThrowableException(t);
+    }
+}
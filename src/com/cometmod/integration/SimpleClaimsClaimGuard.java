@@ -3,7 +3,7 @@ package com.cometmod.integration;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.server.core.universe.world.World;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Locale;
 import java.util.logging.Logger;
 
@@ -14,8 +14,15 @@ public final class SimpleClaimsClaimGuard {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleClaimsClaimGuard.class.getName());
 
-    private static Method claimManagerGetInstanceMethod;
-    private static Method getChunkMethod;
+    /** Bound on first use; every handle is null when SimpleClaims is not installed. */
+    private static final class Api {
+        static final Class<?> MANAGER = IntegrationBinder.findClass("com.buuz135.simpleclaims.claim.ClaimManager");
+        static final MethodHandle GET_INSTANCE = IntegrationBinder.bindOrNull(MANAGER, "getInstance",
+                IntegrationBinder.GETTER);
+        static final MethodHandle GET_CHUNK = IntegrationBinder.bindOrNull(MANAGER, "getChunk",
+                IntegrationBinder.CHUNK_LOOKUP, String.class, int.class, int.class);
+    }
+
     private static boolean warnedMissingApi;
     private static boolean warnedApiFailure;
 
@@ -40,10 +47,6 @@ public final class SimpleClaimsClaimGuard {
         int chunkZ = ChunkUtil.chunkCoordinate(blockZ);
 
         try {
-            if (getChunkMethod == null) {
-                getChunkMethod = claimManager.getClass().getMethod("getChunk", String.class, int.class, int.class);
-            }
-
             String worldName = world.getName();
             if (isClaimedInWorldKey(claimManager, worldName, chunkX, chunkZ)) {
                 return true;
@@ -51,34 +54,40 @@ public final class SimpleClaimsClaimGuard {
 
             String lowerName = worldName.toLowerCase(Locale.ROOT);
             return !lowerName.equals(worldName) && isClaimedInWorldKey(claimManager, lowerName, chunkX, chunkZ);
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("SimpleClaims API call failed, claim checks disabled for this run: " + e.getMessage());
             }
             return false;
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
     }
 
     private static boolean isClaimedInWorldKey(Object claimManager, String worldKey, int chunkX, int chunkZ)
-            throws Exception {
-        Object chunk = getChunkMethod.invoke(claimManager, worldKey, chunkX, chunkZ);
+            throws Throwable {
+        Object chunk = (Object) Api.GET_CHUNK.invokeExact(claimManager, worldKey, chunkX, chunkZ);
         return chunk != null;
     }
 
     private static Object getClaimManager() {
         try {
-            if (claimManagerGetInstanceMethod == null) {
-                Class<?> managerClass = Class.forName("com.buuz135.simpleclaims.claim.ClaimManager");
-                claimManagerGetInstanceMethod = managerClass.getMethod("getInstance");
-            }
-            return claimManagerGetInstanceMethod.invoke(null);
-        } catch (Exception e) {
-            if (!warnedMissingApi) {
-                warnedMissingApi = true;
-                LOGGER.warning("SimpleClaims not detected. SimpleClaims claim checks are inactive.");
+            if (Api.GET_INSTANCE != null && Api.GET_CHUNK != null) {
+                Object claimManager = (Object) Api.GET_INSTANCE.invokeExact((Object) null);
+                if (claimManager != null) {
+                    return claimManager;
+                }
             }
-            return null;
+        } catch (Exception | LinkageError e) {
+            // Reported below as not detected
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
+        }
+        if (!warnedMissingApi) {
+            warnedMissingApi = true;
+            LOGGER.warning("SimpleClaims not detected. SimpleClaims claim checks are inactive.");
         }
+        return null;
     }
 }
@@ -6,6 +6,7 @@ import com.hypixel.hytale.server.core.plugin.PluginBase;
 import com.hypixel.hytale.server.core.plugin.PluginManager;
 import com.hypixel.hytale.server.core.universe.world.World;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Locale;
 import java.util.Optional;
@@ -19,8 +20,24 @@ public final class UltimateFactionClaimGuard {
     private static final Logger LOGGER = Logger.getLogger(UltimateFactionClaimGuard.class.getName());
     private static final PluginIdentifier ULTIMATE_FACTION_ID = new PluginIdentifier("com.tinky", "Ultimate Faction");
 
-    private static Method getClaimStoreMethod;
-    private static Method claimStoreGetClaimMethod;
+    /**
+     * Handles bound against the loaded plugin instance. The plugin class is only known once PluginManager
+     * returns it, so this cannot be a static final holder; instead an immutable Api is published through a
+     * volatile field and rebuilt when the plugin instance changes (e.g. after a plugin reload).
+     */
+    private static final class Api {
+        final PluginBase plugin;
+        final MethodHandle getClaimStore;
+        final MethodHandle getClaim;
+
+        Api(PluginBase plugin, MethodHandle getClaimStore, MethodHandle getClaim) {
+            this.plugin = plugin;
+            this.getClaimStore = getClaimStore;
+            this.getClaim = getClaim;
+        }
+    }
+
+    private static volatile Api api;
     private static boolean warnedMissingApi;
     private static boolean warnedApiFailure;
 
@@ -36,8 +53,8 @@ public final class UltimateFactionClaimGuard {
             return false;
         }
 
-        Object claimStore = getClaimStore();
-        if (claimStore == null) {
+        Api current = resolveApi();
+        if (current == null) {
             return false;
         }
 
@@ -45,31 +62,35 @@ public final class UltimateFactionClaimGuard {
         int chunkZ = ChunkUtil.chunkCoordinate(blockZ);
 
         try {
-            if (claimStoreGetClaimMethod == null) {
-                claimStoreGetClaimMethod = claimStore.getClass().getMethod("getClaim", String.class, int.class, int.class);
+            Object claimStore = (Object) current.getClaimStore.invokeExact((Object) current.plugin);
+            if (claimStore == null) {
+                return false;
             }
 
-            if (isClaimPresent(claimStore, world.getName(), chunkX, chunkZ)) {
+            if (isClaimPresent(current, claimStore, world.getName(), chunkX, chunkZ)) {
                 return true;
             }
 
             String lowerName = world.getName().toLowerCase(Locale.ROOT);
-            if (!lowerName.equals(world.getName()) && isClaimPresent(claimStore, lowerName, chunkX, chunkZ)) {
+            if (!lowerName.equals(world.getName()) && isClaimPresent(current, claimStore, lowerName, chunkX, chunkZ)) {
                 return true;
             }
 
             return false;
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("UltimateFaction API call failed, claim checks disabled for this run: " + e.getMessage());
             }
             return false;
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
     }
 
-    private static boolean isClaimPresent(Object claimStore, String worldKey, int chunkX, int chunkZ) throws Exception {
-        Object result = claimStoreGetClaimMethod.invoke(claimStore, worldKey, chunkX, chunkZ);
+    private static boolean isClaimPresent(Api current, Object claimStore, String worldKey, int chunkX, int chunkZ)
+            throws Throwable {
+        Object result = (Object) current.getClaim.invokeExact(claimStore, worldKey, chunkX, chunkZ);
         if (result instanceof Optional<?> optional) {
             return optional.isPresent();
         }
@@ -78,12 +99,32 @@ public final class UltimateFactionClaimGuard {
             return false;
         }
 
+        // Optional-like result from another API: rare, so plain reflection is fine here
         Method isPresentMethod = result.getClass().getMethod("isPresent");
         Object present = isPresentMethod.invoke(result);
         return present instanceof Boolean && ((Boolean) present);
     }
 
     private static Object getClaimStore() {
+        Api current = resolveApi();
+        if (current == null) {
+            return null;
+        }
+        try {
+            return (Object) current.getClaimStore.invokeExact((Object) current.plugin);
+        } catch (Exception | LinkageError e) {
+            if (!warnedApiFailure) {
+                warnedApiFailure = true;
+                LOGGER.warning("UltimateFaction lookup failed, claim checks disabled for this run: " + e.getMessage());
+            }
+            return null;
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
+        }
+    }
+
+    /** Handles for the currently loaded plugin, or null when it is not installed or its API does not bind. */
+    private static Api resolveApi() {
         try {
             PluginManager pluginManager = PluginManager.get();
             if (pluginManager == null) {
@@ -99,11 +140,18 @@ public final class UltimateFactionClaimGuard {
                 return null;
             }
 
-            if (getClaimStoreMethod == null) {
-                getClaimStoreMethod = plugin.getClass().getMethod("getClaimStore");
+            Api current = api;
+            if (current != null && current.plugin == plugin) {
+                return current;
             }
-            return getClaimStoreMethod.invoke(plugin);
-        } catch (Exception e) {
+
+            Method getClaimStore = plugin.getClass().getMethod("getClaimStore");
+            MethodHandle getClaim = IntegrationBinder.bind(getClaimStore.getReturnType(), "getClaim",
+                    IntegrationBinder.CHUNK_LOOKUP, String.class, int.class, int.class);
+            current = new Api(plugin, IntegrationBinder.bind(getClaimStore, IntegrationBinder.GETTER), getClaim);
+            api = current;
+            return current;
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("UltimateFaction lookup failed, claim checks disabled for this run: " + e.getMessage());
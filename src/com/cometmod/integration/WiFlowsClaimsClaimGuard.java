@@ -3,7 +3,7 @@ package com.cometmod.integration;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.server.core.universe.world.World;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.Locale;
 import java.util.logging.Logger;
 
@@ -14,7 +14,13 @@ public final class WiFlowsClaimsClaimGuard {
 
     private static final Logger LOGGER = Logger.getLogger(WiFlowsClaimsClaimGuard.class.getName());
 
-    private static Method getClaimOwnerMethod;
+    /** Bound on first use; the handle is null when WiFlowsClaims is not installed. */
+    private static final class Api {
+        static final MethodHandle GET_CLAIM_OWNER = IntegrationBinder.bindOrNull(
+                IntegrationBinder.findClass("com.wiflowsclaims.WiFlowsClaimsAccess"), "getClaimOwner",
+                IntegrationBinder.CHUNK_LOOKUP, String.class, int.class, int.class);
+    }
+
     private static boolean warnedMissingApi;
     private static boolean warnedApiFailure;
 
@@ -30,7 +36,7 @@ public final class WiFlowsClaimsClaimGuard {
             return false;
         }
 
-        Method method = resolveApiMethod();
+        MethodHandle method = resolveApiMethod();
         if (method == null) {
             return false;
         }
@@ -46,33 +52,29 @@ public final class WiFlowsClaimsClaimGuard {
 
             String lowerName = worldName.toLowerCase(Locale.ROOT);
             return !lowerName.equals(worldName) && isClaimedInWorldKey(method, lowerName, chunkX, chunkZ);
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("WiFlowsClaims API call failed, claim checks disabled for this run: " + e.getMessage());
             }
             return false;
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
     }
 
-    private static boolean isClaimedInWorldKey(Method method, String worldKey, int chunkX, int chunkZ) throws Exception {
-        Object owner = method.invoke(null, worldKey, chunkX, chunkZ);
+    private static boolean isClaimedInWorldKey(MethodHandle method, String worldKey, int chunkX, int chunkZ)
+            throws Throwable {
+        Object owner = (Object) method.invokeExact((Object) null, worldKey, chunkX, chunkZ);
         return owner != null;
     }
 
-    private static Method resolveApiMethod() {
-        try {
-            if (getClaimOwnerMethod == null) {
-                Class<?> accessClass = Class.forName("com.wiflowsclaims.WiFlowsClaimsAccess");
-                getClaimOwnerMethod = accessClass.getMethod("getClaimOwner", String.class, int.class, int.class);
-            }
-            return getClaimOwnerMethod;
-        } catch (Exception e) {
-            if (!warnedMissingApi) {
-                warnedMissingApi = true;
-                LOGGER.warning("WiFlowsClaims not detected. WiFlowsClaims claim checks are inactive.");
-            }
-            return null;
+    private static MethodHandle resolveApiMethod() {
+        MethodHandle method = Api.GET_CLAIM_OWNER;
+        if (method == null && !warnedMissingApi) {
+            warnedMissingApi = true;
+            LOGGER.warning("WiFlowsClaims not detected. WiFlowsClaims claim checks are inactive.");
         }
+        return method;
     }
 }
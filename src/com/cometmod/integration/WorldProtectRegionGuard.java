@@ -3,7 +3,7 @@ package com.cometmod.integration;
 import com.cometmod.CometConfig;
 import com.hypixel.hytale.server.core.universe.world.World;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
@@ -16,10 +16,21 @@ public final class WorldProtectRegionGuard {
 
     private static final Logger LOGGER = Logger.getLogger(WorldProtectRegionGuard.class.getName());
 
-    private static Method regionServiceAccessor;
-    private static Method primaryRegionAccessor;
-    private static Method listAllRegionsAccessor;
-    private static Method regionIdAccessor;
+    /** Bound on first use from the declared API types; every handle is null when WorldProtect is not installed. */
+    private static final class Api {
+        static final Class<?> SERVICES = IntegrationBinder.findClass("dev.worldprotect.worldprotect.util.WorldProtectServices");
+        static final MethodHandle REGION_SERVICE = IntegrationBinder.bindOrNull(SERVICES, "regionService",
+                IntegrationBinder.GETTER);
+        static final Class<?> REGION_SERVICE_TYPE = IntegrationBinder.returnType(SERVICES, "regionService");
+        static final MethodHandle PRIMARY_REGION = IntegrationBinder.bindOrNull(REGION_SERVICE_TYPE,
+                "getPrimaryRegionAt", IntegrationBinder.BLOCK_LOOKUP, String.class, int.class, int.class, int.class);
+        static final MethodHandle LIST_ALL_REGIONS = IntegrationBinder.bindOrNull(REGION_SERVICE_TYPE,
+                "listAllRegionsAllWorlds", IntegrationBinder.GETTER);
+        static final MethodHandle REGION_ID = IntegrationBinder.bindOrNull(IntegrationBinder.returnType(
+                REGION_SERVICE_TYPE, "getPrimaryRegionAt", String.class, int.class, int.class, int.class),
+                "id", IntegrationBinder.GETTER);
+    }
+
     private static boolean warnedMissingApi;
     private static boolean warnedApiFailure;
     private static long lastRegionSyncAttemptMs;
@@ -78,46 +89,54 @@ public final class WorldProtectRegionGuard {
         }
 
         try {
-            if (primaryRegionAccessor == null) {
-                primaryRegionAccessor = regionService.getClass().getMethod(
-                        "getPrimaryRegionAt",
-                        String.class, int.class, int.class, int.class);
+            if (Api.PRIMARY_REGION == null) {
+                return null;
             }
 
-            Object region = primaryRegionAccessor.invoke(regionService, world.getName(), x, y, z);
+            Object region = (Object) Api.PRIMARY_REGION.invokeExact(regionService, world.getName(), x, y, z);
             if (region == null) {
                 return null;
             }
 
-            if (regionIdAccessor == null) {
-                regionIdAccessor = region.getClass().getMethod("id");
-            }
-
-            Object regionId = regionIdAccessor.invoke(region);
+            Object regionId = regionId(region);
             return (regionId instanceof String) ? (String) regionId : null;
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("WorldProtect API call failed, protected-zone comet rules disabled for this run: " + e.getMessage());
             }
             return null;
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
     }
 
     private static Object getRegionService() {
         try {
-            if (regionServiceAccessor == null) {
-                Class<?> servicesClass = Class.forName("dev.worldprotect.worldprotect.util.WorldProtectServices");
-                regionServiceAccessor = servicesClass.getMethod("regionService");
-            }
-            return regionServiceAccessor.invoke(null);
-        } catch (Exception e) {
-            if (!warnedMissingApi) {
-                warnedMissingApi = true;
-                LOGGER.warning("WorldProtect not detected. Protected-zone comet rules are inactive.");
+            if (Api.REGION_SERVICE != null) {
+                Object regionService = (Object) Api.REGION_SERVICE.invokeExact((Object) null);
+                if (regionService != null) {
+                    return regionService;
+                }
             }
-            return null;
+        } catch (Exception | LinkageError e) {
+            // Reported below as not detected
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
+        if (!warnedMissingApi) {
+            warnedMissingApi = true;
+            LOGGER.warning("WorldProtect not detected. Protected-zone comet rules are inactive.");
+        }
+        return null;
+    }
+
+    private static Object regionId(Object region) throws Throwable {
+        if (Api.REGION_ID != null) {
+            return (Object) Api.REGION_ID.invokeExact(region);
+        }
+        // Region type not declared on the service (e.g. an interface without id()): plain reflection
+        return region.getClass().getMethod("id").invoke(region);
     }
 
     private static boolean isGlobalRegion(String regionId) {
@@ -144,11 +163,11 @@ public final class WorldProtectRegionGuard {
         }
 
         try {
-            if (listAllRegionsAccessor == null) {
-                listAllRegionsAccessor = regionService.getClass().getMethod("listAllRegionsAllWorlds");
+            if (Api.LIST_ALL_REGIONS == null) {
+                return;
             }
 
-            Object allRegions = listAllRegionsAccessor.invoke(regionService);
+            Object allRegions = (Object) Api.LIST_ALL_REGIONS.invokeExact(regionService);
             if (!(allRegions instanceof Iterable<?> iterable)) {
                 return;
             }
@@ -159,22 +178,20 @@ public final class WorldProtectRegionGuard {
                     continue;
                 }
 
-                if (regionIdAccessor == null) {
-                    regionIdAccessor = region.getClass().getMethod("id");
-                }
-
-                Object idObj = regionIdAccessor.invoke(region);
+                Object idObj = regionId(region);
                 if (idObj instanceof String id && !isGlobalRegion(id)) {
                     regionIds.add(id);
                 }
             }
 
             config.syncProtectedRegionOverrides(regionIds);
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             if (!warnedApiFailure) {
                 warnedApiFailure = true;
                 LOGGER.warning("WorldProtect region sync failed: " + e.getMessage());
             }
+        } catch (Throwable t) {
+            throw IntegrationBinder.rethrow(t);
         }
     }
 }
@@ -22,6 +22,7 @@ import java.util.logging.Logger;
 public class CometRewardService {
 
     public void generateTierRewards(
+            CometConfig config,
             CometTier tier,
             String themeId,
             int zoneId,
@@ -33,11 +34,9 @@ public class CometRewardService {
         tier = CometConfig.clampUnavailableTier(tier);
         int tierNum = toTierNum(tier);
 
-        CometConfig config = CometConfig.getInstance();
-
         // 1) Theme-specific override takes absolute precedence if configured
-        if (themeId != null && WaveThemeProvider.hasRewardOverride(themeId, tier)) {
-            TierRewards override = WaveThemeProvider.getRewardOverride(themeId, tier);
+        if (themeId != null && WaveThemeProvider.hasRewardOverride(config, themeId, tier)) {
+            TierRewards override = WaveThemeProvider.getRewardOverride(config, themeId, tier);
             if (override != null) {
                 logger.info("Using theme reward override for '" + themeId + "' tier " + tierNum);
                 override.generateRewards(random, allItems, droppedItemIds);
@@ -0,0 +1,101 @@
+package com.cometmod.services;
+
+import com.hypixel.hytale.math.vector.Vector3i;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chunk-column bucketed index of comet positions. Radius and box queries only visit the buckets
+ * overlapping the query area instead of scanning every tracked comet.
+ */
+public final class CometSpatialIndex {
+
+    /** Bucket width in blocks as a shift (32-block chunk columns). */
+    static final int BUCKET_SHIFT = 5;
+
+    private final Map<Long, Set<Vector3i>> buckets = new ConcurrentHashMap<>();
+
+    public static long packBucket(int bucketX, int bucketZ) {
+        return ((long) bucketX << 32) | (bucketZ & 0xFFFFFFFFL);
+    }
+
+    public static long bucketKeyFor(int x, int z) {
+        return packBucket(x >> BUCKET_SHIFT, z >> BUCKET_SHIFT);
+    }
+
+    public void add(Vector3i pos) {
+        if (pos == null) return;
+        buckets.computeIfAbsent(bucketKeyFor(pos.x, pos.z), k -> ConcurrentHashMap.newKeySet()).add(pos);
+    }
+
+    public void remove(Vector3i pos) {
+        if (pos == null) return;
+        buckets.computeIfPresent(bucketKeyFor(pos.x, pos.z), (k, set) -> {
+            set.remove(pos);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    /** Indexed position with exactly these coordinates, or null. */
+    public Vector3i findExact(int x, int y, int z) {
+        Set<Vector3i> bucket = buckets.get(bucketKeyFor(x, z));
+        if (bucket == null) return null;
+        for (Vector3i pos : bucket) {
+            if (pos.x == x && pos.y == y && pos.z == z) return pos;
+        }
+        return null;
+    }
+
+    /** Closest indexed position whose per-axis distance to (x,y,z) is at most maxDistance, or null. */
+    public Vector3i findNearestInBox(int x, int y, int z, int maxDistance) {
+        Vector3i best = null;
+        int bestDist = Integer.MAX_VALUE;
+        int minBx = (x - maxDistance) >> BUCKET_SHIFT;
+        int maxBx = (x + maxDistance) >> BUCKET_SHIFT;
+        int minBz = (z - maxDistance) >> BUCKET_SHIFT;
+        int maxBz = (z + maxDistance) >> BUCKET_SHIFT;
+        for (int bx = minBx; bx <= maxBx; bx++) {
+            for (int bz = minBz; bz <= maxBz; bz++) {
+                Set<Vector3i> bucket = buckets.get(packBucket(bx, bz));
+                if (bucket == null) continue;
+                for (Vector3i pos : bucket) {
+                    int d = Math.max(Math.abs(pos.x - x), Math.max(Math.abs(pos.y - y), Math.abs(pos.z - z)));
+                    if (d <= maxDistance && d < bestDist) {
+                        best = pos;
+                        bestDist = d;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /** True if any indexed position lies within euclidean distance of (x,y,z). */
+    public boolean anyWithinDistance(int x, int y, int z, int distance) {
+        if (distance < 0) return false;
+        long maxSq = (long) distance * distance;
+        int minBx = (x - distance) >> BUCKET_SHIFT;
+        int maxBx = (x + distance) >> BUCKET_SHIFT;
+        int minBz = (z - distance) >> BUCKET_SHIFT;
+        int maxBz = (z + distance) >> BUCKET_SHIFT;
+        for (int bx = minBx; bx <= maxBx; bx++) {
+            for (int bz = minBz; bz <= maxBz; bz++) {
+                Set<Vector3i> bucket = buckets.get(packBucket(bx, bz));
+                if (bucket == null) continue;
+                for (Vector3i pos : bucket) {
+                    long dx = pos.x - x;
+                    long dy = pos.y - y;
+                    long dz = pos.z - z;
+                    if (dx * dx + dy * dy + dz * dz <= maxSq) return true;
+                }
+            }
+        }
+        return false;
+    }
+}
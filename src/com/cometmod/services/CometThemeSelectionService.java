@@ -12,7 +12,6 @@ import com.cometmod.wave.*;
 import com.hypixel.hytale.math.vector.Vector3i;
 
 import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -21,29 +20,29 @@ import java.util.logging.Logger;
 public class CometThemeSelectionService {
 
     public String selectThemeId(
+            CometConfig config,
             Vector3i blockPos,
             CometTier tier,
-            Map<Vector3i, String> forcedThemes,
+            CometWaveStateService waveState,
             Logger logger) {
 
         String themeId;
-        if (forcedThemes.containsKey(blockPos)) {
+        if (waveState.hasForcedTheme(blockPos)) {
             // Forced themes are one-time overrides for a specific comet spawn.
-            themeId = forcedThemes.remove(blockPos);
+            themeId = waveState.takeForcedTheme(blockPos);
             if (themeId != null && !themeId.isBlank()) {
-                logger.info("Using forced theme for comet at " + blockPos + ": " + WaveThemeProvider.getThemeName(themeId));
+                logger.info("Using forced theme for comet at " + blockPos + ": " + WaveThemeProvider.getThemeName(config, themeId));
                 return themeId;
             }
             logger.warning("Found blank forced theme at " + blockPos + "; falling back to random selection.");
         }
 
-        themeId = WaveThemeProvider.selectTheme(tier);
+        themeId = WaveThemeProvider.selectTheme(config, tier);
         if (themeId != null) {
             return themeId;
         }
 
         // If selection fails, fall back deterministically to first tier-compatible natural theme.
-        CometConfig config = CometConfig.getInstance();
         if (config != null) {
             int tierNum = WaveThemeProvider.getTierNumber(tier);
             List<ThemeConfig> tierThemes = config.getThemesForTier(tierNum);
@@ -56,7 +55,7 @@ public class CometThemeSelectionService {
         }
 
         // Last-resort fallback if tier-filtered lookup failed.
-        String[] allThemeIds = WaveThemeProvider.getAllThemeIds();
+        String[] allThemeIds = WaveThemeProvider.getAllThemeIds(config);
         if (allThemeIds.length > 0) {
             logger.warning("Theme selection failed for tier " + tier.getName()
                     + "; falling back to first configured theme: " + allThemeIds[0]);
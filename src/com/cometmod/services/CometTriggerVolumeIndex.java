@@ -0,0 +1,97 @@
+package com.cometmod.services;
+
+import com.hypixel.hytale.math.vector.Vector3i;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One axis-aligned trigger box per comet, so any block of a multi-block asset (chest, coffin, portal)
+ * resolves to the canonical comet position. Boxes are filed under every chunk-column bucket they overlap,
+ * so a point query reads a single bucket and removal only touches the comet's own buckets.
+ */
+public final class CometTriggerVolumeIndex {
+
+    private static final int BUCKET_SHIFT = CometSpatialIndex.BUCKET_SHIFT;
+
+    private final Map<Vector3i, TriggerBox> boxesByCanonical = new ConcurrentHashMap<>();
+    private final Map<Long, Set<TriggerBox>> buckets = new ConcurrentHashMap<>();
+
+    private static final class TriggerBox {
+        final Vector3i canonical;
+        final int minX, minY, minZ;
+        final int maxX, maxY, maxZ;
+
+        TriggerBox(Vector3i canonical, int radius) {
+            this.canonical = canonical;
+            this.minX = canonical.x - radius;
+            this.minY = canonical.y - radius;
+            this.minZ = canonical.z - radius;
+            this.maxX = canonical.x + radius;
+            this.maxY = canonical.y + radius;
+            this.maxZ = canonical.z + radius;
+        }
+
+        boolean contains(int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+    }
+
+    /** Register (or replace) the trigger box of half-size radius around the canonical comet position. */
+    public void register(Vector3i canonical, int radius) {
+        if (canonical == null) return;
+        TriggerBox box = new TriggerBox(canonical, Math.max(0, radius));
+        TriggerBox previous = boxesByCanonical.put(canonical, box);
+        if (previous != null) {
+            unlink(previous);
+        }
+        for (int bx = box.minX >> BUCKET_SHIFT; bx <= box.maxX >> BUCKET_SHIFT; bx++) {
+            for (int bz = box.minZ >> BUCKET_SHIFT; bz <= box.maxZ >> BUCKET_SHIFT; bz++) {
+                buckets.computeIfAbsent(CometSpatialIndex.packBucket(bx, bz), k -> ConcurrentHashMap.newKeySet()).add(box);
+            }
+        }
+    }
+
+    public void remove(Vector3i canonical) {
+        if (canonical == null) return;
+        TriggerBox box = boxesByCanonical.remove(canonical);
+        if (box != null) {
+            unlink(box);
+        }
+    }
+
+    public void clear() {
+        boxesByCanonical.clear();
+        buckets.clear();
+    }
+
+    /** Canonical position of the trigger box containing (x,y,z); the closest one wins when boxes overlap. */
+    public Vector3i findContaining(int x, int y, int z) {
+        Set<TriggerBox> bucket = buckets.get(CometSpatialIndex.bucketKeyFor(x, z));
+        if (bucket == null) return null;
+        Vector3i best = null;
+        int bestDist = Integer.MAX_VALUE;
+        for (TriggerBox box : bucket) {
+            if (!box.contains(x, y, z)) continue;
+            Vector3i c = box.canonical;
+            int d = Math.max(Math.abs(c.x - x), Math.max(Math.abs(c.y - y), Math.abs(c.z - z)));
+            if (d < bestDist) {
+                best = c;
+                bestDist = d;
+            }
+        }
+        return best;
+    }
+
+    private void unlink(TriggerBox box) {
+        for (int bx = box.minX >> BUCKET_SHIFT; bx <= box.maxX >> BUCKET_SHIFT; bx++) {
+            for (int bz = box.minZ >> BUCKET_SHIFT; bz <= box.maxZ >> BUCKET_SHIFT; bz++) {
+                buckets.computeIfPresent(CometSpatialIndex.packBucket(bx, bz), (k, set) -> {
+                    set.remove(box);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+    }
+}
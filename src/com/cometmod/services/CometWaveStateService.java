@@ -5,192 +5,399 @@ import com.cometmod.commands.*;
 import com.cometmod.services.*;
 import com.cometmod.spawn.*;
 import com.cometmod.systems.*;
+import com.cometmod.util.BlockPosKey;
 import com.cometmod.wave.*;
 
 
 import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.protocol.packets.worldmap.MapMarker;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
  * Central state holder for comet ownership/tier/theme tracking.
+ * All per-comet state lives in one record per comet, keyed by the packed block position.
  */
 public class CometWaveStateService {
 
-    private final Map<Vector3i, CometWaveManager.CometState> activeComets = new ConcurrentHashMap<>();
-    private final Map<Vector3i, CometTier> cometTiers = new ConcurrentHashMap<>();
-    private final Map<Vector3i, UUID> cometOwners = new ConcurrentHashMap<>();
-    private final Map<Vector3i, Integer> cometZones = new ConcurrentHashMap<>();
-    private final Map<Vector3i, String> cometThemes = new ConcurrentHashMap<>();
-    private final Map<Vector3i, String> forcedThemes = new ConcurrentHashMap<>();
-    /** Maps any block position that is part of a comet asset (e.g. multi-block chest/coffin) to the canonical comet position. */
-    private final Map<Vector3i, Vector3i> triggerPosToCanonical = new ConcurrentHashMap<>();
+    private static final CometWaveManager.CometState[] STATES = CometWaveManager.CometState.values();
+    private static final CometTier[] TIERS = CometTier.values();
+
+    /** Mutable per-comet state. Guarded by the owning service's records lock. */
+    private static final class CometRecord {
+        final Vector3i pos;
+        /** CometState ordinal, or -1 when the comet has no tracked state. */
+        int state = -1;
+        /** CometTier ordinal, or -1 when no tier is registered. */
+        int tier = -1;
+        int zone;
+        boolean hasZone;
+        UUID owner;
+        String theme;
+        String forcedTheme;
+        /** Whether this record is in the marker index, and under which owner (null = global list). */
+        boolean markerListed;
+        UUID markerOwner;
+        /** Prebuilt map marker and the tier/state ordinals it was built for. */
+        MapMarker marker;
+        int markerTier = -1;
+        int markerState = -1;
+
+        CometRecord(Vector3i pos) {
+            this.pos = pos;
+        }
+
+        /** Positions with a state or tier are the ones queries (nearby, registered position) can return. */
+        boolean isIndexed() {
+            return state >= 0 || tier >= 0;
+        }
+
+        boolean isEmpty() {
+            return !isIndexed() && !hasZone && owner == null && theme == null && forcedTheme == null;
+        }
+    }
+
+    private final Long2ObjectOpenHashMap<CometRecord> records = new Long2ObjectOpenHashMap<>();
+    /** Resolves any block position that is part of a comet asset (e.g. multi-block chest/coffin) to the canonical comet position. */
+    private final CometTriggerVolumeIndex triggerVolumes = new CometTriggerVolumeIndex();
+    /** Chunk-bucketed index over every comet that has a state or tier. */
+    private final CometSpatialIndex cometIndex = new CometSpatialIndex();
+    /** Comets with a state (the ones shown on the map), by owner; unowned comets are visible to everyone. */
+    private final Map<UUID, List<CometRecord>> markersByOwner = new HashMap<>();
+    private final List<CometRecord> globalMarkers = new ArrayList<>();
+    /** Bumped whenever the visible comet set or a marker's tier/state changes. Guarded by records. */
+    private long markerVersion;
+
+    private CometRecord record(Vector3i blockPos) {
+        return blockPos != null ? records.get(BlockPosKey.pack(blockPos)) : null;
+    }
+
+    private CometRecord recordOrCreate(Vector3i blockPos) {
+        long key = BlockPosKey.pack(blockPos);
+        CometRecord rec = records.get(key);
+        if (rec == null) {
+            rec = new CometRecord(blockPos);
+            records.put(key, rec);
+        }
+        return rec;
+    }
+
+    /** Keep the marker index in step with the record's state and owner. Caller holds the lock. */
+    private void syncMarkerListing(CometRecord rec) {
+        boolean shouldList = rec.state >= 0;
+        if (rec.markerListed && (!shouldList || rec.markerOwner != rec.owner)) {
+            unlistMarker(rec);
+        }
+        if (shouldList && !rec.markerListed) {
+            if (rec.owner == null) {
+                globalMarkers.add(rec);
+            } else {
+                markersByOwner.computeIfAbsent(rec.owner, k -> new ArrayList<>(2)).add(rec);
+            }
+            rec.markerListed = true;
+            rec.markerOwner = rec.owner;
+        }
+    }
+
+    private void unlistMarker(CometRecord rec) {
+        if (!rec.markerListed) return;
+        if (rec.markerOwner == null) {
+            globalMarkers.remove(rec);
+        } else {
+            List<CometRecord> owned = markersByOwner.get(rec.markerOwner);
+            if (owned != null) {
+                owned.remove(rec);
+                if (owned.isEmpty()) markersByOwner.remove(rec.markerOwner);
+            }
+        }
+        rec.markerListed = false;
+        rec.markerOwner = null;
+    }
+
+    /** Current version of the comet marker set; viewers holding this version are up to date. */
+    public long getMarkerVersion() {
+        synchronized (records) {
+            return markerVersion;
+        }
+    }
+
+    /** Force viewers to refresh their markers on the next update. */
+    public void bumpMarkerVersion() {
+        synchronized (records) {
+            markerVersion++;
+        }
+    }
+
+    /**
+     * Map markers this player may see (unowned comets plus their own).
+     * Markers are built once per comet and rebuilt only when its tier or state changes.
+     */
+    public MapMarker[] getVisibleMarkers(UUID viewerUUID) {
+        synchronized (records) {
+            List<CometRecord> owned = viewerUUID != null ? markersByOwner.get(viewerUUID) : null;
+            int globalCount = globalMarkers.size();
+            MapMarker[] markers = new MapMarker[globalCount + (owned != null ? owned.size() : 0)];
+            for (int i = 0; i < globalCount; i++) {
+                markers[i] = markerFor(globalMarkers.get(i));
+            }
+            for (int i = globalCount; i < markers.length; i++) {
+                markers[i] = markerFor(owned.get(i - globalCount));
+            }
+            return markers;
+        }
+    }
+
+    private static MapMarker markerFor(CometRecord rec) {
+        if (rec.marker == null || rec.markerTier != rec.tier || rec.markerState != rec.state) {
+            CometTier tier = rec.tier >= 0 ? TIERS[rec.tier] : CometTier.UNCOMMON;
+            rec.marker = CometMarkerProvider.buildMarker(rec.pos, tier, STATES[rec.state]);
+            rec.markerTier = rec.tier;
+            rec.markerState = rec.state;
+        }
+        return rec.marker;
+    }
+
+    /** Drop the record (and its index entry) once nothing is tracked for it anymore. Caller holds the lock. */
+    private void pruneIfEmpty(CometRecord rec) {
+        syncMarkerListing(rec);
+        if (!rec.isIndexed()) {
+            cometIndex.remove(rec.pos);
+        }
+        if (rec.isEmpty()) {
+            records.remove(BlockPosKey.pack(rec.pos));
+        }
+    }
 
     public CometWaveManager.CometState getCometState(Vector3i blockPos) {
-        CometWaveManager.CometState state = activeComets.get(blockPos);
-        return state != null ? state : CometWaveManager.CometState.UNTOUCHED;
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            return rec != null && rec.state >= 0 ? STATES[rec.state] : CometWaveManager.CometState.UNTOUCHED;
+        }
     }
 
     public Map<Vector3i, CometWaveManager.CometState> getActiveCometsSnapshot() {
-        return new HashMap<>(activeComets);
+        synchronized (records) {
+            Map<Vector3i, CometWaveManager.CometState> snapshot = new HashMap<>();
+            for (CometRecord rec : records.values()) {
+                if (rec.state >= 0) snapshot.put(rec.pos, STATES[rec.state]);
+            }
+            return snapshot;
+        }
     }
 
     public Map<Vector3i, CometTier> getCometTiersSnapshot() {
-        return new HashMap<>(cometTiers);
+        synchronized (records) {
+            Map<Vector3i, CometTier> snapshot = new HashMap<>();
+            for (CometRecord rec : records.values()) {
+                if (rec.tier >= 0) snapshot.put(rec.pos, TIERS[rec.tier]);
+            }
+            return snapshot;
+        }
     }
 
     public Map<Vector3i, UUID> getCometOwnersSnapshot() {
-        return new HashMap<>(cometOwners);
+        synchronized (records) {
+            Map<Vector3i, UUID> snapshot = new HashMap<>();
+            for (CometRecord rec : records.values()) {
+                if (rec.owner != null) snapshot.put(rec.pos, rec.owner);
+            }
+            return snapshot;
+        }
     }
 
     public boolean hasActiveCometNear(int x, int y, int z, int distance) {
-        for (Vector3i pos : activeComets.keySet()) {
-            if (distance(pos, x, y, z) <= distance) {
-                return true;
+        return cometIndex.anyWithinDistance(x, y, z, distance);
+    }
+
+    public void setCometState(Vector3i blockPos, CometWaveManager.CometState state) {
+        synchronized (records) {
+            CometRecord rec = recordOrCreate(blockPos);
+            if (rec.state != state.ordinal()) {
+                rec.state = state.ordinal();
+                markerVersion++;
+            }
+            syncMarkerListing(rec);
+            cometIndex.add(blockPos);
+        }
+    }
+
+    public void removeCometState(Vector3i blockPos) {
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            if (rec == null) return;
+            if (rec.state >= 0) {
+                rec.state = -1;
+                markerVersion++;
             }
+            pruneIfEmpty(rec);
         }
-        for (Vector3i pos : cometTiers.keySet()) {
-            if (distance(pos, x, y, z) <= distance) {
-                return true;
+    }
+
+    public void setCometTier(Vector3i blockPos, CometTier tier) {
+        synchronized (records) {
+            CometRecord rec = recordOrCreate(blockPos);
+            if (rec.tier != tier.ordinal()) {
+                rec.tier = tier.ordinal();
+                markerVersion++;
             }
+            cometIndex.add(blockPos);
         }
-        return false;
     }
 
     public void registerCometTier(Vector3i blockPos, CometTier tier, UUID ownerUUID, Logger logger) {
-        cometTiers.put(blockPos, tier);
-        registerTriggerBox(blockPos);
+        synchronized (records) {
+            setCometTier(blockPos, tier);
+            registerTriggerBox(blockPos);
+            if (ownerUUID != null) {
+                CometRecord rec = recordOrCreate(blockPos);
+                rec.owner = ownerUUID;
+                syncMarkerListing(rec);
+            }
+            markerVersion++;
+        }
         if (ownerUUID != null) {
-            cometOwners.put(blockPos, ownerUUID);
             logger.info("Registered tier " + tier.getName() + " for comet at " + blockPos + " (owner: " + ownerUUID + ")");
         } else {
             logger.info("Registered tier " + tier.getName() + " for comet at " + blockPos + " (no owner)");
         }
     }
 
-    /** Register every block in a box around the comet so any part of a multi-block asset (chest, coffin) triggers the comet. */
+    /** Register a box around the comet so any part of a multi-block asset (chest, coffin) triggers the comet. */
     private void registerTriggerBox(Vector3i canonical) {
-        int r = CometConfig.COMET_ASSET_BOX_RADIUS;
-        for (int dx = -r; dx <= r; dx++) {
-            for (int dy = -r; dy <= r; dy++) {
-                for (int dz = -r; dz <= r; dz++) {
-                    triggerPosToCanonical.put(new Vector3i(canonical.x + dx, canonical.y + dy, canonical.z + dz), canonical);
-                }
-            }
-        }
+        triggerVolumes.register(canonical, CometConfig.COMET_ASSET_BOX_RADIUS);
     }
 
     public UUID getOwner(Vector3i blockPos) {
-        return cometOwners.get(blockPos);
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            return rec != null ? rec.owner : null;
+        }
+    }
+
+    /** Tier registered at exactly this position, or fallback. */
+    public CometTier getTier(Vector3i blockPos, CometTier fallback) {
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            return rec != null && rec.tier >= 0 ? TIERS[rec.tier] : fallback;
+        }
     }
 
     public CometTier getTierOrDefault(Vector3i blockPos, CometTier fallback) {
         if (blockPos == null) return fallback;
-        CometTier t = cometTiers.get(blockPos);
+        CometTier t = getTier(blockPos, null);
         if (t != null) return t;
         Vector3i canonical = findRegisteredPosition(blockPos.x, blockPos.y, blockPos.z);
-        return canonical != null ? cometTiers.getOrDefault(canonical, fallback) : fallback;
+        return canonical != null ? getTier(canonical, fallback) : fallback;
     }
 
     /** Find the registered comet position with these coordinates (map key may be a different Vector3i instance). Checks asset trigger box first so any block of a multi-block asset works. */
     public Vector3i findRegisteredPosition(int x, int y, int z) {
-        Vector3i canonical = triggerPosToCanonical.get(new Vector3i(x, y, z));
+        Vector3i canonical = triggerVolumes.findContaining(x, y, z);
         if (canonical != null) return canonical;
-        for (Vector3i pos : cometTiers.keySet()) {
-            if (pos.x == x && pos.y == y && pos.z == z) return pos;
-        }
-        return null;
+        return cometIndex.findExact(x, y, z);
     }
 
-    /** Find a registered comet position within manhattan distance of (x,y,z). Used when the clicked block may be adjacent. */
+    /** Find the closest registered comet position within per-axis distance of (x,y,z). Used when the clicked block may be adjacent. */
     public Vector3i findRegisteredPositionNear(int x, int y, int z, int maxDistance) {
         if (maxDistance <= 0) return findRegisteredPosition(x, y, z);
         Vector3i exact = findRegisteredPosition(x, y, z);
         if (exact != null) return exact;
-        for (Vector3i pos : cometTiers.keySet()) {
-            int dx = Math.abs(pos.x - x);
-            int dy = Math.abs(pos.y - y);
-            int dz = Math.abs(pos.z - z);
-            if (dx <= maxDistance && dy <= maxDistance && dz <= maxDistance) return pos;
-        }
-        return null;
+        return cometIndex.findNearestInBox(x, y, z, maxDistance);
     }
 
     public void registerCometZone(Vector3i blockPos, int zoneId) {
-        cometZones.put(blockPos, zoneId);
+        synchronized (records) {
+            CometRecord rec = recordOrCreate(blockPos);
+            rec.zone = zoneId;
+            rec.hasZone = true;
+        }
     }
 
     public Integer getZone(Vector3i blockPos) {
-        return cometZones.get(blockPos);
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            return rec != null && rec.hasZone ? rec.zone : null;
+        }
+    }
+
+    public int getZoneOrDefault(Vector3i blockPos, int fallback) {
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            return rec != null && rec.hasZone ? rec.zone : fallback;
+        }
     }
 
     public void setTheme(Vector3i blockPos, String themeId) {
-        cometThemes.put(blockPos, themeId);
+        synchronized (records) {
+            recordOrCreate(blockPos).theme = themeId;
+        }
     }
 
     public String getTheme(Vector3i blockPos) {
-        return cometThemes.get(blockPos);
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            return rec != null ? rec.theme : null;
+        }
     }
 
     public void forceTheme(Vector3i blockPos, String themeId, Logger logger) {
-        forcedThemes.put(blockPos, themeId);
+        synchronized (records) {
+            recordOrCreate(blockPos).forcedTheme = themeId;
+        }
         logger.info("Forced theme '" + themeId + "' for comet at " + blockPos);
     }
 
     public String getForcedTheme(Vector3i blockPos) {
-        return forcedThemes.get(blockPos);
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            return rec != null ? rec.forcedTheme : null;
+        }
     }
 
     public boolean hasForcedTheme(Vector3i blockPos) {
-        return forcedThemes.containsKey(blockPos);
-    }
-
-    public void clearForcedTheme(Vector3i blockPos) {
-        forcedThemes.remove(blockPos);
-    }
-
-    public void clearForBlock(Vector3i blockPos) {
-        activeComets.remove(blockPos);
-        cometTiers.remove(blockPos);
-        cometOwners.remove(blockPos);
-        cometThemes.remove(blockPos);
-        forcedThemes.remove(blockPos);
-        cometZones.remove(blockPos);
-        triggerPosToCanonical.entrySet().removeIf(e -> e.getValue().x == blockPos.x && e.getValue().y == blockPos.y && e.getValue().z == blockPos.z);
+        return getForcedTheme(blockPos) != null;
     }
 
-    public Map<Vector3i, CometWaveManager.CometState> activeComets() {
-        return activeComets;
-    }
-
-    public Map<Vector3i, CometTier> cometTiers() {
-        return cometTiers;
-    }
-
-    public Map<Vector3i, UUID> cometOwners() {
-        return cometOwners;
-    }
-
-    public Map<Vector3i, Integer> cometZones() {
-        return cometZones;
+    /** Remove and return the forced theme for this comet (forced themes are one-time overrides). */
+    public String takeForcedTheme(Vector3i blockPos) {
+        synchronized (records) {
+            CometRecord rec = record(blockPos);
+            if (rec == null) return null;
+            String themeId = rec.forcedTheme;
+            rec.forcedTheme = null;
+            pruneIfEmpty(rec);
+            return themeId;
+        }
     }
 
-    public Map<Vector3i, String> cometThemes() {
-        return cometThemes;
+    public void clearForcedTheme(Vector3i blockPos) {
+        takeForcedTheme(blockPos);
     }
 
-    public Map<Vector3i, String> forcedThemes() {
-        return forcedThemes;
+    public void clearForBlock(Vector3i blockPos) {
+        synchronized (records) {
+            CometRecord rec = records.remove(BlockPosKey.pack(blockPos));
+            if (rec != null) unlistMarker(rec);
+            markerVersion++;
+            cometIndex.remove(blockPos);
+            triggerVolumes.remove(blockPos);
+        }
     }
 
-    private static double distance(Vector3i pos, int x, int y, int z) {
-        double dx = pos.x - x;
-        double dy = pos.y - y;
-        double dz = pos.z - z;
-        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    public void clearAll() {
+        synchronized (records) {
+            records.clear();
+            markersByOwner.clear();
+            globalMarkers.clear();
+            markerVersion++;
+            cometIndex.clear();
+            triggerVolumes.clear();
+        }
     }
 }
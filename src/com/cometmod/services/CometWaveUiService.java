@@ -57,7 +57,7 @@ public class CometWaveUiService {
             );
 
             CometConfig config = CometConfig.getInstance();
-            boolean globalComets = (config != null && config.globalComets);
+            boolean globalComets = (config != null && config.isGlobalComets());
             sendMarkerToPlayers(world, marker, globalComets ? null : ownerUUID, logger);
         } catch (Exception e) {
             logger.warning("Failed to add comet map marker to world " + (world != null ? world.getName() : "null")
@@ -75,7 +75,7 @@ public class CometWaveUiService {
             world.getWorldMapManager().getPointsOfInterest().remove(markerId);
 
             CometConfig config = CometConfig.getInstance();
-            boolean globalComets = (config != null && config.globalComets);
+            boolean globalComets = (config != null && config.isGlobalComets());
 
             String[] markersToRemove = new String[] { markerId };
             UpdateWorldMap updatePacket = new UpdateWorldMap(null, null, markersToRemove);
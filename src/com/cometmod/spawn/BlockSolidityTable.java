@@ -0,0 +1,82 @@
+package com.cometmod.spawn;
+
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Ground solidity by numeric block id: true for non-empty blocks whose material is Solid or Opaque.
+ * Built once from the BlockType asset map and rebuilt after BlockType assets are loaded or removed
+ * (the plugin invalidates it from the asset events), so ground searches classify a block with one
+ * array read instead of a material string compare.
+ */
+public final class BlockSolidityTable {
+
+    private static final Logger LOGGER = Logger.getLogger(BlockSolidityTable.class.getName());
+
+    private static volatile boolean[] solid;
+
+    private BlockSolidityTable() {}
+
+    public static boolean isSolid(int blockId) {
+        boolean[] table = table();
+        return blockId > 0 && blockId < table.length && table[blockId];
+    }
+
+    public static boolean isSolid(BlockType blockType) {
+        if (blockType == null) return false;
+        return isSolid(BlockType.getAssetMap().getIndex(blockType.getId()));
+    }
+
+    /**
+     * Force a rebuild on next use (after BlockType assets or config were reloaded). Synchronized so a
+     * build already reading the old assets finishes first and its table is discarded here.
+     */
+    public static synchronized void invalidate() {
+        solid = null;
+    }
+
+    private static boolean[] table() {
+        boolean[] table = solid;
+        if (table != null) {
+            return table;
+        }
+        synchronized (BlockSolidityTable.class) {
+            if (solid == null) {
+                solid = build(BlockType.getAssetMap().getAssetMap());
+            }
+            return solid;
+        }
+    }
+
+    private static boolean[] build(Map<String, BlockType> assets) {
+        int maxIndex = 0;
+        int[] indices = new int[assets.size()];
+        BlockType[] types = new BlockType[assets.size()];
+        int n = 0;
+        for (BlockType blockType : assets.values()) {
+            if (blockType == null) continue;
+            int index = BlockType.getAssetMap().getIndex(blockType.getId());
+            if (index <= 0) continue;
+            indices[n] = index;
+            types[n] = blockType;
+            n++;
+            maxIndex = Math.max(maxIndex, index);
+        }
+
+        boolean[] table = new boolean[maxIndex + 1];
+        int solidCount = 0;
+        for (int i = 0; i < n; i++) {
+            Object material = types[i].getMaterial();
+            if (material == null) continue;
+            String materialStr = material.toString();
+            if (materialStr.equals("Solid") || materialStr.equals("Opaque")) {
+                table[indices[i]] = true;
+                solidCount++;
+            }
+        }
+        LOGGER.fine("Built block solidity table: " + solidCount + " solid of " + n + " block types");
+        return table;
+    }
+}
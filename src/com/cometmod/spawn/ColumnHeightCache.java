@@ -0,0 +1,109 @@
+package com.cometmod.spawn;
+
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import it.unimi.dsi.fastutil.longs.Long2LongLinkedOpenHashMap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-world cache of the topmost solid block Y for each (x,z) column. A column is scanned once from
+ * the chunk when first asked for and then answered from the cache until a block change in that column
+ * invalidates it. Entries also expire after a short TTL so changes we never hear about (world edits,
+ * explosions) cannot leave a column stale for long. A full cache evicts its least recently used
+ * column, and a world's cache is dropped when the world is removed.
+ */
+public final class ColumnHeightCache {
+
+    /** Highest Y ground searches start from (same bound the scans always used). */
+    public static final int MAX_Y = 255;
+    /** Returned when a column has no solid block. */
+    public static final int NO_GROUND = -1;
+
+    private static final long ENTRY_TTL_MS = 60_000L;
+    private static final int MAX_ENTRIES = 65_536;
+
+    private static final Map<World, ColumnHeightCache> CACHES = new ConcurrentHashMap<>();
+
+    /** Value layout: high 32 bits expiry (seconds), low 32 bits top solid Y. Kept in LRU order. */
+    private final Long2LongLinkedOpenHashMap columns = new Long2LongLinkedOpenHashMap();
+
+    private ColumnHeightCache() {
+        columns.defaultReturnValue(Long.MIN_VALUE);
+    }
+
+    public static ColumnHeightCache forWorld(World world) {
+        return CACHES.computeIfAbsent(world, w -> new ColumnHeightCache());
+    }
+
+    /** Drop the cached column containing this block, if the world has a cache. */
+    public static void invalidate(World world, int x, int z) {
+        if (world == null) return;
+        ColumnHeightCache cache = CACHES.get(world);
+        if (cache != null) {
+            cache.invalidate(x, z);
+        }
+    }
+
+    /** Forget a removed world so neither its columns nor the World itself are retained. */
+    public static void removeWorld(World world) {
+        if (world != null) {
+            CACHES.remove(world);
+        }
+    }
+
+    public static void clearAll() {
+        CACHES.clear();
+    }
+
+    private static long columnKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /** Topmost solid Y in the column (scanning from MAX_Y down to 0), or NO_GROUND. */
+    public int getTopSolidY(World world, int x, int z) {
+        long key = columnKey(x, z);
+        long nowMs = System.currentTimeMillis();
+        synchronized (columns) {
+            long entry = columns.getAndMoveToLast(key);
+            if (entry != Long.MIN_VALUE && (entry >>> 32) * 1000L > nowMs) {
+                return (int) entry;
+            }
+        }
+
+        int top = scanColumn(world, x, z);
+        long expirySec = (nowMs + ENTRY_TTL_MS) / 1000L;
+        synchronized (columns) {
+            if (columns.size() >= MAX_ENTRIES && !columns.containsKey(key)) {
+                columns.removeFirstLong();
+            }
+            columns.putAndMoveToLast(key, (expirySec << 32) | (top & 0xFFFFFFFFL));
+        }
+        return top;
+    }
+
+    public void invalidate(int x, int z) {
+        synchronized (columns) {
+            columns.remove(columnKey(x, z));
+        }
+    }
+
+    private static int scanColumn(World world, int x, int z) {
+        WorldChunk chunk = world.getChunkIfInMemory(ChunkUtil.indexChunkFromBlock(x, z));
+        for (int y = MAX_Y; y >= 0; y--) {
+            try {
+                boolean solid = chunk != null
+                        ? BlockSolidityTable.isSolid(chunk.getBlock(x, y, z))
+                        : BlockSolidityTable.isSolid(world.getBlockType(x, y, z));
+                if (solid) {
+                    return y;
+                }
+            } catch (Exception e) {
+                // Continue searching
+            }
+        }
+        return NO_GROUND;
+    }
+}
@@ -11,14 +11,17 @@ import com.cometmod.wave.*;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.WorldMapTracker;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.component.Store;
 import com.cometmod.config.model.ZoneSpawnChances;
-import com.cometmod.integration.ClaimProtectionGuard;
 import com.cometmod.integration.WorldProtectRegionGuard;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 
 import java.util.*;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -32,6 +35,10 @@ public class CometSpawnTask {
     private static final int SPAWN_LOCATION_ATTEMPTS = 16;
     private static final int EXTRA_LOCATION_RECHECKS = 2;
     private static final double MIN_RECHECK_RELOCATION_DISTANCE = 64.0;
+    /** Cold chunks (not in memory) a failed natural spawn asks to load asynchronously for the next attempt. */
+    private static final int MAX_ASYNC_CHUNK_REQUESTS = 4;
+    /** Candidate sites drawn per world-thread task before the search yields and resumes in a new task. */
+    private static final int SITE_DRAWS_PER_TASK = 8;
 
     public enum SpawnResult {
         SPAWNED,
@@ -139,7 +146,7 @@ public class CometSpawnTask {
             }
 
             // Check if natural spawns are enabled
-            if (config != null && !config.naturalSpawnsEnabled) {
+            if (config != null && !config.isNaturalSpawnsEnabled()) {
                 scheduleNextSpawn();
                 return;
             }
@@ -238,10 +245,7 @@ public class CometSpawnTask {
             
             // Try to execute spawn logic on world thread with retry mechanism
             try {
-                currentWorld.execute(() -> {
-                    SpawnResult result = executeSpawnLogic(player, tier, zoneId);
-                    finishSpawn(callback, result);
-                });
+                currentWorld.execute(() -> executeSpawnLogic(player, tier, zoneId, callback));
                 // Success! No retry needed
             } catch (Exception e) {
                 // Check if this is an IllegalThreadStateException (may be wrapped)
@@ -293,30 +297,82 @@ public class CometSpawnTask {
         }
     }
 
-    private SpawnResult executeSpawnLogic(Player player, CometTier tier, int zoneId) {
+    /**
+     * World thread: start a site search around the player. The search runs in slices of
+     * SITE_DRAWS_PER_TASK draws, each its own world task, and places the comet at the first site that
+     * passes. The callback always completes on the world thread.
+     */
+    private void executeSpawnLogic(Player player, CometTier tier, int zoneId, Consumer<SpawnResult> callback) {
         try {
             World currentWorld = player.getWorld();
-            if (currentWorld == null) return SpawnResult.SKIPPED_NO_WORLD;
+            if (currentWorld == null) {
+                finishSpawn(callback, SpawnResult.SKIPPED_NO_WORLD);
+                return;
+            }
             CometConfig config = CometConfig.getInstance();
-            if (config != null && !config.isRaidEnabledInWorld(currentWorld)) return SpawnResult.SKIPPED_WORLD_DISABLED;
+            if (config != null && !config.isRaidEnabledInWorld(currentWorld)) {
+                finishSpawn(callback, SpawnResult.SKIPPED_WORLD_DISABLED);
+                return;
+            }
 
             Store<EntityStore> currentStore = currentWorld.getEntityStore().getStore();
-            if (currentStore == null) return SpawnResult.ERROR;
-            
             com.hypixel.hytale.component.Ref<EntityStore> playerRef = player.getReference();
-            if (playerRef == null || !playerRef.isValid()) return SpawnResult.ERROR;
+            if (currentStore == null || playerRef == null || !playerRef.isValid()) {
+                finishSpawn(callback, SpawnResult.ERROR);
+                return;
+            }
 
             com.hypixel.hytale.server.core.modules.entity.component.TransformComponent transform =
                 currentStore.getComponent(playerRef,
                     com.hypixel.hytale.server.core.modules.entity.component.TransformComponent.getComponentType());
-            if (transform == null) return SpawnResult.ERROR;
+            if (transform == null) {
+                finishSpawn(callback, SpawnResult.ERROR);
+                return;
+            }
 
-            com.hypixel.hytale.math.vector.Vector3d playerPos = transform.getPosition();
-            Random random = new Random();
-            com.hypixel.hytale.math.vector.Vector3i targetBlockPos =
-                    findSpawnTargetWithRechecks(currentWorld, playerPos, config, random);
+            SiteSearch search = new SiteSearch(currentWorld, transform.getPosition(), config);
+            continueSiteSearch(search, player, tier, zoneId, callback);
+        } catch (Exception e) {
+            LOGGER.warning("Error spawning comet: " + e.getMessage());
+            finishSpawn(callback, SpawnResult.ERROR);
+        }
+    }
 
-            if (targetBlockPos == null) return SpawnResult.NO_SAFE_LOCATION;
+    /** World thread: run one slice of the search, then place, give up, or queue the next slice. */
+    private void continueSiteSearch(SiteSearch search, Player player, CometTier tier, int zoneId,
+            Consumer<SpawnResult> callback) {
+        try {
+            if (player.getWorld() != search.world) {
+                finishSpawn(callback, SpawnResult.SKIPPED_NO_WORLD);
+                return;
+            }
+            com.hypixel.hytale.math.vector.Vector3i target = search.next(SITE_DRAWS_PER_TASK);
+            if (target != null) {
+                finishSpawn(callback, placeComet(player, tier, zoneId, target));
+            } else if (search.isExhausted()) {
+                // Nothing resident qualified: warm up a few of the skipped chunks so the next attempt can use them
+                requestChunkLoadsAsync(search.world, search.coldChunks);
+                finishSpawn(callback, SpawnResult.NO_SAFE_LOCATION);
+            } else {
+                search.world.execute(() -> continueSiteSearch(search, player, tier, zoneId, callback));
+            }
+        } catch (Exception e) {
+            LOGGER.warning("Error spawning comet: " + e.getMessage());
+            finishSpawn(callback, SpawnResult.ERROR);
+        }
+    }
+
+    private SpawnResult placeComet(Player player, CometTier tier, int zoneId,
+            com.hypixel.hytale.math.vector.Vector3i targetBlockPos) {
+        try {
+            World currentWorld = player.getWorld();
+            if (currentWorld == null) return SpawnResult.SKIPPED_NO_WORLD;
+
+            Store<EntityStore> currentStore = currentWorld.getEntityStore().getStore();
+            if (currentStore == null) return SpawnResult.ERROR;
+
+            com.hypixel.hytale.component.Ref<EntityStore> playerRef = player.getReference();
+            if (playerRef == null || !playerRef.isValid()) return SpawnResult.ERROR;
 
             // Register zone for this comet at its landing position
             CometWaveManager waveManager = CometModPlugin.getWaveManager();
@@ -340,7 +396,7 @@ public class CometSpawnTask {
             
             try {
                 CometConfig cfg = CometConfig.getInstance();
-                String template = (cfg != null ? cfg.msgCometFallingChatCoords
+                String template = (cfg != null ? cfg.getMsgCometFallingChatCoords()
                         : "%tier% Comet falling! Target: X=%x%, Y=%y%, Z=%z%");
                 String text = template
                         .replace("%tier%", tier.getName())
@@ -360,8 +416,8 @@ public class CometSpawnTask {
                     currentStore.getComponent(playerRef, com.hypixel.hytale.server.core.universe.PlayerRef.getComponentType());
                 if (playerRefComponent != null) {
                     CometConfig cfg = CometConfig.getInstance();
-                    String titleTemplate = (cfg != null ? cfg.msgCometFallingTitle : "%tier% Comet Falling!");
-                    String subtitleTemplate = (cfg != null ? cfg.msgCometFallingSubtitle : "Watch the sky!");
+                    String titleTemplate = (cfg != null ? cfg.getMsgCometFallingTitle() : "%tier% Comet Falling!");
+                    String subtitleTemplate = (cfg != null ? cfg.getMsgCometFallingSubtitle() : "Watch the sky!");
 
                     String titleText = titleTemplate.replace("%tier%", tier.getName());
                     String subtitleText = subtitleTemplate.replace("%tier%", tier.getName());
@@ -400,61 +456,95 @@ public class CometSpawnTask {
         }
     }
 
-    private com.hypixel.hytale.math.vector.Vector3i findSpawnTargetWithRechecks(
-            World currentWorld,
-            com.hypixel.hytale.math.vector.Vector3d playerPos,
-            CometConfig config,
-            Random random) {
-
-        int centerX = (int) playerPos.x;
-        int centerZ = (int) playerPos.z;
-        int startY = (int) playerPos.y;
+    /**
+     * Lazy walk over SPAWN_LOCATION_ATTEMPTS draws around the player and around each recheck center, in
+     * the order they are preferred. Each draw is probed only when reached (resident chunk, dry solid
+     * ground, then SpawnSiteEvaluator), and the walk stops at the first site that passes. Chunks that are
+     * not in memory are added to coldChunks instead of being loaded. World thread only.
+     */
+    private final class SiteSearch {
+        final World world;
+        final com.hypixel.hytale.math.vector.Vector3d playerPos;
+        final CometConfig config;
+        final LongLinkedOpenHashSet coldChunks = new LongLinkedOpenHashSet();
+        private final Random random = new Random();
+        private final int startY;
+        private int centerX;
+        private int centerZ;
+        private int recheck;
+        private int attempt;
+
+        SiteSearch(World world, com.hypixel.hytale.math.vector.Vector3d playerPos, CometConfig config) {
+            this.world = world;
+            this.playerPos = playerPos;
+            this.config = config;
+            this.centerX = (int) playerPos.x;
+            this.centerZ = (int) playerPos.z;
+            this.startY = (int) playerPos.y;
+        }
 
-        for (int recheck = 0; recheck <= EXTRA_LOCATION_RECHECKS; recheck++) {
-            com.hypixel.hytale.math.vector.Vector3i target =
-                    tryFindSpawnTargetNearCenter(currentWorld, centerX, centerZ, startY, config, random);
-            if (target != null) {
-                return target;
-            }
+        boolean isExhausted() {
+            return recheck > EXTRA_LOCATION_RECHECKS;
+        }
 
-            if (recheck < EXTRA_LOCATION_RECHECKS) {
-                double relocateAngle = random.nextDouble() * 2 * Math.PI;
-                double relocateDistance = Math.max(MIN_RECHECK_RELOCATION_DISTANCE, maxSpawnDistance * 2.0);
-                centerX = (int) (playerPos.x + Math.cos(relocateAngle) * relocateDistance);
-                centerZ = (int) (playerPos.z + Math.sin(relocateAngle) * relocateDistance);
+        /** Draw up to maxDraws sites; returns the first that passes, or null (check isExhausted). */
+        com.hypixel.hytale.math.vector.Vector3i next(int maxDraws) {
+            for (int draws = 0; draws < maxDraws && !isExhausted(); draws++) {
+                com.hypixel.hytale.math.vector.Vector3i site = drawSite();
+                if (++attempt >= SPAWN_LOCATION_ATTEMPTS) {
+                    attempt = 0;
+                    if (recheck++ < EXTRA_LOCATION_RECHECKS) {
+                        double relocateAngle = random.nextDouble() * 2 * Math.PI;
+                        double relocateDistance = Math.max(MIN_RECHECK_RELOCATION_DISTANCE, maxSpawnDistance * 2.0);
+                        centerX = (int) (playerPos.x + Math.cos(relocateAngle) * relocateDistance);
+                        centerZ = (int) (playerPos.z + Math.sin(relocateAngle) * relocateDistance);
+                    }
+                }
+                if (site != null && SpawnSiteEvaluator.isValid(world, site, config)) {
+                    return site;
+                }
             }
+            return null;
         }
 
-        return null;
-    }
-
-    private com.hypixel.hytale.math.vector.Vector3i tryFindSpawnTargetNearCenter(
-            World currentWorld,
-            int centerX,
-            int centerZ,
-            int startY,
-            CometConfig config,
-            Random random) {
-        for (int attempt = 0; attempt < SPAWN_LOCATION_ATTEMPTS; attempt++) {
+        private com.hypixel.hytale.math.vector.Vector3i drawSite() {
             double angle = random.nextDouble() * 2 * Math.PI;
             double distance = minSpawnDistance + random.nextDouble() * (maxSpawnDistance - minSpawnDistance);
 
             int spawnX = (int) (centerX + Math.cos(angle) * distance);
             int spawnZ = (int) (centerZ + Math.sin(angle) * distance);
-            int spawnY = findGroundLevel(currentWorld, spawnX, spawnZ, startY);
-
-            if (spawnY == -1) continue;
-            if (isInWater(currentWorld, spawnX, spawnY, spawnZ) || isInWater(currentWorld, spawnX, spawnY + 1, spawnZ)) continue;
 
-            com.hypixel.hytale.math.vector.Vector3i targetBlockPos =
-                    new com.hypixel.hytale.math.vector.Vector3i(spawnX, spawnY + 1, spawnZ);
-            if (!ClaimProtectionGuard.canSpawnAt(currentWorld, targetBlockPos.x, targetBlockPos.y, targetBlockPos.z, config)) {
-                continue;
+            // Natural spawns only consider chunks already in memory, so they never load one during a tick
+            long chunkIndex = com.hypixel.hytale.math.util.ChunkUtil.indexChunkFromBlock(spawnX, spawnZ);
+            WorldChunk chunk = world.getChunkIfInMemory(chunkIndex);
+            if (chunk == null) {
+                coldChunks.add(chunkIndex);
+                return null;
             }
-            return targetBlockPos;
+
+            int spawnY = findGroundLevel(world, spawnX, spawnZ, startY);
+            if (spawnY == -1) return null;
+            if (isInWater(chunk, spawnX, spawnY, spawnZ) || isInWater(chunk, spawnX, spawnY + 1, spawnZ)) return null;
+
+            return new com.hypixel.hytale.math.vector.Vector3i(spawnX, spawnY + 1, spawnZ);
         }
+    }
 
-        return null;
+    private void requestChunkLoadsAsync(World currentWorld, LongLinkedOpenHashSet coldChunks) {
+        int requested = 0;
+        LongIterator it = coldChunks.iterator();
+        while (it.hasNext() && requested < MAX_ASYNC_CHUNK_REQUESTS) {
+            long chunkIndex = it.nextLong();
+            try {
+                currentWorld.getChunkAsync(chunkIndex);
+                requested++;
+            } catch (Exception e) {
+                LOGGER.fine("Could not request async chunk load for comet spawn: " + e.getMessage());
+            }
+        }
+        if (requested > 0) {
+            LOGGER.fine("No loaded spawn site found; requested " + requested + " chunk(s) asynchronously");
+        }
     }
 
     private int parseZoneId(String name) {
@@ -486,7 +576,6 @@ public class CometSpawnTask {
     }
 
     private CometTier selectTierForZone(int zoneId) {
-        Random random = new Random();
         CometConfig config = CometConfig.getInstance();
         if (config == null) {
             return null;
@@ -497,26 +586,11 @@ public class CometSpawnTask {
             return null;
         }
 
-        if (!CometConfig.isTier5Enabled()) {
-            double t1 = chances.getTier1();
-            double t2 = chances.getTier2();
-            double t3 = chances.getTier3();
-            double t4 = chances.getTier4();
-            double total = t1 + t2 + t3 + t4;
-            if (total <= 0.0) {
-                return null;
-            }
-
-            double roll = random.nextDouble() * total;
-            if (roll < t1) return CometTier.UNCOMMON;
-            roll -= t1;
-            if (roll < t2) return CometTier.RARE;
-            roll -= t2;
-            if (roll < t3) return CometTier.EPIC;
-            return CometTier.LEGENDARY;
-        }
-
-        int selectedTier = chances.selectTier(random);
+        // Alias tables are built when the config is published; 0 means tiers 1-4 have no weight
+        Random random = ThreadLocalRandom.current();
+        int selectedTier = CometConfig.isTier5Enabled()
+                ? chances.selectTier(random)
+                : chances.selectTierWithoutTier5(random);
         switch (selectedTier) {
             case 1: return CometTier.UNCOMMON;
             case 2: return CometTier.RARE;
@@ -527,15 +601,8 @@ public class CometSpawnTask {
         }
     }
 
-    private boolean isInWater(World targetWorld, int x, int y, int z) {
+    private boolean isInWater(WorldChunk chunk, int x, int y, int z) {
         try {
-            long chunkIndex = com.hypixel.hytale.math.util.ChunkUtil.indexChunkFromBlock(x, z);
-            com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk chunk =
-                targetWorld.getChunkIfInMemory(chunkIndex);
-
-            if (chunk == null) chunk = targetWorld.getChunk(chunkIndex);
-            if (chunk == null) return false;
-
             return chunk.getFluidId(x, y, z) != 0;
         } catch (Exception e) {
             return false;
@@ -543,33 +610,9 @@ public class CometSpawnTask {
     }
 
     private int findGroundLevel(World targetWorld, int x, int z, int startY) {
-        int searchStartY = 255;
         int minY = Math.max(0, startY - 150);
-        
-        for (int y = searchStartY; y >= minY; y--) {
-            try {
-                com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType blockType = 
-                    targetWorld.getBlockType(x, y, z);
-                
-                if (blockType != null) {
-                    int blockId = com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType
-                        .getAssetMap().getIndex(blockType.getId());
-                    
-                    if (blockId != 0) {
-                        Object material = blockType.getMaterial();
-                        if (material != null) {
-                            String materialStr = material.toString();
-                            if (materialStr.equals("Solid") || materialStr.equals("Opaque")) {
-                                return y;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                // Continue searching
-            }
-        }
-        
-        return -1;
+        // Topmost solid block from y=255 down, answered from the column cache after the first scan
+        int top = ColumnHeightCache.forWorld(targetWorld).getTopSolidY(targetWorld, x, z);
+        return top >= minY ? top : -1;
     }
 }
@@ -118,7 +118,7 @@ public final class CometSpawnUtil {
             return null;
         }
         if (themeId == null || themeId.isBlank()) {
-            themeId = WaveThemeProvider.selectTheme(tier);
+            themeId = WaveThemeProvider.selectTheme(config, tier);
         }
         ThemeConfig theme = (config != null && themeId != null && !themeId.isBlank()) ? config.getTheme(themeId) : null;
         String preferredId = (theme != null && theme.getSpawnBlock() != null && !theme.getSpawnBlock().isBlank())
@@ -154,6 +154,7 @@ public final class CometSpawnUtil {
         }
         chunk.setBlock(localX, blockPos.y, localZ, blockId, blockType, 0, 0, 0);
         chunk.markNeedsSaving();
+        ColumnHeightCache.invalidate(world, blockPos.x, blockPos.z);
 
         CometWaveManager waveManager = CometModPlugin.getWaveManager();
         if (waveManager != null) {
@@ -8,14 +8,12 @@ import com.cometmod.systems.*;
 import com.cometmod.wave.*;
 
 
-import static com.cometmod.config.parser.ConfigJson.extractArrayObjects;
-import static com.cometmod.config.parser.ConfigJson.extractIntValue;
-import static com.cometmod.config.parser.ConfigJson.extractJsonArray;
-import static com.cometmod.config.parser.ConfigJson.extractStringValue;
-
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.cometmod.config.parser.JsonArray;
+import com.cometmod.config.parser.JsonObject;
+import com.cometmod.config.parser.JsonReader;
 import com.cometmod.config.validation.ConfigValidationReport;
 import com.cometmod.config.validation.ConfigValidator;
 
@@ -56,41 +54,43 @@ public class FixedSpawnManager {
 
         try {
             String json = Files.readString(file.toPath(), StandardCharsets.UTF_8);
-            logValidationReport(ConfigValidator.validateFixedSpawns(json));
-            String spawnsArray = extractJsonArray(json, "spawns");
-            if (spawnsArray == null) {
+            JsonObject root = JsonReader.parseObject(json);
+            logValidationReport(ConfigValidator.validateFixedSpawns(root));
+            JsonArray spawnsArray = root.getArray("spawns");
+            // Only add the key when it is missing; a present but non-array value ("spawns": null or {})
+            // is left for the user to fix rather than appending a duplicate key on every boot
+            if (!root.has("spawns")) {
                 String merged = mergeMissingSpawnsArray(json);
                 if (merged != null) {
                     Files.writeString(file.toPath(), merged, StandardCharsets.UTF_8);
                     LOGGER.info("Merged fixed_spawns.json on boot (added missing spawns[] key).");
-                    json = merged;
-                    spawnsArray = extractJsonArray(json, "spawns");
+                    spawnsArray = JsonReader.parseObject(merged).getArray("spawns");
                 } else {
                     createDefaultFixedSpawnsFile(file);
-                    json = "{\n  \"spawns\": []\n}\n";
-                    spawnsArray = extractJsonArray(json, "spawns");
+                    spawnsArray = JsonReader.parseObject("{\n  \"spawns\": []\n}\n").getArray("spawns");
                 }
             }
 
             if (spawnsArray == null) {
-                LOGGER.warning("No spawns[] array found in fixed_spawns.json after merge attempt. Continuing with 0 points.");
+                LOGGER.warning("\"spawns\" in fixed_spawns.json is not an array. Continuing with 0 points.");
                 return;
             }
 
-            List<String> spawnObjects = extractArrayObjects(spawnsArray);
-            for (String obj : spawnObjects) {
-                Integer xVal = extractIntValue(obj, "x");
-                Integer yVal = extractIntValue(obj, "y");
-                Integer zVal = extractIntValue(obj, "z");
+            List<JsonObject> spawnObjects = spawnsArray.objects();
+            for (int i = 0; i < spawnObjects.size(); i++) {
+                JsonObject obj = spawnObjects.get(i);
+                Integer xVal = obj.getInt("x");
+                Integer yVal = obj.getInt("y");
+                Integer zVal = obj.getInt("z");
                 if (xVal == null || yVal == null || zVal == null) {
-                    LOGGER.warning("Skipping fixed spawn entry missing x/y/z: " + obj);
+                    LOGGER.warning("Skipping fixed spawn entry spawns[" + i + "] missing x/y/z");
                     continue;
                 }
 
                 int x = xVal;
                 int y = yVal;
                 int z = zVal;
-                String name = extractStringValue(obj, "name");
+                String name = obj.getString("name");
                 if (name == null || name.trim().isEmpty()) {
                     name = "Spawn " + (sizeUnsafe() + 1);
                 }
@@ -123,9 +123,6 @@ public class FixedSpawnManager {
         if (json == null) {
             return null;
         }
-        if (extractJsonArray(json, "spawns") != null) {
-            return json;
-        }
 
         int firstBrace = json.indexOf('{');
         int lastBrace = json.lastIndexOf('}');
@@ -0,0 +1,39 @@
+package com.cometmod.spawn;
+
+import com.cometmod.CometConfig;
+import com.cometmod.CometModPlugin;
+import com.cometmod.integration.ClaimProtectionGuard;
+import com.cometmod.wave.CometWaveManager;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.logging.Logger;
+
+/**
+ * Placement checks for a natural spawn site that already has dry solid ground: distance to other
+ * comets, then claim/protected-zone rules. World thread only: the claim providers are third-party
+ * plugin APIs with no thread-safety guarantees, so they are never called from another thread.
+ */
+public final class SpawnSiteEvaluator {
+
+    private static final Logger LOGGER = Logger.getLogger(SpawnSiteEvaluator.class.getName());
+
+    /** Minimum distance between a new comet and any tracked one, so trigger boxes never overlap. */
+    private static final int MIN_COMET_SEPARATION = CometConfig.COMET_ASSET_BOX_RADIUS * 2 + 1;
+
+    private SpawnSiteEvaluator() {}
+
+    /** True when a comet may land at target (the block above the ground). */
+    public static boolean isValid(World world, Vector3i target, CometConfig config) {
+        try {
+            CometWaveManager waveManager = CometModPlugin.getWaveManager();
+            if (waveManager != null && waveManager.hasActiveCometNear(target.x, target.y, target.z, MIN_COMET_SEPARATION)) {
+                return false;
+            }
+            return ClaimProtectionGuard.canSpawnAt(world, target.x, target.y, target.z, config);
+        } catch (Exception e) {
+            LOGGER.fine("Spawn site check failed at " + target + ": " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -77,7 +77,7 @@ public class CometBlockBreakSystem extends EntityEventSystem<EntityStore, BreakB
 
         // Check if globalComets is enabled - if so, any player can trigger any comet
         CometConfig config = CometConfig.getInstance();
-        boolean globalComets = (config != null && config.globalComets);
+        boolean globalComets = (config != null && config.isGlobalComets());
 
         if (!globalComets && owner != null && (breakerUuid == null || !breakerUuid.equals(owner))) {
             try {
@@ -1,6 +1,7 @@
 package com.cometmod.systems;
 
 import com.cometmod.CometConfig;
+import com.cometmod.util.CometLog;
 import com.cometmod.wave.CometWaveManager;
 
 import com.hypixel.hytale.component.ArchetypeChunk;
@@ -14,6 +15,7 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.logging.Level;
 
 /**
  * Fallback activation path for comet blocks that don't expose a Use interaction
@@ -65,8 +67,8 @@ public class CometBlockDamageActivationSystem extends EntityEventSystem<EntitySt
             return;
         }
 
-        if (CometConfig.DEBUG) {
-            LOGGER.info("[CometDebug] DamageBlockEvent at " + blockPos
+        if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+            CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] DamageBlockEvent at " + blockPos
                     + " mapped to comet at " + registeredPos
                     + " (" + (exactMatch ? "exact" : "near") + "), activating comet and cancelling damage");
         }
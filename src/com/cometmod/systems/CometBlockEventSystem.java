@@ -3,6 +3,7 @@ package com.cometmod.systems;
 import com.cometmod.CometConfig;
 import com.cometmod.services.*;
 import com.cometmod.spawn.*;
+import com.cometmod.util.CometLog;
 import com.cometmod.wave.*;
 
 
@@ -18,6 +19,7 @@ import com.hypixel.hytale.component.system.EntityEventSystem;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.logging.Level;
 
 public class CometBlockEventSystem extends EntityEventSystem<EntityStore, UseBlockEvent.Pre> {
     
@@ -44,8 +46,8 @@ public class CometBlockEventSystem extends EntityEventSystem<EntityStore, UseBlo
         com.hypixel.hytale.math.vector.Vector3i blockPos = event.getTargetBlock();
         if (blockPos == null) return;
 
-        if (CometConfig.DEBUG) {
-            LOGGER.info("[CometDebug] UseBlockEvent at " + blockPos + " interactionType=" + event.getInteractionType() + " (CometBlockEventSystem, position-based)");
+        if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+            CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] UseBlockEvent at " + blockPos + " interactionType=" + event.getInteractionType() + " (CometBlockEventSystem, position-based)");
         }
 
         // Position-based: any block at a registered comet position (or within radius for multi-block assets) activates
@@ -55,22 +57,22 @@ public class CometBlockEventSystem extends EntityEventSystem<EntityStore, UseBlo
             registeredPos = waveManager.getRegisteredBlockPosNear(blockPos.x, blockPos.y, blockPos.z, CometConfig.COMET_USE_NEAR_RADIUS);
         }
         if (registeredPos == null) {
-            if (CometConfig.DEBUG) {
-                LOGGER.info("[CometDebug] CometBlockEventSystem: no comet registered at/near " + blockPos + ", ignoring");
+            if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+                CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] CometBlockEventSystem: no comet registered at/near " + blockPos + ", ignoring");
             }
             return;
         }
         blockPos = registeredPos;
         // Cancel immediately so vanilla block Use (e.g. OpenContainer) never runs, even if we later return early
         event.setCancelled(true);
-        if (CometConfig.DEBUG) {
-            LOGGER.info("[CometDebug] CometBlockEventSystem: comet registered at " + blockPos + " (" + (exactMatch ? "exact" : "near") + "), cancelled vanilla Use");
+        if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+            CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] CometBlockEventSystem: comet registered at " + blockPos + " (" + (exactMatch ? "exact" : "near") + "), cancelled vanilla Use");
         }
 
         // Only handle Use (f key) interactions - same as chests
         if (event.getInteractionType() != com.hypixel.hytale.protocol.InteractionType.Use) {
-            if (CometConfig.DEBUG) {
-                LOGGER.info("[CometDebug] CometBlockEventSystem: skipping activation, interactionType is not Use");
+            if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+                CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] CometBlockEventSystem: skipping activation, interactionType is not Use");
             }
             return;
         }
@@ -82,8 +84,8 @@ public class CometBlockEventSystem extends EntityEventSystem<EntityStore, UseBlo
             com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType blockTypeAt = 
                 world.getBlockType(blockPos.x, blockPos.y, blockPos.z);
             if (blockTypeAt == null || blockTypeAt.isUnknown()) {
-                if (CometConfig.DEBUG) {
-                    LOGGER.info("[CometDebug] CometBlockEventSystem: no block at " + blockPos + ", skipping");
+                if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+                    CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] CometBlockEventSystem: no block at " + blockPos + ", skipping");
                 }
                 return; // Block doesn't exist or chunk not loaded, don't activate
             }
@@ -95,14 +97,14 @@ public class CometBlockEventSystem extends EntityEventSystem<EntityStore, UseBlo
         Ref<EntityStore> playerRef = event.getContext().getEntity();
         if (playerRef == null || !playerRef.isValid()) {
             LOGGER.warning("[CometBlockEventSystem] PlayerRef is null or invalid!");
-            if (CometConfig.DEBUG) {
-                LOGGER.info("[CometDebug] CometBlockEventSystem: skipping, playerRef null or invalid");
+            if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+                CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] CometBlockEventSystem: skipping, playerRef null or invalid");
             }
             return;
         }
 
-        if (CometConfig.DEBUG) {
-            LOGGER.info("[CometDebug] CometBlockEventSystem: activating comet at " + blockPos + " (position-based Use)");
+        if (CometLog.isEnabled(CometLog.Category.BLOCKS, Level.FINE)) {
+            CometLog.fine(CometLog.Category.BLOCKS, "[CometDebug] CometBlockEventSystem: activating comet at " + blockPos + " (position-based Use)");
         }
         // Handle comet activation (vanilla Use already cancelled above when we found the comet)
         try {
@@ -0,0 +1,73 @@
+package com.cometmod.systems;
+
+import com.cometmod.spawn.ColumnHeightCache;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
+import com.hypixel.hytale.server.core.event.events.ecs.PlaceBlockEvent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Drops cached ground heights (ColumnHeightCache) for columns where a block is broken or placed.
+ */
+public final class CometColumnInvalidationSystems {
+
+    private CometColumnInvalidationSystems() {}
+
+    private static void invalidate(Store<EntityStore> store, Vector3i blockPos) {
+        if (blockPos == null) return;
+        Object external = store.getExternalData();
+        if (external instanceof EntityStore) {
+            ColumnHeightCache.invalidate(((EntityStore) external).getWorld(), blockPos.x, blockPos.z);
+        }
+    }
+
+    public static class OnBreak extends EntityEventSystem<EntityStore, BreakBlockEvent> {
+
+        public OnBreak() {
+            super(BreakBlockEvent.class);
+        }
+
+        @Override
+        @Nullable
+        public Query<EntityStore> getQuery() {
+            return Query.any();
+        }
+
+        @Override
+        public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                @Nonnull Store<EntityStore> store,
+                @Nonnull CommandBuffer<EntityStore> commandBuffer,
+                @Nonnull BreakBlockEvent event) {
+            invalidate(store, event.getTargetBlock());
+        }
+    }
+
+    public static class OnPlace extends EntityEventSystem<EntityStore, PlaceBlockEvent> {
+
+        public OnPlace() {
+            super(PlaceBlockEvent.class);
+        }
+
+        @Override
+        @Nullable
+        public Query<EntityStore> getQuery() {
+            return Query.any();
+        }
+
+        @Override
+        public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                @Nonnull Store<EntityStore> store,
+                @Nonnull CommandBuffer<EntityStore> commandBuffer,
+                @Nonnull PlaceBlockEvent event) {
+            invalidate(store, event.getTargetBlock());
+        }
+    }
+}
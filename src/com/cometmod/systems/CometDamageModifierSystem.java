@@ -2,26 +2,27 @@ package com.cometmod.systems;
 
 import com.cometmod.*;
 import com.cometmod.commands.*;
+import com.cometmod.components.CometWaveMob;
 import com.cometmod.services.*;
 import com.cometmod.spawn.*;
 import com.cometmod.systems.*;
+import com.cometmod.util.CometLog;
 import com.cometmod.wave.*;
 
 
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import com.hypixel.hytale.component.SystemGroup;
 
-import java.util.UUID;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -29,13 +30,19 @@ import java.util.logging.Logger;
  * 
  * Works by:
  * 1. Intercepting damage events before they are applied
- * 2. Checking if the damage source is a comet NPC with a damage multiplier
- * 3. Multiplying the damage amount by the configured multiplier
+ * 2. Rejecting any source that does not carry a CometWaveMob component (one lookup)
+ * 3. Multiplying the damage amount by the multiplier stored on that component
+ *
+ * The query stays Query.any() because it filters the damaged entity, not the attacker;
+ * the source check above is the fast path for damage unrelated to comets.
  */
 public class CometDamageModifierSystem extends DamageEventSystem {
 
     private static final Logger LOGGER = Logger.getLogger(CometDamageModifierSystem.class.getName());
 
+    // Resolved once: the component type is registered during plugin setup, before systems exist
+    private final ComponentType<EntityStore, CometWaveMob> waveMobType = CometWaveMob.getComponentType();
+
     @Override
     public SystemGroup<EntityStore> getGroup() {
         return DamageModule.get().getFilterDamageGroup();
@@ -50,66 +57,39 @@ public class CometDamageModifierSystem extends DamageEventSystem {
     public void handle(int index, ArchetypeChunk<EntityStore> archetypeChunk, Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer, Damage damage) {
         try {
-            // Get the damage source
             Damage.Source source = damage.getSource();
             if (!(source instanceof Damage.EntitySource)) {
                 return; // Not entity damage, skip
             }
 
-            Damage.EntitySource entitySource = (Damage.EntitySource) source;
-            Ref<EntityStore> sourceRef = entitySource.getRef();
-
+            Ref<EntityStore> sourceRef = ((Damage.EntitySource) source).getRef();
             if (sourceRef == null || !sourceRef.isValid()) {
                 return;
             }
 
-            // Check if source is a player (don't modify player damage)
-            if (Player.getComponentType() != null) {
-                Player player = store.getComponent(sourceRef, Player.getComponentType());
-                if (player != null) {
-                    return; // Source is a player, don't modify
-                }
-            }
-
-            // Check if source is an NPC
-            if (NPCEntity.getComponentType() == null) {
+            // Single check: only comet wave NPCs carry the component
+            CometWaveMob waveMob = store.getComponent(sourceRef, waveMobType);
+            if (waveMob == null) {
                 return;
             }
 
-            NPCEntity npc = store.getComponent(sourceRef, NPCEntity.getComponentType());
-            if (npc == null) {
-                return; // Source is not an NPC
-            }
-
-            // Get the NPC's UUID
-            com.hypixel.hytale.server.core.entity.UUIDComponent uuidComponent = store.getComponent(sourceRef,
-                    com.hypixel.hytale.server.core.entity.UUIDComponent.getComponentType());
-            if (uuidComponent == null) {
-                return;
-            }
-
-            UUID npcUUID = uuidComponent.getUuid();
-
-            // Get damage multiplier from our tracking system
-            float damageMultiplier = CometStatModifierSystem.getDamageMultiplier(npcUUID);
-
+            float damageMultiplier = waveMob.getDamageMultiplier();
             if (damageMultiplier == 1.0f) {
                 return; // No multiplier (1x), skip
             }
 
-            // Apply the damage multiplier
+            // Apply the damage multiplier, never letting it go negative
             float originalDamage = damage.getAmount();
-            float newDamage = originalDamage * damageMultiplier;
-
-            // Ensure damage doesn't go negative
-            newDamage = Math.max(0, newDamage);
-
+            float newDamage = Math.max(0, originalDamage * damageMultiplier);
             damage.setAmount(newDamage);
 
-            LOGGER.info("[CometDamageModifier] Modified damage from NPC " + npc.getRoleName() +
-                    ": " + originalDamage + " -> " + newDamage + " (" + damageMultiplier + "x)");
-
+            if (CometLog.isEnabled(CometLog.Category.DAMAGE, Level.FINE)) {
+                CometLog.fine(CometLog.Category.DAMAGE, "[CometDamageModifier] Modified damage from "
+                        + waveMob.getTier().getName() + " comet NPC: "
+                        + originalDamage + " -> " + newDamage + " (" + damageMultiplier + "x)");
+            }
         } catch (Exception e) {
+            // Never let a modifier failure break the server's damage pipeline
             LOGGER.warning("[CometDamageModifier] Error in handle: " + e.getMessage());
             e.printStackTrace();
         }
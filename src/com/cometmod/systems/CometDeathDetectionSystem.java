@@ -2,26 +2,33 @@ package com.cometmod.systems;
 
 import com.cometmod.*;
 import com.cometmod.commands.*;
+import com.cometmod.components.CometWaveMob;
 import com.cometmod.services.*;
 import com.cometmod.spawn.*;
 import com.cometmod.systems.*;
 import com.cometmod.wave.*;
 
 
-import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
-import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
 import com.hypixel.hytale.server.core.modules.entity.damage.DeathComponent;
+import com.hypixel.hytale.server.core.modules.entity.damage.DeathSystems;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
 
-public class CometDeathDetectionSystem extends DamageEventSystem {
+/**
+ * Notifies the wave manager when a comet wave mob dies. Only entities carrying CometWaveMob match
+ * the query, so damage and deaths unrelated to comets never reach this system.
+ */
+public class CometDeathDetectionSystem extends DeathSystems.OnDeathSystem {
     private final CometWaveManager waveManager;
+    /** Built per instance: the CometWaveMob type is only known once the plugin has registered it. */
+    private final Query<EntityStore> query = Query.and(
+            CometWaveMob.getComponentType(),
+            DeathComponent.getComponentType());
 
     public CometDeathDetectionSystem(CometWaveManager waveManager) {
         this.waveManager = waveManager;
@@ -30,22 +37,13 @@ public class CometDeathDetectionSystem extends DamageEventSystem {
     @Override
     @Nonnull
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return query;
     }
 
     @Override
-    public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
-                      @Nonnull Store<EntityStore> store,
-                      @Nonnull CommandBuffer<EntityStore> commandBuffer,
-                      @Nonnull Damage damage) {
-        Ref<EntityStore> entityRef = archetypeChunk.getReferenceTo(index);
-        if (entityRef == null || !entityRef.isValid()) return;
-
-        commandBuffer.run(deferredStore -> {
-            DeathComponent deathComponent = deferredStore.getComponent(entityRef, DeathComponent.getComponentType());
-            if (deathComponent != null) {
-                waveManager.handleMobDeath(entityRef);
-            }
-        });
+    public void onComponentAdded(@Nonnull Ref<EntityStore> ref, @Nonnull DeathComponent component,
+            @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        // Deferred so wave progression (next wave spawns, loot) does not mutate the store mid-system
+        commandBuffer.run(deferredStore -> waveManager.handleMobDeath(ref));
     }
 }
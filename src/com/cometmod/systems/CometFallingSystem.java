@@ -10,21 +10,18 @@ import com.cometmod.wave.*;
 
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.Ref;
-import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
-import com.hypixel.hytale.server.core.modules.projectile.component.Projectile;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.cometmod.integration.ClaimProtectionGuard;
 import com.cometmod.integration.WorldProtectRegionGuard;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 public class CometFallingSystem {
@@ -43,33 +40,65 @@ public class CometFallingSystem {
         LOGGER.info("Despawn time set to: " + minutes + " minutes");
     }
 
-    // Map to track projectile target positions by UUID
-    // Key: projectile UUID, Value: target block position
-    private final Map<UUID, Vector3i> trackedProjectiles = new HashMap<>();
+    /** One in-flight comet projectile. Immutable; removing it from the table is the claim to land it. */
+    public static final class TrackedProjectile {
+        private final Vector3i target;
+        private final Ref<EntityStore> ref;
+        private final double spawnY;
+        private final long spawnTimeMs;
+        private final CometTier tier;
+        private final String themeId;
+        private final UUID ownerUUID;
+        private final int zoneId;
+
+        TrackedProjectile(Vector3i target, Ref<EntityStore> ref, double spawnY, long spawnTimeMs, CometTier tier,
+                String themeId, UUID ownerUUID, int zoneId) {
+            this.target = target;
+            this.ref = ref;
+            this.spawnY = spawnY;
+            this.spawnTimeMs = spawnTimeMs;
+            this.tier = tier != null ? tier : CometTier.UNCOMMON;
+            this.themeId = themeId;
+            this.ownerUUID = ownerUUID;
+            this.zoneId = zoneId;
+        }
 
-    // Map to track spawn Y positions for fallback position checking
-    // Key: projectile UUID, Value: spawn Y position
-    private final Map<UUID, Double> projectileSpawnY = new HashMap<>();
+        public Vector3i getTarget() {
+            return target;
+        }
 
-    // Map to track tier for each projectile
-    // Key: projectile UUID, Value: comet tier
-    private final Map<UUID, CometTier> projectileTiers = new HashMap<>();
+        public Ref<EntityStore> getRef() {
+            return ref;
+        }
 
-    // Map to track forced theme ID for each projectile (String-based)
-    // Key: projectile UUID, Value: theme ID
-    private final Map<UUID, String> projectileThemes = new HashMap<>();
+        public double getSpawnY() {
+            return spawnY;
+        }
 
-    // Map to track owner UUID for each projectile (for marker visibility)
-    // Key: projectile UUID, Value: owner player UUID
-    private final Map<UUID, UUID> projectileOwners = new HashMap<>();
+        public long getSpawnTimeMs() {
+            return spawnTimeMs;
+        }
 
-    // Map to track zone ID for each projectile (for zone-based rewards)
-    // Key: projectile UUID, Value: zone ID
-    private final Map<UUID, Integer> projectileZones = new HashMap<>();
+        public CometTier getTier() {
+            return tier;
+        }
 
-    // Map to track spawn time for each projectile (for timeout detection)
-    // Key: projectile UUID, Value: spawn timestamp in milliseconds
-    private final Map<UUID, Long> projectileSpawnTime = new HashMap<>();
+        public String getThemeId() {
+            return themeId;
+        }
+
+        public UUID getOwnerUUID() {
+            return ownerUUID;
+        }
+
+        public int getZoneId() {
+            return zoneId;
+        }
+    }
+
+    // In-flight projectiles, one record each
+    // Key: projectile UUID. Written by spawn commands, read by the scheduled fallback and entity-remove events
+    private final Map<UUID, TrackedProjectile> trackedProjectiles = new ConcurrentHashMap<>();
 
     // Timeout for projectile falling (in seconds) - if exceeded, force spawn comet at target
     private static final long PROJECTILE_TIMEOUT_SECONDS = 15;
@@ -84,51 +113,30 @@ public class CometFallingSystem {
         return world;
     }
 
-    public void trackProjectile(UUID projectileUUID, Vector3i targetBlockPos, double spawnY, CometTier tier,
-            String themeId, UUID ownerUUID, int zoneId) {
-        trackedProjectiles.put(projectileUUID, targetBlockPos);
-        projectileSpawnY.put(projectileUUID, spawnY);
-        projectileTiers.put(projectileUUID, tier);
-        projectileZones.put(projectileUUID, zoneId);
-        projectileSpawnTime.put(projectileUUID, System.currentTimeMillis());
-        if (themeId != null) {
-            projectileThemes.put(projectileUUID, themeId);
-        }
-        if (ownerUUID != null) {
-            projectileOwners.put(projectileUUID, ownerUUID);
-        }
+    public void trackProjectile(UUID projectileUUID, Ref<EntityStore> projectileRef, Vector3i targetBlockPos,
+            double spawnY, CometTier tier, String themeId, UUID ownerUUID, int zoneId) {
+        trackedProjectiles.put(projectileUUID, new TrackedProjectile(targetBlockPos, projectileRef, spawnY,
+                System.currentTimeMillis(), tier, themeId, ownerUUID, zoneId));
         LOGGER.fine("Tracking projectile " + projectileUUID + " -> " + targetBlockPos);
     }
 
-    public Vector3i getTrackedTarget(UUID projectileUUID) {
+    public TrackedProjectile getTrackedProjectile(UUID projectileUUID) {
         return trackedProjectiles.get(projectileUUID);
     }
 
-    public Vector3i removeTrackedProjectile(UUID projectileUUID) {
-        Vector3i targetPos = trackedProjectiles.remove(projectileUUID);
-        projectileSpawnY.remove(projectileUUID);
-        projectileTiers.remove(projectileUUID);
-        projectileThemes.remove(projectileUUID);
-        projectileOwners.remove(projectileUUID);
-        projectileZones.remove(projectileUUID);
-        projectileSpawnTime.remove(projectileUUID);
-        return targetPos;
-    }
-
-    public CometTier getProjectileTier(UUID projectileUUID) {
-        return projectileTiers.getOrDefault(projectileUUID, CometTier.UNCOMMON);
-    }
-
-    public String getProjectileThemeId(UUID projectileUUID) {
-        return projectileThemes.get(projectileUUID);
-    }
-
-    public UUID getProjectileOwner(UUID projectileUUID) {
-        return projectileOwners.get(projectileUUID);
+    /**
+     * Atomically remove the projectile. Only the caller that gets a non-null record may place its
+     * comet, so the fallback and the entity-remove event can never both land the same projectile.
+     */
+    public TrackedProjectile removeTrackedProjectile(UUID projectileUUID) {
+        return trackedProjectiles.remove(projectileUUID);
     }
 
-    public int getProjectileZone(UUID projectileUUID) {
-        return projectileZones.getOrDefault(projectileUUID, 0);
+    /** Place the comet block for a projectile claimed via removeTrackedProjectile. */
+    public void landProjectile(World world, Store<EntityStore> store, TrackedProjectile projectile,
+            Vector3i blockPos) {
+        spawnCometBlock(world, blockPos, store, projectile.getTier(), projectile.getThemeId(),
+                projectile.getOwnerUUID(), projectile.getZoneId());
     }
 
     public void checkProjectilesFallback(World world, Store<EntityStore> store) {
@@ -137,120 +145,88 @@ public class CometFallingSystem {
         }
 
         try {
-            // Iterate through all chunks and check entities
-            store.forEachChunk(Query.any(), (archetypeChunk, commandBuffer) -> {
+            // Only visit the projectiles we spawned, via the refs kept at spawn time
+            java.util.List<Ref<EntityStore>> landedRefs = new java.util.ArrayList<>();
+            long now = System.currentTimeMillis();
+            for (Map.Entry<UUID, TrackedProjectile> entry : trackedProjectiles.entrySet()) {
+                UUID entityUUID = entry.getKey();
+                TrackedProjectile projectile = entry.getValue();
                 try {
-                    // Check if this chunk has Projectile and UUIDComponent
-                    if (!archetypeChunk.getArchetype().contains(Projectile.getComponentType()) ||
-                            !archetypeChunk.getArchetype().contains(UUIDComponent.getComponentType())) {
-                        return; // Skip chunks that don't have both components
+                    Ref<EntityStore> ref = projectile.getRef();
+                    if (ref == null || !ref.isValid()) {
+                        continue; // Not spawned yet or already gone; orphan cleanup handles stuck entries
                     }
 
-                    // Iterate through entities in this chunk
-                    int size = archetypeChunk.size();
-                    for (int i = 0; i < size; i++) {
-                        try {
-                            Ref<EntityStore> ref = archetypeChunk.getReferenceTo(i);
-                            if (ref == null || !ref.isValid()) {
-                                continue;
-                            }
+                    // Get position
+                    TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+                    if (transform == null) {
+                        continue;
+                    }
 
-                            UUIDComponent uuidComponent = store.getComponent(ref, UUIDComponent.getComponentType());
-                            if (uuidComponent == null) {
-                                continue;
-                            }
+                    Vector3d position = transform.getPosition();
 
-                            UUID entityUUID = uuidComponent.getUuid();
-                            Vector3i targetPos = trackedProjectiles.get(entityUUID);
+                    // Check for timeout (projectile stuck on entity)
+                    long elapsedSeconds = (now - projectile.getSpawnTimeMs()) / 1000;
+                    boolean timedOut = elapsedSeconds >= PROJECTILE_TIMEOUT_SECONDS;
 
-                            if (targetPos == null) {
-                                continue; // Not our tracked projectile
-                            }
+                    // Calculate target Y (ground level - spawnY was 100 blocks above target)
+                    double targetY = projectile.getSpawnY() - 100.0;
 
-                            // Get position
-                            TransformComponent transform = store.getComponent(ref,
-                                    TransformComponent.getComponentType());
-                            if (transform == null) {
-                                continue;
-                            }
+                    // Check if projectile has hit or passed the target Y level OR timed out
+                    if (position.y > targetY + 1.0 && !timedOut) {
+                        continue;
+                    }
+                    if (!trackedProjectiles.remove(entityUUID, projectile)) {
+                        continue; // Landed concurrently by the entity-remove handler
+                    }
+                    if (timedOut) {
+                        LOGGER.info("Projectile " + entityUUID + " timed out after " + elapsedSeconds + "s, force-spawning comet at target");
+                    }
+                    LOGGER.fine("Fallback: Projectile " + entityUUID + " hit ground" + (timedOut ? " (timed out)" : ""));
 
-                            Vector3d position = transform.getPosition();
-                            Double spawnY = projectileSpawnY.get(entityUUID);
-                            Long spawnTime = projectileSpawnTime.get(entityUUID);
-
-                            // Check for timeout (projectile stuck on entity)
-                            boolean timedOut = false;
-                            if (spawnTime != null) {
-                                long elapsedSeconds = (System.currentTimeMillis() - spawnTime) / 1000;
-                                if (elapsedSeconds >= PROJECTILE_TIMEOUT_SECONDS) {
-                                    timedOut = true;
-                                    LOGGER.info("Projectile " + entityUUID + " timed out after " + elapsedSeconds + "s, force-spawning comet at target");
-                                }
-                            }
+                    Vector3i actualBlockPos;
+                    if (timedOut) {
+                        // Use original target position when timed out (projectile stuck)
+                        actualBlockPos = projectile.getTarget();
+                    } else {
+                        // Use actual landing position - round to nearest block for X/Z
+                        int blockX = (int) Math.round(position.x);
+                        int blockZ = (int) Math.round(position.z);
+                        int landingBlockY = (int) Math.floor(position.y);
+
+                        // Find the actual solid ground below the landing position
+                        // The projectile might land on grass/plants, so we need to find the solid block
+                        int solidGroundY = findGroundLevelAtPosition(world, blockX, blockZ, landingBlockY);
+
+                        // Place comet one block above solid ground, or one above landing Y if none was found
+                        int blockY = solidGroundY != -1 ? solidGroundY + 1 : landingBlockY + 1;
+                        actualBlockPos = new Vector3i(blockX, blockY, blockZ);
+                    }
+
+                    landProjectile(world, store, projectile, actualBlockPos);
+                    landedRefs.add(ref);
+                } catch (Exception e) {
+                    LOGGER.warning("[CometFallingSystem] Error checking projectile " + entityUUID + ": " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
 
-                            if (spawnY != null) {
-                                // Calculate target Y (ground level - spawnY was 100 blocks above target)
-                                double targetY = spawnY - 100.0;
-
-                                // Check if projectile has hit or passed the target Y level OR timed out
-                                if (position.y <= targetY + 1.0 || timedOut) {
-                                    LOGGER.fine("Fallback: Projectile " + entityUUID + " hit ground" + (timedOut ? " (timed out)" : ""));
-
-                                    com.hypixel.hytale.math.vector.Vector3i actualBlockPos;
-
-                                    if (timedOut) {
-                                        // Use original target position when timed out (projectile stuck)
-                                        actualBlockPos = targetPos;
-                                    } else {
-                                        // Use actual landing position - round to nearest block for X/Z
-                                        int blockX = (int) Math.round(position.x);
-                                        int blockZ = (int) Math.round(position.z);
-                                        int landingBlockY = (int) Math.floor(position.y);
-
-                                        // Find the actual solid ground below the landing position
-                                        // The projectile might land on grass/plants, so we need to find the solid block
-                                        int solidGroundY = findGroundLevelAtPosition(world, blockX, blockZ, landingBlockY);
-
-                                        int blockY;
-                                        if (solidGroundY != -1) {
-                                            // Found solid ground, place comet one block above it
-                                            blockY = solidGroundY + 1;
-                                        } else {
-                                            // Fallback: place one block above landing Y
-                                            blockY = landingBlockY + 1;
-                                        }
-
-                                        actualBlockPos = new com.hypixel.hytale.math.vector.Vector3i(
-                                                blockX, blockY, blockZ);
-                                    }
-
-                                    CometTier tier = getProjectileTier(entityUUID);
-                                    String themeId = getProjectileThemeId(entityUUID);
-                                    UUID ownerUUID = getProjectileOwner(entityUUID);
-                                    int zoneId = getProjectileZone(entityUUID);
-                                    spawnCometBlock(world, actualBlockPos, store, tier, themeId, ownerUUID, zoneId);
-                                    removeTrackedProjectile(entityUUID);
-
-                                    // Remove the projectile entity
-                                    try {
-                                        commandBuffer.removeEntity(ref,
-                                                com.hypixel.hytale.component.RemoveReason.REMOVE);
-                                    } catch (Exception e) {
-                                        LOGGER.warning(
-                                                "[CometFallingSystem] Could not remove projectile: " + e.getMessage());
-                                    }
-                                }
+            // Remove the landed projectile entities in one command buffer
+            if (!landedRefs.isEmpty()) {
+                com.hypixel.hytale.component.CommandBuffer<EntityStore> commandBuffer = com.cometmod.util.CommandBufferUtil.take(store);
+                if (commandBuffer != null) {
+                    for (Ref<EntityStore> ref : landedRefs) {
+                        try {
+                            if (ref.isValid()) {
+                                commandBuffer.removeEntity(ref, com.hypixel.hytale.component.RemoveReason.REMOVE);
                             }
                         } catch (Exception e) {
-                            LOGGER.warning("[CometFallingSystem] Error checking entity in chunk: " + e.getMessage());
-                            e.printStackTrace();
+                            LOGGER.warning("[CometFallingSystem] Could not remove projectile: " + e.getMessage());
                         }
                     }
-                } catch (Exception e) {
-                    LOGGER.warning("[CometFallingSystem] Error in chunk iteration: " + e.getMessage());
-                    e.printStackTrace();
+                    com.cometmod.util.CommandBufferUtil.consume(commandBuffer);
                 }
-            });
+            }
 
             // Cleanup pass: handle orphaned projectiles that timed out but entity is gone
             cleanupOrphanedProjectiles(world, store);
@@ -267,32 +243,21 @@ public class CometFallingSystem {
         }
 
         long currentTime = System.currentTimeMillis();
-        java.util.List<UUID> toRemove = new java.util.ArrayList<>();
-
-        for (Map.Entry<UUID, Long> entry : projectileSpawnTime.entrySet()) {
+        for (Map.Entry<UUID, TrackedProjectile> entry : trackedProjectiles.entrySet()) {
             UUID projectileUUID = entry.getKey();
-            Long spawnTime = entry.getValue();
+            TrackedProjectile projectile = entry.getValue();
 
-            if (spawnTime != null) {
-                long elapsedSeconds = (currentTime - spawnTime) / 1000;
-                // Use a longer timeout for orphan cleanup (30 seconds) to give normal processing time
-                if (elapsedSeconds >= PROJECTILE_TIMEOUT_SECONDS * 2) {
-                    toRemove.add(projectileUUID);
-                }
+            long elapsedSeconds = (currentTime - projectile.getSpawnTimeMs()) / 1000;
+            // Use a longer timeout for orphan cleanup (30 seconds) to give normal processing time
+            if (elapsedSeconds < PROJECTILE_TIMEOUT_SECONDS * 2) {
+                continue;
             }
-        }
-
-        for (UUID projectileUUID : toRemove) {
-            Vector3i targetPos = trackedProjectiles.get(projectileUUID);
-            if (targetPos != null) {
-                LOGGER.warning("Cleaning up orphaned projectile " + projectileUUID + " - spawning comet at target " + targetPos);
-                CometTier tier = getProjectileTier(projectileUUID);
-                String themeId = getProjectileThemeId(projectileUUID);
-                UUID ownerUUID = getProjectileOwner(projectileUUID);
-                int zoneId = getProjectileZone(projectileUUID);
-                spawnCometBlock(world, targetPos, store, tier, themeId, ownerUUID, zoneId);
+            if (!trackedProjectiles.remove(projectileUUID, projectile)) {
+                continue;
             }
-            removeTrackedProjectile(projectileUUID);
+            LOGGER.warning("Cleaning up orphaned projectile " + projectileUUID + " - spawning comet at target "
+                    + projectile.getTarget());
+            landProjectile(world, store, projectile, projectile.getTarget());
         }
     }
 
@@ -301,29 +266,23 @@ public class CometFallingSystem {
         // Start from startY (the block the projectile is in/above)
         int minY = Math.max(0, startY - 50); // Search down up to 50 blocks
 
-        // Check startY first (projectile might be directly above a solid block)
+        // When the column's topmost solid block is at or below startY it is also the first one below it
+        if (startY <= ColumnHeightCache.MAX_Y) {
+            int top = ColumnHeightCache.forWorld(world).getTopSolidY(world, x, z);
+            if (top <= startY) {
+                return top >= minY ? top : -1;
+            }
+        }
+
+        // Landed under an overhang (or above the cached range): scan the column below startY
+        WorldChunk chunk = world.getChunkIfInMemory(com.hypixel.hytale.math.util.ChunkUtil.indexChunkFromBlock(x, z));
         for (int y = startY; y >= minY; y--) {
             try {
-                com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType blockType = world.getBlockType(x,
-                        y, z);
-
-                if (blockType != null) {
-                    // Check if block is solid using the same method as spawning system
-                    int blockId = com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType.getAssetMap()
-                            .getIndex(blockType.getId());
-
-                    // Check if block is solid (not air, not empty)
-                    if (blockId != 0) {
-                        // Check material - same as LocalSpawnControllerSystem
-                        Object material = blockType.getMaterial();
-                        if (material != null) {
-                            String materialStr = material.toString();
-                            // Solid blocks are valid ground
-                            if (materialStr.equals("Solid") || materialStr.equals("Opaque")) {
-                                return y;
-                            }
-                        }
-                    }
+                boolean solid = chunk != null
+                        ? BlockSolidityTable.isSolid(chunk.getBlock(x, y, z))
+                        : BlockSolidityTable.isSolid(world.getBlockType(x, y, z));
+                if (solid) {
+                    return y;
                 }
             } catch (Exception e) {
                 // Continue searching if block type check fails
@@ -378,7 +337,8 @@ public class CometFallingSystem {
                     .spawnProjectile(projectileUUID, playerRef, commandBuffer, projectileConfig, spawnPos, direction);
 
             if (projectileRef != null) {
-                trackProjectile(projectileUUID, targetBlockPos, spawnPos.y, tier, themeId, ownerUUID, zoneId);
+                trackProjectile(projectileUUID, projectileRef, targetBlockPos, spawnPos.y, tier, themeId, ownerUUID,
+                        zoneId);
             } else {
                 LOGGER.warning("Failed to spawn projectile, falling back to direct block spawn");
                 spawnCometBlock(targetWorld, targetBlockPos, store, tier, themeId, ownerUUID, zoneId);
@@ -462,6 +422,8 @@ public class CometFallingSystem {
                 }
             }
 
+            ColumnHeightCache.invalidate(world, blockPos.x, blockPos.z);
+
             // Clean up wave manager tracking and remove map marker (world available; store
             // not)
             CometWaveManager waveManager = CometModPlugin.getWaveManager();
@@ -1,6 +1,7 @@
 package com.cometmod.systems;
 
 import com.cometmod.CometConfig;
+import com.cometmod.components.CometWaveMob;
 import com.cometmod.wave.CometWaveManager;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
@@ -23,14 +24,14 @@ import javax.annotation.Nonnull;
  */
 public class CometWaveLootBlockerSystem extends com.hypixel.hytale.server.core.modules.entity.damage.DeathSystems.OnDeathSystem {
 
-    private static final Query<EntityStore> QUERY = Query.and(
-            com.hypixel.hytale.server.npc.entities.NPCEntity.getComponentType(),
-            DeathComponent.getComponentType());
-
     private static final Set<Dependency<EntityStore>> DEPENDENCIES = Set.of(
             new SystemDependency(Order.BEFORE, NPCDamageSystems.DropDeathItems.class));
 
     private final CometWaveManager waveManager;
+    /** Built per instance: the CometWaveMob type is only known once the plugin has registered it. */
+    private final Query<EntityStore> query = Query.and(
+            CometWaveMob.getComponentType(),
+            DeathComponent.getComponentType());
 
     public CometWaveLootBlockerSystem(CometWaveManager waveManager) {
         this.waveManager = waveManager;
@@ -39,7 +40,7 @@ public class CometWaveLootBlockerSystem extends com.hypixel.hytale.server.core.m
     @Override
     @Nonnull
     public Query<EntityStore> getQuery() {
-        return QUERY;
+        return query;
     }
 
     @Override
@@ -52,7 +53,7 @@ public class CometWaveLootBlockerSystem extends com.hypixel.hytale.server.core.m
     public void onComponentAdded(@Nonnull Ref<EntityStore> ref, @Nonnull DeathComponent component,
             @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
         CometConfig config = CometConfig.getInstance();
-        if (config == null || !config.disableWaveMobLoot) return;
+        if (config == null || !config.isDisableWaveMobLoot()) return;
         if (!waveManager.isCometWaveMob(store, ref)) return;
 
         component.setItemsLossMode(DeathConfig.ItemsLossMode.NONE);
@@ -0,0 +1,80 @@
+package com.cometmod.util;
+
+import java.util.Random;
+
+/**
+ * Weighted sampler over outcomes 0..n-1 built with Vose's alias method: O(n) to build, then one
+ * random draw and one array lookup per sample regardless of how many outcomes there are.
+ * Immutable once built, so a table can be shared between threads.
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights non-negative weights (need not sum to 1); negative or NaN weights count as 0
+     * @throws IllegalArgumentException when no weight is positive
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0.0;
+        for (double w : weights) {
+            if (w > 0.0) total += w;
+        }
+        if (!(total > 0.0) || Double.isInfinite(total)) {
+            throw new IllegalArgumentException("AliasTable needs at least one positive, finite weight");
+        }
+
+        probability = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] > 0.0 ? weights[i] * n / total : 0.0;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Leftovers are 1.0 up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    /** Draw an outcome index. Uses a single nextDouble: the integer part picks the column, the rest the coin. */
+    public int sample(Random random) {
+        double x = random.nextDouble() * probability.length;
+        int column = (int) x;
+        return (x - column) < probability[column] ? column : alias[column];
+    }
+}
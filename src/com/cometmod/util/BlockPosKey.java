@@ -0,0 +1,43 @@
+package com.cometmod.util;
+
+import com.hypixel.hytale.math.vector.Vector3i;
+
+/**
+ * Packs block coordinates into a single long (26 bits x, 26 bits z, 12 bits y, all signed) so
+ * per-block tables can be keyed by a primitive instead of a Vector3i.
+ */
+public final class BlockPosKey {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1L;
+    private static final long Y_MASK = (1L << Y_BITS) - 1L;
+    private static final int Z_SHIFT = Y_BITS;
+    private static final int X_SHIFT = Y_BITS + XZ_BITS;
+
+    private BlockPosKey() {}
+
+    public static long pack(int x, int y, int z) {
+        return ((x & XZ_MASK) << X_SHIFT) | ((z & XZ_MASK) << Z_SHIFT) | (y & Y_MASK);
+    }
+
+    public static long pack(Vector3i pos) {
+        return pack(pos.x, pos.y, pos.z);
+    }
+
+    public static int unpackX(long key) {
+        return (int) (key >> X_SHIFT);
+    }
+
+    public static int unpackY(long key) {
+        return (int) (key << (64 - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    public static int unpackZ(long key) {
+        return (int) (key << (64 - X_SHIFT) >> (64 - XZ_BITS));
+    }
+
+    public static Vector3i unpack(long key) {
+        return new Vector3i(unpackX(key), unpackY(key), unpackZ(key));
+    }
+}
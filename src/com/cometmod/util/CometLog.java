@@ -0,0 +1,183 @@
+package com.cometmod.util;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Logging for raid hot paths (wave ticks, mob deaths, damage, stat modifiers, block events).
+ * Each category has its own level, set from the config's logLevels section. A disabled call costs a
+ * volatile read and no allocation, because every call site is written as
+ * {@code if (CometLog.isEnabled(category, level)) CometLog.fine(category, "..." + value)}. Enabled messages
+ * go into a bounded ring buffer drained by a daemon thread, so the calling thread never blocks on
+ * handler I/O; when the buffer is full new messages are dropped and counted.
+ *
+ * The category level only decides what gets recorded. Server console handlers pass INFO and above, so
+ * enabled FINE/FINER/FINEST messages are written at INFO with the original level as a prefix.
+ */
+public final class CometLog {
+
+    public enum Category {
+        WAVE,
+        MOBS,
+        DAMAGE,
+        STATS,
+        BLOCKS;
+
+        final Logger logger = Logger.getLogger("com.cometmod." + name().toLowerCase(Locale.ROOT));
+        volatile int threshold = Level.INFO.intValue();
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(CometLog.class.getName());
+    private static final int BUFFER_CAPACITY = 4096;
+
+    private static final class Entry {
+        final Category category;
+        final Level level;
+        final String message;
+
+        Entry(Category category, Level level, String message) {
+            this.category = category;
+            this.level = level;
+            this.message = message;
+        }
+    }
+
+    private static final BlockingQueue<Entry> BUFFER = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final long SHUTDOWN_JOIN_MS = 2000L;
+    private static volatile Thread appender;
+    private static volatile boolean stopped;
+
+    private CometLog() {}
+
+    public static boolean isEnabled(Category category, Level level) {
+        return level.intValue() >= category.threshold;
+    }
+
+    /** Call sites check isEnabled first, so a disabled message is never built. */
+    public static void log(Category category, Level level, String message) {
+        if (level.intValue() < category.threshold) {
+            return;
+        }
+        if (stopped) {
+            // Appender is gone; late messages during shutdown are written on the caller
+            write(new Entry(category, level, message));
+            return;
+        }
+        if (!BUFFER.offer(new Entry(category, level, message))) {
+            DROPPED.incrementAndGet();
+            return;
+        }
+        ensureAppender();
+    }
+
+    public static void fine(Category category, String message) {
+        log(category, Level.FINE, message);
+    }
+
+    public static void setLevel(Category category, Level level) {
+        category.threshold = level.intValue();
+    }
+
+    /**
+     * Apply category levels by key (e.g. "wave" -> "FINE"). Categories not listed go back to INFO.
+     */
+    public static void configure(Map<String, String> levels) {
+        for (Category category : Category.values()) {
+            String value = levels != null ? levels.get(category.key()) : null;
+            Level level = Level.INFO;
+            if (value != null) {
+                try {
+                    level = Level.parse(value.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    LOGGER.warning("Unknown log level '" + value + "' for category " + category.key() + ", using INFO");
+                }
+            }
+            setLevel(category, level);
+        }
+    }
+
+    /**
+     * Stop the appender thread, wait for it to finish its current message, then write out whatever is
+     * still buffered on the calling thread (called on plugin shutdown).
+     */
+    public static void shutdown() {
+        Thread t;
+        synchronized (CometLog.class) {
+            stopped = true;
+            t = appender;
+            appender = null;
+        }
+        if (t != null) {
+            t.interrupt();
+            try {
+                t.join(SHUTDOWN_JOIN_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (t.isAlive()) {
+                LOGGER.warning("CometLog appender did not stop within " + SHUTDOWN_JOIN_MS + "ms");
+                return;
+            }
+        }
+        drain();
+    }
+
+    private static void ensureAppender() {
+        if (appender != null || stopped) return;
+        synchronized (CometLog.class) {
+            if (appender != null || stopped) return;
+            Thread t = new Thread(CometLog::runAppender, "CometLog-Appender");
+            t.setDaemon(true);
+            t.start();
+            appender = t;
+        }
+    }
+
+    private static void runAppender() {
+        while (!stopped) {
+            try {
+                Entry entry = BUFFER.poll(1, TimeUnit.SECONDS);
+                if (entry != null) {
+                    write(entry);
+                    drain();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // Keep the appender alive; a broken handler must not stop later messages
+            }
+        }
+    }
+
+    private static void drain() {
+        Entry entry;
+        while ((entry = BUFFER.poll()) != null) {
+            write(entry);
+        }
+        long dropped = DROPPED.getAndSet(0);
+        if (dropped > 0) {
+            LOGGER.warning("Dropped " + dropped + " log messages (buffer full)");
+        }
+    }
+
+    private static void write(Entry entry) {
+        Logger logger = entry.category.logger;
+        if (entry.level.intValue() < Level.INFO.intValue()) {
+            logger.logp(Level.INFO, logger.getName(), null, "[" + entry.level.getName() + "] " + entry.message);
+        } else {
+            logger.logp(entry.level, logger.getName(), null, entry.message);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.cometmod.util;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collects work items per world and hands each world a single world-thread task per flush,
+ * instead of one world.execute lambda per item. Items are de-duplicated (by equals) until flushed.
+ */
+public final class WorldTaskBatcher<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(WorldTaskBatcher.class.getName());
+
+    private final String name;
+    private final Consumer<T> handler;
+    private final Map<World, Set<T>> pending = new LinkedHashMap<>();
+
+    private volatile int lastFlushDepth;
+    private volatile int maxFlushDepth;
+
+    /**
+     * @param name    label used in log messages
+     * @param handler runs on the world thread for every queued item
+     */
+    public WorldTaskBatcher(String name, Consumer<T> handler) {
+        this.name = name;
+        this.handler = handler;
+    }
+
+    /** Queue an item for the world's next batch. Returns false if it is already queued. */
+    public synchronized boolean enqueue(World world, T item) {
+        if (world == null || item == null) return false;
+        return pending.computeIfAbsent(world, w -> new LinkedHashSet<>()).add(item);
+    }
+
+    /** Submit one world-thread task per world that has queued items. */
+    public void flush() {
+        Map<World, Set<T>> batches;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                lastFlushDepth = 0;
+                return;
+            }
+            batches = new LinkedHashMap<>(pending);
+            pending.clear();
+        }
+
+        int depth = 0;
+        for (Map.Entry<World, Set<T>> entry : batches.entrySet()) {
+            World world = entry.getKey();
+            Set<T> batch = entry.getValue();
+            depth += batch.size();
+            try {
+                world.execute(() -> drain(batch));
+            } catch (Exception e) {
+                LOGGER.warning("[" + name + "] Could not submit batch of " + batch.size() + " to world "
+                        + world.getName() + ": " + e.getMessage());
+            }
+        }
+
+        lastFlushDepth = depth;
+        if (depth > maxFlushDepth) {
+            maxFlushDepth = depth;
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("[" + name + "] Flushed " + depth + " item(s) across " + batches.size() + " world task(s)");
+        }
+    }
+
+    public synchronized int getPendingDepth() {
+        int depth = 0;
+        for (Set<T> batch : pending.values()) {
+            depth += batch.size();
+        }
+        return depth;
+    }
+
+    /** Items submitted by the most recent flush. */
+    public int getLastFlushDepth() {
+        return lastFlushDepth;
+    }
+
+    /** Largest single flush since startup. */
+    public int getMaxFlushDepth() {
+        return maxFlushDepth;
+    }
+
+    public synchronized void clear() {
+        pending.clear();
+    }
+
+    private void drain(Set<T> batch) {
+        for (T item : batch) {
+            try {
+                handler.accept(item);
+            } catch (Exception e) {
+                LOGGER.warning("[" + name + "] Batched task failed: " + e.getMessage());
+            }
+        }
+    }
+}
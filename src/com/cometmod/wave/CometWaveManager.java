@@ -2,10 +2,13 @@ package com.cometmod.wave;
 
 import com.cometmod.*;
 import com.cometmod.commands.*;
+import com.cometmod.components.CometWaveMob;
 import com.cometmod.loot.*;
 import com.cometmod.services.*;
 import com.cometmod.spawn.*;
 import com.cometmod.systems.*;
+import com.cometmod.util.CometLog;
+import com.cometmod.util.WorldTaskBatcher;
 import com.cometmod.wave.*;
 
 
@@ -25,6 +28,7 @@ import it.unimi.dsi.fastutil.Pair;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -41,12 +45,6 @@ public class CometWaveManager {
     private final CometRewardService rewardService = new CometRewardService();
     private final CometWaveUiService waveUiService = new CometWaveUiService();
 
-    // State aliases for concise access throughout this class.
-    private final Map<Vector3i, CometState> activeComets = waveState.activeComets();
-    private final Map<Vector3i, CometTier> cometTiers = waveState.cometTiers();
-    private final Map<Vector3i, java.util.UUID> cometOwners = waveState.cometOwners();
-    private final Map<Vector3i, Integer> cometZones = waveState.cometZones();
-
     public void setPlugin(com.hypixel.hytale.server.core.plugin.PluginBase plugin) {
         this.plugin = plugin;
     }
@@ -54,10 +52,6 @@ public class CometWaveManager {
     private static final int WAVE_MOB_COUNT = 5;
     private static final Random RANDOM = new Random();
 
-    // Track current/forced theme IDs for comet blocks.
-    private final Map<Vector3i, String> cometThemes = waveState.cometThemes();
-    private final Map<Vector3i, String> forcedThemes = waveState.forcedThemes();
-
     // Max ranged mobs per wave (applies to ALL tiers)
     private static final int MAX_RANGED_PER_WAVE = 1;
 
@@ -99,6 +93,20 @@ public class CometWaveManager {
         return waveState.getCometOwnersSnapshot();
     }
 
+    /**
+     * Get the comet map markers visible to this player (unowned comets and their own)
+     */
+    public com.hypixel.hytale.protocol.packets.worldmap.MapMarker[] getVisibleMarkers(java.util.UUID viewerUUID) {
+        return waveState.getVisibleMarkers(viewerUUID);
+    }
+
+    /**
+     * Version of the comet marker set; changes on registration, state transitions and marker removal
+     */
+    public long getMarkerVersion() {
+        return waveState.getMarkerVersion();
+    }
+
     /**
      * Check if there's an active comet near the given position
      *
@@ -119,7 +127,7 @@ public class CometWaveManager {
      * @return The owner UUID, or null if not found
      */
     public java.util.UUID getCometOwner(Vector3i blockPos) {
-        return cometOwners.get(blockPos);
+        return waveState.getOwner(blockPos);
     }
 
     /**
@@ -144,9 +152,12 @@ public class CometWaveManager {
 
     private static class WaveData {
         final List<Ref<EntityStore>> spawnedMobs = new ArrayList<>();
+        final Map<UUID, Ref<EntityStore>> mobRefsByUuid = new ConcurrentHashMap<>(); // Indexed subset of spawnedMobs
+        final List<Ref<EntityStore>> unindexedMobs = new ArrayList<>(); // Spawned before their UUID was available
         final Vector3i blockPos;
         final Ref<EntityStore> playerRef;
         final Store<EntityStore> store;
+        final CometConfig config; // Config snapshot this raid started with; a reload mid-raid does not change it
         long startTime; // Track when wave started for timeout (not final - needs to be reset for each wave)
         long lastTimerUpdate = 0; // Track last time timer was updated (to update every 5 seconds)
         int initialSpawnCount = 0; // Track how many mobs were actually spawned
@@ -156,11 +167,22 @@ public class CometWaveManager {
         int currentWaveIndex = 0; // 0-based wave index for multi-wave support
         int totalWaveCount = 2; // Total waves in this encounter (default 2: 1 normal + 1 boss)
         String themeName = "Unknown"; // Display name of the current theme
+        volatile WaveTimerWheel.Timer<WaveData> timeoutTimer; // Deadline for the current wave stage
+        volatile WaveTimerWheel.Timer<WaveData> refreshTimer; // Next periodic countdown refresh
+        volatile boolean timedOut = false; // Set once the deadline fires; the next dispatch destroys the comet
+        // Countdown title rendering state, reused every refresh
+        final WaveTitleTemplate.Values titleValues = new WaveTitleTemplate.Values();
+        final StringBuilder titleBuilder = new StringBuilder(64);
+        final StringBuilder subtitleBuilder = new StringBuilder(64);
+        String lastTitleSent;
+        String lastSubtitleSent;
+        PlayerRef lastTitleRecipient;
 
         WaveData(Vector3i blockPos, Ref<EntityStore> playerRef, Store<EntityStore> store) {
             this.blockPos = blockPos;
             this.playerRef = playerRef;
             this.store = store;
+            this.config = CometConfig.getInstance();
             this.startTime = System.currentTimeMillis();
             this.lastTimerUpdate = this.startTime;
         }
@@ -204,6 +226,22 @@ public class CometWaveManager {
 
     private final Map<Vector3i, WaveData> activeWaves = new ConcurrentHashMap<>();
 
+    /** Reverse index from a tracked wave mob's UUID to the wave that spawned it. */
+    private final Map<UUID, WaveData> mobOwners = new ConcurrentHashMap<>();
+
+    /** Countdown refresh cadence for each active wave. */
+    private static final long WAVE_REFRESH_INTERVAL_MS = 1000L;
+    /** How soon a timed out wave is dispatched again if the last cleanup didn't remove it. */
+    private static final long WAVE_TIMEOUT_RETRY_MS = 1000L;
+
+    /** Wave deadlines and countdown refreshes; checkTimeouts only visits timers that came due. */
+    private final WaveTimerWheel<WaveData> waveTimers = new WaveTimerWheel<>(100L, System.currentTimeMillis());
+    /** Reused by checkTimeouts (scheduler thread only). */
+    private final List<WaveTimerWheel.Timer<WaveData>> expiredWaveTimers = new ArrayList<>();
+    /** Coalesces each tick's countdown refreshes and timeouts into one world-thread task per world. */
+    private final WorldTaskBatcher<WaveData> waveDispatcher = new WorldTaskBatcher<>("CometWaveDispatch",
+            this::runDispatchedWave);
+
     /**
      * Check for wave timeouts and destroy expired comets
      * This should be called periodically (every 1 second) from the plugin
@@ -211,76 +249,109 @@ public class CometWaveManager {
      * operations on WorldThread
      */
     public void checkTimeouts() {
-        // Check all active waves for timeout
         long currentTime = System.currentTimeMillis();
-        java.util.List<Vector3i> timedOutWaves = new java.util.ArrayList<>();
-        java.util.List<WaveData> activeWavesToRefresh = new java.util.ArrayList<>();
-
-        for (Map.Entry<Vector3i, WaveData> entry : activeWaves.entrySet()) {
-            WaveData waveData = entry.getValue();
-            long elapsedTime = currentTime - waveData.startTime;
-
-            // Get tier-specific timeout
-            CometTier tier = cometTiers.getOrDefault(entry.getKey(), CometTier.UNCOMMON);
-            long tierTimeout = CometWaveRunner.getTierTimeoutMs(tier);
+        expiredWaveTimers.clear();
+        waveTimers.advance(currentTime, expiredWaveTimers);
+
+        for (int i = 0; i < expiredWaveTimers.size(); i++) {
+            WaveTimerWheel.Timer<WaveData> timer = expiredWaveTimers.get(i);
+            WaveData waveData = timer.payload();
+            if (activeWaves.get(waveData.blockPos) != waveData) {
+                continue; // Wave already finished or replaced
+            }
 
-            if (elapsedTime >= tierTimeout) {
-                LOGGER.info("[checkTimeouts] TIMEOUT for wave at " + entry.getKey() +
-                        " (elapsed=" + (elapsedTime / 1000) + "s)");
-                timedOutWaves.add(entry.getKey());
-            } else {
-                activeWavesToRefresh.add(waveData);
+            if (timer == waveData.timeoutTimer) {
+                if (!waveData.timedOut) {
+                    LOGGER.info("[checkTimeouts] TIMEOUT for wave at " + waveData.blockPos +
+                            " (elapsed=" + ((currentTime - waveData.startTime) / 1000) + "s)");
+                } else {
+                    LOGGER.fine("[checkTimeouts] Retrying timeout cleanup for wave at " + waveData.blockPos);
+                }
+                if (waveData.refreshTimer != null) {
+                    waveData.refreshTimer.cancel();
+                }
+                // Re-arm until removeActiveWave cancels it, so a failed or dropped dispatch is retried
+                waveData.timeoutTimer = waveTimers.schedule(waveData, currentTime + WAVE_TIMEOUT_RETRY_MS);
+                dispatchWaveTimeout(waveData);
+            } else if (timer == waveData.refreshTimer) {
+                // Keep countdown UI advancing even when no mobs die.
+                waveData.refreshTimer = waveTimers.schedule(waveData, currentTime + WAVE_REFRESH_INTERVAL_MS);
+                refreshWaveCountdown(waveData);
             }
         }
+        expiredWaveTimers.clear();
+        waveDispatcher.flush();
+    }
 
-        // Keep countdown UI advancing even when no mobs die.
-        for (WaveData waveData : activeWavesToRefresh) {
-            refreshWaveCountdown(waveData);
-        }
+    /** Wave work items submitted to world threads by the most recent timeout check. */
+    public int getLastWaveDispatchDepth() {
+        return waveDispatcher.getLastFlushDepth();
+    }
 
-        // Destroy timed out waves - must execute on WorldThread
-        for (Vector3i blockPos : timedOutWaves) {
-            WaveData waveData = activeWaves.get(blockPos);
-            if (waveData == null)
-                continue;
+    /** Largest batch of wave work submitted by a single timeout check since startup. */
+    public int getMaxWaveDispatchDepth() {
+        return waveDispatcher.getMaxFlushDepth();
+    }
 
-            // Try to find a valid store to execute the cleanup
-            com.hypixel.hytale.component.Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store = waveData.store;
+    /** Wave work items queued but not yet submitted to a world thread. */
+    public int getPendingWaveDispatchDepth() {
+        return waveDispatcher.getPendingDepth();
+    }
 
-            if (store == null && waveData.playerRef != null && waveData.playerRef.isValid()) {
-                store = waveData.playerRef.getStore();
-            } else if (store == null) {
-                // Player dead/gone, try to use a mob ref
-                for (Ref<EntityStore> mobRef : waveData.spawnedMobs) {
-                    if (mobRef != null && mobRef.isValid()) {
-                        store = mobRef.getStore();
-                        break;
-                    }
-                }
-            }
+    public int getActiveWaveCount() {
+        return activeWaves.size();
+    }
 
-            if (store != null) {
-                // Get world and execute on WorldThread
-                try {
-                    com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
-                            .getExternalData()).getWorld();
+    /**
+     * (Re)arm the timeout for the wave's current stage and start its countdown refresh if needed.
+     * Call after the wave is put in activeWaves and whenever startTime is reset.
+     */
+    private void scheduleWaveTimers(WaveData waveData, CometTier tier) {
+        if (waveData.timeoutTimer != null) {
+            waveData.timeoutTimer.cancel();
+        }
+        waveData.timeoutTimer = waveTimers.schedule(waveData,
+                waveData.startTime + WaveThemeProvider.getTimeoutMillis(waveData.config, tier));
+        if (waveData.refreshTimer == null || waveData.refreshTimer.isCancelled()) {
+            waveData.refreshTimer = waveTimers.schedule(waveData,
+                    System.currentTimeMillis() + WAVE_REFRESH_INTERVAL_MS);
+        }
+    }
 
-                    final Store<EntityStore> finalStore = store;
-                    final WaveData finalWaveData = waveData;
+    private void removeActiveWave(Vector3i blockPos) {
+        WaveData waveData = activeWaves.remove(blockPos);
+        if (waveData == null) {
+            return;
+        }
+        untrackAllMobs(waveData);
+        if (waveData.timeoutTimer != null) {
+            waveData.timeoutTimer.cancel();
+        }
+        if (waveData.refreshTimer != null) {
+            waveData.refreshTimer.cancel();
+        }
+    }
 
-                    world.execute(() -> {
-                        destroyCometOnTimeout(finalStore, finalWaveData);
-                    });
-                } catch (Exception e) {
-                    LOGGER.warning("Error executing cleanup for timed out wave at " + blockPos + ": " + e.getMessage());
-                }
-            } else {
-                // Critical failure: No valid store found to clean up wave.
-                // Just remove it from active waves to prevent infinite loops,
-                // though the block and mobs might linger.
-                activeWaves.remove(blockPos);
-                LOGGER.warning("Could not find valid store to clean up orphaned wave at " + blockPos);
+    /** Destroy a timed out wave - must execute on WorldThread, batched with the tick's countdown refreshes. */
+    private void dispatchWaveTimeout(WaveData waveData) {
+        Vector3i blockPos = waveData.blockPos;
+        waveData.timedOut = true;
+
+        Store<EntityStore> store = resolveWaveStore(waveData);
+        if (store != null) {
+            try {
+                com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
+                        .getExternalData()).getWorld();
+                waveDispatcher.enqueue(world, waveData);
+            } catch (Exception e) {
+                LOGGER.warning("Error executing cleanup for timed out wave at " + blockPos + ": " + e.getMessage());
             }
+        } else {
+            // Critical failure: No valid store found to clean up wave.
+            // Just remove it from active waves to prevent infinite loops,
+            // though the block and mobs might linger.
+            removeActiveWave(blockPos);
+            LOGGER.warning("Could not find valid store to clean up orphaned wave at " + blockPos);
         }
     }
 
@@ -289,10 +360,27 @@ public class CometWaveManager {
             return;
         }
 
+        Store<EntityStore> store = resolveWaveStore(waveData);
+        if (store == null) {
+            return;
+        }
+
+        try {
+            com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
+                    .getExternalData()).getWorld();
+            waveDispatcher.enqueue(world, waveData);
+        } catch (Exception e) {
+            LOGGER.warning("Error refreshing countdown for wave at " + waveData.blockPos + ": " + e.getMessage());
+        }
+    }
+
+    /** Store to run wave work against: the wave's own, else the player's, else any live mob's. */
+    private Store<EntityStore> resolveWaveStore(WaveData waveData) {
         Store<EntityStore> store = waveData.store;
         if (store == null && waveData.playerRef != null && waveData.playerRef.isValid()) {
             store = waveData.playerRef.getStore();
         } else if (store == null) {
+            // Player dead/gone, try to use a mob ref
             for (Ref<EntityStore> mobRef : waveData.spawnedMobs) {
                 if (mobRef != null && mobRef.isValid()) {
                     store = mobRef.getStore();
@@ -300,31 +388,28 @@ public class CometWaveManager {
                 }
             }
         }
+        return store;
+    }
 
+    /** World-thread side of waveDispatcher: a timed out wave is destroyed, any other gets a countdown refresh. */
+    private void runDispatchedWave(WaveData waveData) {
+        if (activeWaves.get(waveData.blockPos) != waveData) {
+            return;
+        }
+        Store<EntityStore> store = resolveWaveStore(waveData);
         if (store == null) {
             return;
         }
-
-        try {
-            com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
-                    .getExternalData()).getWorld();
-            final Store<EntityStore> finalStore = store;
-            final Ref<EntityStore> finalPlayerRef = waveData.playerRef;
-            final WaveData finalWaveData = waveData;
-            world.execute(() -> {
-                if (!activeWaves.containsKey(finalWaveData.blockPos)) {
-                    return;
-                }
-                updateWaveCountdown(finalStore, finalPlayerRef, finalWaveData);
-            });
-        } catch (Exception e) {
-            LOGGER.warning("Error refreshing countdown for wave at " + waveData.blockPos + ": " + e.getMessage());
+        if (waveData.timedOut) {
+            destroyCometOnTimeout(store, waveData);
+        } else {
+            updateWaveCountdown(store, waveData.playerRef, waveData);
         }
     }
 
     public void handleCometActivation(Store<EntityStore> store, Ref<EntityStore> playerRef, Vector3i blockPos) {
-        if (CometConfig.DEBUG) {
-            LOGGER.info("[CometDebug] handleCometActivation at " + blockPos);
+        if (CometLog.isEnabled(CometLog.Category.WAVE, Level.FINE)) {
+            CometLog.fine(CometLog.Category.WAVE, "[CometDebug] handleCometActivation at " + blockPos);
         }
         com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
                 .getExternalData()).getWorld();
@@ -359,7 +444,7 @@ public class CometWaveManager {
                     }
                 }
                 tier = CometConfig.clampUnavailableTier(tier);
-                cometTiers.put(blockPos, tier);
+                waveState.setCometTier(blockPos, tier);
 
                 // Don't check if empty here - the droplist might not have populated yet
                 // Just open the container - it will populate when opened
@@ -379,10 +464,10 @@ public class CometWaveManager {
         }
         if (tier == null) tier = CometTier.UNCOMMON;
         tier = CometConfig.clampUnavailableTier(tier);
-        cometTiers.put(blockPos, tier);
+        waveState.setCometTier(blockPos, tier);
 
         // Check if this comet is already active (in memory)
-        CometState state = activeComets.getOrDefault(blockPos, CometState.UNTOUCHED);
+        CometState state = waveState.getCometState(blockPos);
 
         if (state == CometState.WAVE_ACTIVE) {
             // Wave already active, don't spawn again
@@ -398,7 +483,7 @@ public class CometWaveManager {
         }
 
         // Start a new wave
-        activeComets.put(blockPos, CometState.WAVE_ACTIVE);
+        waveState.setCometState(blockPos, CometState.WAVE_ACTIVE);
 
         LOGGER.info("Starting wave for comet at " + blockPos + " (tier: " + tier.getName() + ") - 3 second countdown");
 
@@ -436,7 +521,7 @@ public class CometWaveManager {
         com.hypixel.hytale.server.core.HytaleServer.SCHEDULED_EXECUTOR.schedule(() -> {
             worldForCountdown.execute(() -> {
                 if (!playerRefFinal.isValid()) {
-                    activeComets.remove(blockPosFinal);
+                    waveState.removeCometState(blockPosFinal);
                     return;
                 }
                 spawnWave(storeFinal, playerRefFinal, blockPosFinal, tierFinal);
@@ -467,15 +552,17 @@ public class CometWaveManager {
     }
 
     /**
-     * Helper to spawn an NPC and register global tier-based stat modifiers.
+     * Helper to spawn an NPC, tag it with a CometWaveMob component and apply tier-based stat modifiers.
      * This wraps the standard spawnNPC call and adds stat modifier registration.
      * 
      * @param store     The entity store
+     * @param waveBlockPos The comet block position owning the wave
      * @param npcPlugin The NPC plugin
      * @param npcType   The full NPC type string (with tier suffix)
      * @param baseMobId The base mob ID (without tier suffix)
      * @param spawnPos  The spawn position
      * @param rotation  The rotation
+     * @param config    The wave's config snapshot
      * @param themeId   The theme ID (kept for compatibility with existing call sites)
      * @param tier      The comet tier
      * @param zoneLevel The comet zone level/index
@@ -484,11 +571,13 @@ public class CometWaveManager {
      */
     private Pair<Ref<EntityStore>, com.hypixel.hytale.server.core.universe.world.npc.INonPlayerCharacter> spawnCometNPC(
             Store<EntityStore> store,
+            Vector3i waveBlockPos,
             NPCPlugin npcPlugin,
             String npcType,
             String baseMobId,
             Vector3d spawnPos,
             Vector3f rotation,
+            CometConfig config,
             String themeId,
             CometTier tier,
             int zoneLevel,
@@ -503,31 +592,33 @@ public class CometWaveManager {
                 try {
                     float[] multipliers = null;
                     if (isBoss) {
-                        multipliers = WaveThemeProvider.getBossStatMultipliers(themeId, tier, baseMobId, zoneLevel);
+                        multipliers = WaveThemeProvider.getBossStatMultipliers(config, themeId, tier, baseMobId, zoneLevel);
                     } else {
-                        multipliers = WaveThemeProvider.getMobStatMultipliers(themeId, tier, baseMobId, zoneLevel);
+                        multipliers = WaveThemeProvider.getMobStatMultipliers(config, themeId, tier, baseMobId, zoneLevel);
                     }
 
+                    float hpMult = 1.0f;
+                    float damageMult = 1.0f;
+                    float scaleMult = 1.0f;
+                    float speedMult = 1.0f;
                     if (multipliers != null && multipliers.length >= 4) {
-                        float hpMult = multipliers[0];
-                        float damageMult = multipliers[1];
-                        float scaleMult = multipliers[2];
-                        float speedMult = multipliers[3];
-
-                        // Get the UUID from the spawned entity
-                        com.hypixel.hytale.server.core.entity.UUIDComponent uuidComp = store.getComponent(
-                                result.first(),
-                                com.hypixel.hytale.server.core.entity.UUIDComponent.getComponentType());
-
-                        if (uuidComp != null) {
-                            UUID npcUUID = uuidComp.getUuid();
-                            // Call directly to apply modifiers immediately (fixes timing issue)
-                            CometStatModifierSystem.applyModifiers(store, result.first(), hpMult, damageMult,
-                                    scaleMult, speedMult);
-                            LOGGER.info("[CometWave] Applied tier stat scaling for " + npcType +
-                                    " (UUID: " + npcUUID + "): HP=" + hpMult + "x, Dmg=" + damageMult + "x, Scale="
-                                    + scaleMult + "x, Speed=" + speedMult + "x, ZoneLevel=" + zoneLevel);
-                        }
+                        hpMult = multipliers[0];
+                        damageMult = multipliers[1];
+                        scaleMult = multipliers[2];
+                        speedMult = multipliers[3];
+                    }
+
+                    // Every wave NPC carries its wave key and multipliers as a component
+                    CometWaveMob waveMob = new CometWaveMob(waveBlockPos, tier, hpMult, damageMult, scaleMult,
+                            speedMult);
+                    store.putComponent(result.first(), CometWaveMob.getComponentType(), waveMob);
+
+                    // Call directly to apply modifiers immediately (fixes timing issue)
+                    CometStatModifierSystem.applyModifiers(store, result.first(), waveMob);
+                    if (CometLog.isEnabled(CometLog.Category.MOBS, Level.FINE)) {
+                        CometLog.fine(CometLog.Category.MOBS, "[CometWave] Applied tier stat scaling for " + npcType +
+                                ": HP=" + hpMult + "x, Dmg=" + damageMult + "x, Scale="
+                                + scaleMult + "x, Speed=" + speedMult + "x, ZoneLevel=" + zoneLevel);
                     }
                 } catch (Exception e) {
                     LOGGER.warning(
@@ -543,8 +634,8 @@ public class CometWaveManager {
     }
 
     private void spawnWave(Store<EntityStore> store, Ref<EntityStore> playerRef, Vector3i blockPos, CometTier tier) {
-        if (CometConfig.DEBUG) {
-            LOGGER.info("[CometDebug] spawnWave at " + blockPos + " tier=" + (tier != null ? tier.getName() : "null"));
+        if (CometLog.isEnabled(CometLog.Category.WAVE, Level.FINE)) {
+            CometLog.fine(CometLog.Category.WAVE, "[CometDebug] spawnWave at " + blockPos + " tier=" + (tier != null ? tier.getName() : "null"));
         }
         NPCPlugin npcPlugin = NPCPlugin.get();
         if (npcPlugin == null) {
@@ -555,40 +646,42 @@ public class CometWaveManager {
         Vector3d centerPos = new Vector3d(blockPos.x + 0.5, blockPos.y + 1, blockPos.z + 0.5);
         WaveData waveData = new WaveData(blockPos, playerRef, store);
         activeWaves.put(blockPos, waveData);
+        scheduleWaveTimers(waveData, tier);
 
         // Select theme and get mob list based on tier.
         String themeId = themeSelectionService.selectThemeId(
+                waveData.config,
                 blockPos,
                 tier,
-                forcedThemes,
+                waveState,
                 LOGGER);
         if (themeId == null || themeId.isBlank()) {
             LOGGER.severe("Could not resolve a theme for tier " + tier.getName() + " at " + blockPos);
-            activeWaves.remove(blockPos);
+            removeActiveWave(blockPos);
             return;
         }
-        if (CometConfig.DEBUG) {
-            LOGGER.info("[CometDebug] spawnWave theme=" + themeId + " at " + blockPos);
+        if (CometLog.isEnabled(CometLog.Category.WAVE, Level.FINE)) {
+            CometLog.fine(CometLog.Category.WAVE, "[CometDebug] spawnWave theme=" + themeId + " at " + blockPos);
         }
 
-        cometThemes.put(blockPos, themeId);
+        waveState.setTheme(blockPos, themeId);
 
         // Initialize wave count from theme config (multi-wave support)
-        waveData.totalWaveCount = WaveThemeProvider.getWaveCount(themeId);
+        waveData.totalWaveCount = WaveThemeProvider.getWaveCount(waveData.config, themeId);
         waveData.currentWaveIndex = 0;
         waveData.currentWave = 1;
         LOGGER.info("Theme '" + themeId + "' has " + waveData.totalWaveCount + " waves (" +
-                WaveThemeProvider.getNormalWaveCount(themeId) + " normal, " +
-                WaveThemeProvider.getBossWaveCount(themeId) + " boss)");
+                WaveThemeProvider.getNormalWaveCount(waveData.config, themeId) + " normal, " +
+                WaveThemeProvider.getBossWaveCount(waveData.config, themeId) + " boss)");
 
         // Get mob list for wave 0 (first wave)
-        String[] mobList = WaveThemeProvider.getMobListForWave(tier, themeId, 0);
+        String[] mobList = WaveThemeProvider.getMobListForWave(waveData.config, tier, themeId, 0);
 
         // Store theme name for display
-        waveData.themeName = WaveThemeProvider.getThemeName(themeId);
+        waveData.themeName = WaveThemeProvider.getThemeName(waveData.config, themeId);
         LOGGER.info("Selected theme: " + waveData.themeName + " (ID: " + themeId + ") for tier " + tier.getName());
 
-        int zoneLevel = Math.max(0, cometZones.getOrDefault(blockPos, 0));
+        int zoneLevel = Math.max(0, waveState.getZoneOrDefault(blockPos, 0));
 
         if (mobList == null || mobList.length == 0) {
             LOGGER.warning("No mobs available for tier " + tier.getName() + " theme " + themeId);
@@ -598,7 +691,7 @@ public class CometWaveManager {
         }
 
         // Get tier-specific spawn radius from config
-        double[] radiusRange = WaveThemeProvider.getSpawnRadius(tier);
+        double[] radiusRange = WaveThemeProvider.getSpawnRadius(waveData.config, tier);
         double minRadius = radiusRange[0];
         double maxRadius = radiusRange[1];
 
@@ -680,9 +773,9 @@ public class CometWaveManager {
             }
 
             Pair<Ref<EntityStore>, com.hypixel.hytale.server.core.universe.world.npc.INonPlayerCharacter> result = spawnCometNPC(
-                    store, npcPlugin, npcType, npcType, toSpawn, rotation, themeId, tier, zoneLevel, false);
+                    store, blockPos, npcPlugin, npcType, npcType, toSpawn, rotation, waveData.config, themeId, tier, zoneLevel, false);
             if (result != null && result.first() != null) {
-                waveData.spawnedMobs.add(result.first());
+                trackSpawnedMob(store, waveData, result.first());
                 successPositions.add(toSpawn);
                 LOGGER.info("Spawned " + npcType + " at " + toSpawn);
             } else {
@@ -701,9 +794,9 @@ public class CometWaveManager {
                 if (retryPos != null) {
                     // Mob IDs are base IDs without tier suffixes
                     Pair<Ref<EntityStore>, com.hypixel.hytale.server.core.universe.world.npc.INonPlayerCharacter> res = spawnCometNPC(
-                            store, npcPlugin, f.npcType, f.npcType, retryPos, f.rotation, themeId, tier, zoneLevel, false);
+                            store, blockPos, npcPlugin, f.npcType, f.npcType, retryPos, f.rotation, waveData.config, themeId, tier, zoneLevel, false);
                     if (res != null && res.first() != null) {
-                        waveData.spawnedMobs.add(res.first());
+                        trackSpawnedMob(store, waveData, res.first());
                         successPositions.add(retryPos);
                         LOGGER.info("Spawned " + f.npcType + " at " + retryPos + " (retry near success)");
                     }
@@ -735,7 +828,7 @@ public class CometWaveManager {
         // respawned)
         Ref<EntityStore> currentPlayerRef = playerRef;
         if (currentPlayerRef == null || !currentPlayerRef.isValid()) {
-            java.util.UUID ownerUUID = cometOwners.get(waveData.blockPos);
+            java.util.UUID ownerUUID = waveState.getOwner(waveData.blockPos);
             if (ownerUUID != null) {
                 try {
                     com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
@@ -767,11 +860,16 @@ public class CometWaveManager {
         // Count remaining mobs - check for DeathComponent (more reliable than
         // EntityRemoveEvent)
         // Remove dead mobs (supports DeathComponent and health-based death states).
+        indexPendingMobs(store, waveData);
         int beforeCleanup = waveData.spawnedMobs.size();
         waveData.spawnedMobs.removeIf(ref -> isTrackedMobDead(store, ref));
         int afterCleanup = waveData.spawnedMobs.size();
         if (beforeCleanup != afterCleanup) {
-            LOGGER.info("Cleaned up " + (beforeCleanup - afterCleanup) + " dead/invalid mob refs");
+            pruneMobIndex(waveData);
+            if (CometLog.isEnabled(CometLog.Category.WAVE, Level.FINE)) {
+                CometLog.fine(CometLog.Category.WAVE,
+                        "Cleaned up " + (beforeCleanup - afterCleanup) + " dead/invalid mob refs");
+            }
         }
 
         // Count remaining alive mobs
@@ -782,8 +880,10 @@ public class CometWaveManager {
             }
         }
 
-        LOGGER.info("Wave at " + waveData.blockPos + ": " + remaining + " mobs remaining (out of "
-                + waveData.spawnedMobs.size() + " in list)");
+        if (CometLog.isEnabled(CometLog.Category.WAVE, Level.FINE)) {
+            CometLog.fine(CometLog.Category.WAVE, "Wave at " + waveData.blockPos + ": " + remaining
+                    + " mobs remaining (out of " + waveData.spawnedMobs.size() + " in list)");
+        }
 
         // Check if mob count changed (real-time detection)
         boolean mobCountChanged = (remaining != waveData.previousRemainingCount);
@@ -791,8 +891,8 @@ public class CometWaveManager {
         waveData.previousRemainingCount = remaining;
 
         // Get tier-specific timeout from config
-        CometTier tier = cometTiers.getOrDefault(waveData.blockPos, CometTier.UNCOMMON);
-        long tierTimeout = WaveThemeProvider.getTimeoutMillis(tier);
+        CometTier tier = waveState.getTier(waveData.blockPos, CometTier.UNCOMMON);
+        long tierTimeout = WaveThemeProvider.getTimeoutMillis(waveData.config, tier);
 
         // Check if wave has exceeded tier-specific timeout
         long currentTime = System.currentTimeMillis();
@@ -802,19 +902,10 @@ public class CometWaveManager {
         if (remainingTime <= 0) {
             LOGGER.warning("Wave at " + waveData.blockPos + " exceeded " + (tierTimeout / 1000)
                     + " second timeout! Destroying comet.");
-            // Timeout reached - destroy comet and clean up
-            // Must execute on WorldThread
-            try {
-                com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
-                        .getExternalData()).getWorld();
-                final Store<EntityStore> finalStore = store;
-                final WaveData finalWaveData = waveData;
-                world.execute(() -> {
-                    destroyCometOnTimeout(finalStore, finalWaveData);
-                });
-            } catch (Exception e) {
-                LOGGER.warning("Error executing timeout on WorldThread: " + e.getMessage());
-            }
+            // Timeout reached - destroy comet and clean up. Countdown refreshes already run on the
+            // world thread (waveDispatcher or a world event), so destroy in place
+            waveData.timedOut = true;
+            destroyCometOnTimeout(store, waveData);
             return;
         }
 
@@ -824,7 +915,6 @@ public class CometWaveManager {
 
         // Calculate remaining time in seconds
         int remainingSeconds = (int) (remainingTime / 1000);
-        String timeText = remainingSeconds + "s";
 
         // Always update when mob count changes (real-time), or update timer every second
         long timeSinceLastUpdate = currentTime - waveData.lastTimerUpdate;
@@ -836,72 +926,62 @@ public class CometWaveManager {
 
             // Only update title if player is available (dead players have null PlayerRef)
             if (playerRefComponent != null) {
-                Message primaryTitle;
-                Message secondaryTitle;
-
                 // Determine wave type for display
-                String themeId = cometThemes.get(waveData.blockPos);
-                boolean isBossWave = WaveThemeProvider.isWaveBoss(themeId, waveData.currentWaveIndex);
-
-                CometConfig cfg = CometConfig.getInstance();
-
+                String themeId = waveState.getTheme(waveData.blockPos);
+                boolean isBossWave = WaveThemeProvider.isWaveBoss(waveData.config, themeId, waveData.currentWaveIndex);
+
+                CometConfig cfg = waveData.config;
+                WaveTitleTemplate.Templates templates = cfg != null ? cfg.getWaveTitleTemplates()
+                        : WaveTitleTemplate.DEFAULTS;
+
+                WaveTitleTemplate.Values values = waveData.titleValues;
+                values.currentWave = waveData.currentWave;
+                values.totalWaves = waveData.totalWaveCount;
+                values.theme = waveData.themeName;
+                values.killed = killedMobs;
+                values.total = totalMobs;
+                values.timeSeconds = remainingSeconds;
+                values.bossStatus = remaining > 0 ? "Alive" : "Defeated";
+
+                boolean withCount = waveData.totalWaveCount > 2;
                 if (isBossWave) {
                     // Boss wave display
-                    String titleTemplate = (cfg != null ? cfg.msgWaveBossTitle : "Boss Wave %currentWave%/%totalWaves%");
-                    String titleNoCountTemplate = (cfg != null ? cfg.msgWaveBossTitleNoCount : "Boss Wave!");
-                    String subtitleTemplate = (cfg != null ? cfg.msgWaveBossSubtitle : "Boss: %bossStatus% | Time: %time%");
-
-                    String waveLabelTemplate = waveData.totalWaveCount > 2 ? titleTemplate : titleNoCountTemplate;
-                    String waveLabel = waveLabelTemplate
-                            .replace("%currentWave%", Integer.toString(waveData.currentWave))
-                            .replace("%totalWaves%", Integer.toString(waveData.totalWaveCount))
-                            .replace("%theme%", waveData.themeName != null ? waveData.themeName : "");
-
-                    String bossStatus = remaining > 0 ? "Alive" : "Defeated";
-                    String secondaryText = subtitleTemplate
-                            .replace("%bossStatus%", bossStatus)
-                            .replace("%time%", timeText);
-
-                    primaryTitle = Message.raw(waveLabel);
-                    secondaryTitle = Message.raw(secondaryText);
+                    (withCount ? templates.bossTitle : templates.bossTitleNoCount).render(waveData.titleBuilder, values);
+                    templates.bossSubtitle.render(waveData.subtitleBuilder, values);
                 } else {
                     // Normal wave display
-                    String titleTemplate = (cfg != null ? cfg.msgWaveTitle
-                            : "Wave %currentWave%/%totalWaves% - %theme%");
-                    String titleNoCountTemplate = (cfg != null ? cfg.msgWaveTitleNoCount
-                            : "%theme% Incoming!");
-                    String subtitleTemplate = (cfg != null ? cfg.msgWaveSubtitle
-                            : "Mobs: %killed%/%total% | Time: %time%");
-
-                    String waveLabelTemplate = waveData.totalWaveCount > 2 ? titleTemplate : titleNoCountTemplate;
-                    String waveLabel = waveLabelTemplate
-                            .replace("%currentWave%", Integer.toString(waveData.currentWave))
-                            .replace("%totalWaves%", Integer.toString(waveData.totalWaveCount))
-                            .replace("%theme%", waveData.themeName != null ? waveData.themeName : "");
-
-                    String secondaryText = subtitleTemplate
-                            .replace("%killed%", Integer.toString(killedMobs))
-                            .replace("%total%", Integer.toString(totalMobs))
-                            .replace("%time%", timeText);
-
-                    primaryTitle = Message.raw(waveLabel);
-                    secondaryTitle = Message.raw(secondaryText);
+                    (withCount ? templates.title : templates.titleNoCount).render(waveData.titleBuilder, values);
+                    templates.subtitle.render(waveData.subtitleBuilder, values);
                 }
 
-                LOGGER.info("Updating title: Wave=" + waveData.currentWave + "/" + waveData.totalWaveCount +
-                        " (boss=" + isBossWave + ") | Mobs=" + killedMobs + "/" + totalMobs +
-                        " | Time: " + timeText + (mobCountChanged ? " (mob died - real-time)" : " (periodic)"));
-
-                EventTitleUtil.hideEventTitleFromPlayer(playerRefComponent, 0.0F);
-                EventTitleUtil.showEventTitleToPlayer(
-                        playerRefComponent,
-                        primaryTitle,
-                        secondaryTitle,
-                        true,
-                        null,
-                        999.0F,
-                        0.0F,
-                        0.0F);
+                // Skip the title packet when this player already shows exactly this text
+                boolean unchanged = waveData.lastTitleRecipient == playerRefComponent
+                        && waveData.lastTitleSent != null
+                        && waveData.lastTitleSent.contentEquals(waveData.titleBuilder)
+                        && waveData.lastSubtitleSent.contentEquals(waveData.subtitleBuilder);
+                if (!unchanged) {
+                    waveData.lastTitleSent = waveData.titleBuilder.toString();
+                    waveData.lastSubtitleSent = waveData.subtitleBuilder.toString();
+                    waveData.lastTitleRecipient = playerRefComponent;
+
+                    if (CometLog.isEnabled(CometLog.Category.WAVE, Level.FINE)) {
+                        CometLog.fine(CometLog.Category.WAVE, "Updating title: Wave=" + waveData.currentWave + "/" + waveData.totalWaveCount +
+                                " (boss=" + isBossWave + ") | Mobs=" + killedMobs + "/" + totalMobs +
+                                " | Time: " + remainingSeconds + "s"
+                                + (mobCountChanged ? " (mob died - real-time)" : " (periodic)"));
+                    }
+
+                    EventTitleUtil.hideEventTitleFromPlayer(playerRefComponent, 0.0F);
+                    EventTitleUtil.showEventTitleToPlayer(
+                            playerRefComponent,
+                            Message.raw(waveData.lastTitleSent),
+                            Message.raw(waveData.lastSubtitleSent),
+                            true,
+                            null,
+                            999.0F,
+                            0.0F,
+                            0.0F);
+                }
             }
         }
 
@@ -977,6 +1057,81 @@ public class CometWaveManager {
         }
     }
 
+    /**
+     * Add a freshly spawned mob to the wave and index it by UUID for death attribution. A mob whose
+     * UUID isn't assigned yet is indexed by indexPendingMobs on a later countdown refresh.
+     */
+    private void trackSpawnedMob(Store<EntityStore> store, WaveData waveData, Ref<EntityStore> mobRef) {
+        waveData.spawnedMobs.add(mobRef);
+        if (!indexMob(store, waveData, mobRef)) {
+            waveData.unindexedMobs.add(mobRef);
+        }
+    }
+
+    private boolean indexMob(Store<EntityStore> store, WaveData waveData, Ref<EntityStore> mobRef) {
+        java.util.UUID mobUuid = getEntityUuid(store, mobRef);
+        if (mobUuid == null) {
+            return false;
+        }
+        waveData.mobRefsByUuid.put(mobUuid, mobRef);
+        mobOwners.put(mobUuid, waveData);
+        return true;
+    }
+
+    /** Retry indexing mobs whose UUID wasn't available at spawn; drops refs that left the wave. */
+    private void indexPendingMobs(Store<EntityStore> store, WaveData waveData) {
+        if (waveData.unindexedMobs.isEmpty()) {
+            return;
+        }
+        waveData.unindexedMobs.removeIf(ref -> !waveData.spawnedMobs.contains(ref) || indexMob(store, waveData, ref));
+    }
+
+    /**
+     * Fallback for deaths the UUID index can't attribute (ref already invalid, or mob not indexed
+     * yet): match the ref against every active wave's mob list and remove it from that wave.
+     */
+    private WaveData removeMobByRef(Ref<EntityStore> mobRef) {
+        if (mobRef == null) {
+            return null;
+        }
+        for (WaveData waveData : activeWaves.values()) {
+            for (int i = waveData.spawnedMobs.size() - 1; i >= 0; i--) {
+                Ref<EntityStore> ref = waveData.spawnedMobs.get(i);
+                boolean sameRef = ref != null && (ref == mobRef || ref.equals(mobRef)
+                        || (ref.isValid() && mobRef.isValid() && ref.getStore() == mobRef.getStore()
+                                && ref.getIndex() == mobRef.getIndex()));
+                if (!sameRef) {
+                    continue;
+                }
+                waveData.spawnedMobs.remove(i);
+                waveData.unindexedMobs.remove(ref);
+                pruneMobIndex(waveData);
+                return waveData;
+            }
+        }
+        return null;
+    }
+
+    /** Drop index entries for mobs no longer in the wave's spawned list. */
+    private void pruneMobIndex(WaveData waveData) {
+        Iterator<Map.Entry<UUID, Ref<EntityStore>>> it = waveData.mobRefsByUuid.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Ref<EntityStore>> entry = it.next();
+            if (!waveData.spawnedMobs.contains(entry.getValue())) {
+                it.remove();
+                mobOwners.remove(entry.getKey(), waveData);
+            }
+        }
+    }
+
+    private void untrackAllMobs(WaveData waveData) {
+        for (UUID mobUuid : waveData.mobRefsByUuid.keySet()) {
+            mobOwners.remove(mobUuid, waveData);
+        }
+        waveData.mobRefsByUuid.clear();
+        waveData.unindexedMobs.clear();
+    }
+
     /**
      * Destroy comet when wave times out (1 minute elapsed)
      */
@@ -1009,15 +1164,15 @@ public class CometWaveManager {
         }
 
         // Remove from active tracking
-        activeComets.remove(blockPos);
-        activeWaves.remove(blockPos);
+        waveState.removeCometState(blockPos);
+        removeActiveWave(blockPos);
 
         // Break the comet block
         try {
             com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
                     .getExternalData()).getWorld();
 
-            // Remove map marker (must be done before removing cometOwners)
+            // Remove map marker (must be done before clearing the comet's owner)
             removeCometMapMarker(world, blockPos);
             world.breakBlock(blockPos.x, blockPos.y, blockPos.z, 0);
             LOGGER.info("Broke comet block at " + blockPos + " due to timeout");
@@ -1040,9 +1195,9 @@ public class CometWaveManager {
                     EventTitleUtil.hideEventTitleFromPlayer(playerRefComponent, 0.0F);
 
                     // Show "Wave Failed!" message
-                    CometConfig cfg = CometConfig.getInstance();
-                    String titleTemplate = (cfg != null ? cfg.msgWaveFailedTitle : "Wave Failed!");
-                    String subtitleTemplate = (cfg != null ? cfg.msgWaveFailedSubtitle : "Time's Up!");
+                    CometConfig cfg = waveData.config;
+                    String titleTemplate = (cfg != null ? cfg.getMsgWaveFailedTitle() : "Wave Failed!");
+                    String subtitleTemplate = (cfg != null ? cfg.getMsgWaveFailedSubtitle() : "Time's Up!");
 
                     Message primaryTitle = Message.raw(titleTemplate);
                     Message secondaryTitle = Message.raw(subtitleTemplate);
@@ -1088,20 +1243,22 @@ public class CometWaveManager {
      */
     private void spawnNextWave(Store<EntityStore> store, Ref<EntityStore> playerRef, WaveData waveData) {
         // Advance to next wave
+        untrackAllMobs(waveData);
         waveData.advanceToNextWave();
 
         Vector3i blockPos = waveData.blockPos;
-        String themeId = cometThemes.get(blockPos);
+        String themeId = waveState.getTheme(blockPos);
         if (themeId == null) themeId = "skeleton";
 
-        CometTier tier = cometTiers.getOrDefault(blockPos, CometTier.UNCOMMON);
+        CometTier tier = waveState.getTier(blockPos, CometTier.UNCOMMON);
         int waveIndex = waveData.currentWaveIndex;
+        scheduleWaveTimers(waveData, tier);
 
         LOGGER.info("=== SPAWNING WAVE " + waveData.currentWave + "/" + waveData.totalWaveCount +
                 " (index " + waveIndex + ") ===");
 
         // Check wave type and spawn accordingly
-        if (WaveThemeProvider.isWaveBoss(themeId, waveIndex)) {
+        if (WaveThemeProvider.isWaveBoss(waveData.config, themeId, waveIndex)) {
             // Boss wave
             LOGGER.info("Wave " + waveData.currentWave + " is a BOSS wave");
             spawnBossWaveAtIndex(store, playerRef, waveData, waveIndex);
@@ -1124,13 +1281,13 @@ public class CometWaveManager {
         }
 
         Vector3i blockPos = waveData.blockPos;
-        CometTier tier = cometTiers.getOrDefault(blockPos, CometTier.UNCOMMON);
-        String themeId = cometThemes.get(blockPos);
+        CometTier tier = waveState.getTier(blockPos, CometTier.UNCOMMON);
+        String themeId = waveState.getTheme(blockPos);
         if (themeId == null) themeId = "skeleton";
-        int zoneLevel = Math.max(0, cometZones.getOrDefault(blockPos, 0));
+        int zoneLevel = Math.max(0, waveState.getZoneOrDefault(blockPos, 0));
 
         // Get mob list for this wave
-        String[] mobList = WaveThemeProvider.getMobListForWave(tier, themeId, waveIndex);
+        String[] mobList = WaveThemeProvider.getMobListForWave(waveData.config, tier, themeId, waveIndex);
         if (mobList == null || mobList.length == 0) {
             LOGGER.warning("No mobs found for wave " + waveData.currentWave + " in theme " + themeId);
             resolveWaveWithoutSpawns(store, playerRef, waveData,
@@ -1141,7 +1298,7 @@ public class CometWaveManager {
         LOGGER.info("Spawning " + mobList.length + " mobs for wave " + waveData.currentWave);
 
         // Get spawn radius
-        double[] radiusRange = WaveThemeProvider.getSpawnRadius(tier);
+        double[] radiusRange = WaveThemeProvider.getSpawnRadius(waveData.config, tier);
         double minRadius = radiusRange[0];
         double maxRadius = radiusRange[1];
 
@@ -1223,10 +1380,10 @@ public class CometWaveManager {
 
             Vector3f rotation = new Vector3f(0.0f, (float) (angle + Math.PI), 0.0f);
             Pair<Ref<EntityStore>, com.hypixel.hytale.server.core.universe.world.npc.INonPlayerCharacter> result =
-                    spawnCometNPC(store, npcPlugin, npcType, npcType, toSpawn, rotation, themeId, tier, zoneLevel, false);
+                    spawnCometNPC(store, blockPos, npcPlugin, npcType, npcType, toSpawn, rotation, waveData.config, themeId, tier, zoneLevel, false);
 
             if (result != null && result.first() != null) {
-                waveData.spawnedMobs.add(result.first());
+                trackSpawnedMob(store, waveData, result.first());
                 successPositions.add(toSpawn);
             }
         }
@@ -1241,9 +1398,9 @@ public class CometWaveManager {
                         new Vector3d(base.x + dx, base.y, base.z + dz), 11);
                 if (retryPos != null) {
                     Pair<Ref<EntityStore>, com.hypixel.hytale.server.core.universe.world.npc.INonPlayerCharacter> res =
-                            spawnCometNPC(store, npcPlugin, f.npcType, f.npcType, retryPos, f.rotation, themeId, tier, zoneLevel, false);
+                            spawnCometNPC(store, blockPos, npcPlugin, f.npcType, f.npcType, retryPos, f.rotation, waveData.config, themeId, tier, zoneLevel, false);
                     if (res != null && res.first() != null) {
-                        waveData.spawnedMobs.add(res.first());
+                        trackSpawnedMob(store, waveData, res.first());
                         successPositions.add(retryPos);
                     }
                 }
@@ -1271,15 +1428,15 @@ public class CometWaveManager {
         }
 
         Vector3i blockPos = waveData.blockPos;
-        CometTier tier = cometTiers.getOrDefault(blockPos, CometTier.UNCOMMON);
-        String themeId = cometThemes.get(blockPos);
+        CometTier tier = waveState.getTier(blockPos, CometTier.UNCOMMON);
+        String themeId = waveState.getTheme(blockPos);
         if (themeId == null) themeId = "skeleton";
-        int zoneLevel = Math.max(0, cometZones.getOrDefault(blockPos, 0));
+        int zoneLevel = Math.max(0, waveState.getZoneOrDefault(blockPos, 0));
 
         // Get bosses for this specific wave
-        java.util.List<String> bosses = WaveThemeProvider.getBossesForWave(tier, themeId, waveIndex);
+        java.util.List<String> bosses = WaveThemeProvider.getBossesForWave(waveData.config, tier, themeId, waveIndex);
         if (bosses == null || bosses.isEmpty()) {
-            java.util.List<String> fallbackBosses = WaveThemeProvider.getBossesForTheme(tier, themeId);
+            java.util.List<String> fallbackBosses = WaveThemeProvider.getBossesForTheme(waveData.config, tier, themeId);
             if (fallbackBosses != null && !fallbackBosses.isEmpty()) {
                 bosses = fallbackBosses;
                 LOGGER.warning("No bosses configured for theme '" + themeId + "' wave index " + waveIndex
@@ -1327,10 +1484,10 @@ public class CometWaveManager {
             }
 
             Pair<Ref<EntityStore>, com.hypixel.hytale.server.core.universe.world.npc.INonPlayerCharacter> result =
-                    spawnCometNPC(store, npcPlugin, bossType, bossType, toSpawn, rotation, themeId, tier, zoneLevel, true);
+                    spawnCometNPC(store, blockPos, npcPlugin, bossType, bossType, toSpawn, rotation, waveData.config, themeId, tier, zoneLevel, true);
 
             if (result != null && result.first() != null) {
-                waveData.spawnedMobs.add(result.first());
+                trackSpawnedMob(store, waveData, result.first());
                 successPositions.add(toSpawn);
             }
         }
@@ -1345,9 +1502,9 @@ public class CometWaveManager {
                         new Vector3d(base.x + dx, base.y, base.z + dz), 11);
                 if (retryPos != null) {
                     Pair<Ref<EntityStore>, com.hypixel.hytale.server.core.universe.world.npc.INonPlayerCharacter> res =
-                            spawnCometNPC(store, npcPlugin, bossType, bossType, retryPos, rotation, themeId, tier, zoneLevel, true);
+                            spawnCometNPC(store, blockPos, npcPlugin, bossType, bossType, retryPos, rotation, waveData.config, themeId, tier, zoneLevel, true);
                     if (res != null && res.first() != null) {
-                        waveData.spawnedMobs.add(res.first());
+                        trackSpawnedMob(store, waveData, res.first());
                         successPositions.add(retryPos);
                     }
                 }
@@ -1370,6 +1527,7 @@ public class CometWaveManager {
         }
 
         LOGGER.warning(reason + " Continuing progression without spawned entities.");
+        untrackAllMobs(waveData);
         waveData.spawnedMobs.clear();
         waveData.initialSpawnCount = 0;
         waveData.remainingCount = 0;
@@ -1396,10 +1554,10 @@ public class CometWaveManager {
      */
     private void completeWave(Store<EntityStore> store, PlayerRef playerRef, WaveData waveData) {
         Vector3i blockPos = waveData.blockPos;
-        CometTier tier = cometTiers.getOrDefault(blockPos, CometTier.UNCOMMON);
+        CometTier tier = waveState.getTier(blockPos, CometTier.UNCOMMON);
         LOGGER.info("[CometWaveManager] completeWave: Tier=" + tier.getName() + " for comet at " + blockPos);
 
-        activeWaves.remove(blockPos);
+        removeActiveWave(blockPos);
 
         // Always drop items and break the block (even if player is dead)
         java.util.List<String> droppedItems = dropRewardsAndBreakBlock(store, blockPos, waveData, tier);
@@ -1409,9 +1567,9 @@ public class CometWaveManager {
         // Show completion title only when player is available (e.g. not dead)
         if (playerRef != null) {
             // 1. Show "Wave Complete!" as main title
-            CometConfig cfg = CometConfig.getInstance();
-            String titleTemplate = (cfg != null ? cfg.msgWaveCompleteTitle : "Wave Complete!");
-            String subtitleTemplate = (cfg != null ? cfg.msgWaveCompleteSubtitle : "Loot Dropped!");
+            CometConfig cfg = waveData.config;
+            String titleTemplate = (cfg != null ? cfg.getMsgWaveCompleteTitle() : "Wave Complete!");
+            String subtitleTemplate = (cfg != null ? cfg.getMsgWaveCompleteSubtitle() : "Loot Dropped!");
 
             Message primaryTitle = Message.raw(titleTemplate);
             Message secondaryTitle = Message.raw(subtitleTemplate);
@@ -1428,14 +1586,14 @@ public class CometWaveManager {
                     0.5F);
 
             // 2. Show Loot in Chat
-            String headerPrefix = (cfg != null ? cfg.msgWaveCompleteChatHeaderPrefix : "[Comet] ");
-            String headerText = (cfg != null ? cfg.msgWaveCompleteChatHeader : "Wave Complete! Your rewards:");
+            String headerPrefix = (cfg != null ? cfg.getMsgWaveCompleteChatHeaderPrefix() : "[Comet] ");
+            String headerText = (cfg != null ? cfg.getMsgWaveCompleteChatHeader() : "Wave Complete! Your rewards:");
 
             Message header = Message.empty()
                 .insert(Message.raw(headerPrefix).color("#FFAA00"))
                 .insert(Message.raw(headerText).color("#FFFFFF"));
             playerRef.sendMessage(header);
-            String itemPrefix = (cfg != null ? cfg.msgWaveCompleteChatItemPrefix : " - ");
+            String itemPrefix = (cfg != null ? cfg.getMsgWaveCompleteChatItemPrefix() : " - ");
             for (String item : droppedItems) {
                 Message itemMsg = Message.empty()
                     .insert(Message.raw(itemPrefix).color("#AAAAAA"))
@@ -1469,10 +1627,10 @@ public class CometWaveManager {
      * Generate structured rewards for a tier using config settings.
      * Combines zone base pools with tier inheritance and optional theme overrides.
      */
-    private void generateTierRewards(CometTier tier, String themeId, int zoneId,
+    private void generateTierRewards(CometConfig config, CometTier tier, String themeId, int zoneId,
             java.util.List<com.hypixel.hytale.server.core.inventory.ItemStack> allItems,
             java.util.List<String> droppedItemIds) {
-        rewardService.generateTierRewards(tier, themeId, zoneId, RANDOM, allItems, droppedItemIds, LOGGER);
+        rewardService.generateTierRewards(config, tier, themeId, zoneId, RANDOM, allItems, droppedItemIds, LOGGER);
     }
 
     /**
@@ -1490,16 +1648,13 @@ public class CometWaveManager {
             java.util.List<com.hypixel.hytale.server.core.inventory.ItemStack> allItems = new java.util.ArrayList<>();
 
             // Get theme ID for potential reward override
-            String themeId = cometThemes.get(blockPos);
+            String themeId = waveState.getTheme(blockPos);
 
             // Determine zone for this comet, if known
-            Integer zoneId = cometZones.get(blockPos);
-            if (zoneId == null) {
-                zoneId = 0;
-            }
+            int zoneId = waveState.getZoneOrDefault(blockPos, 0);
 
             // Generate structured rewards based on zone + tier (see REWARD_SYSTEM.md)
-            generateTierRewards(tier, themeId, zoneId, allItems, droppedItemIds);
+            generateTierRewards(waveData.config, tier, themeId, zoneId, allItems, droppedItemIds);
 
             // Add guaranteed 5 Shards (all tiers)
             String shardId = tier.getShardId();
@@ -1606,8 +1761,9 @@ public class CometWaveManager {
      * Sends removal packet only to the owner player
      */
     public void removeCometMapMarker(com.hypixel.hytale.server.core.universe.world.World world, Vector3i blockPos) {
-        java.util.UUID ownerUUID = cometOwners.get(blockPos);
+        java.util.UUID ownerUUID = waveState.getOwner(blockPos);
         waveUiService.removeCometMapMarker(world, blockPos, ownerUUID, LOGGER);
+        waveState.bumpMarkerVersion();
     }
 
     /**
@@ -1615,7 +1771,7 @@ public class CometWaveManager {
      * up tracking and removes the map marker.
      */
     public void handleBlockBreak(Store<EntityStore> store, Vector3i blockPos) {
-        // Remove map marker first (needs ownerUUID which is still in cometOwners)
+        // Remove map marker first (needs ownerUUID which is still tracked)
         try {
             com.hypixel.hytale.server.core.universe.world.World world = ((com.hypixel.hytale.server.core.universe.world.storage.EntityStore) store
                     .getExternalData()).getWorld();
@@ -1657,14 +1813,14 @@ public class CometWaveManager {
      * @return Theme ID (string), or null if not found
      */
     public String getThemeIdByName(String name) {
-        return WaveThemeProvider.findThemeByName(name);
+        return WaveThemeProvider.findThemeByName(CometConfig.getInstance(), name);
     }
 
     /**
      * Get all valid configured theme names.
      */
     public String[] getThemeNames() {
-        return WaveThemeProvider.getAllThemeNames();
+        return WaveThemeProvider.getAllThemeNames(CometConfig.getInstance());
     }
 
     /**
@@ -1673,84 +1829,65 @@ public class CometWaveManager {
      */
     public boolean isCometWaveMob(Store<EntityStore> store, Ref<EntityStore> mobRef) {
         if (store == null || mobRef == null || !mobRef.isValid()) return false;
+        if (store.getComponent(mobRef, CometWaveMob.getComponentType()) == null) return false;
         java.util.UUID mobUuid = getEntityUuid(store, mobRef);
-        for (WaveData waveData : activeWaves.values()) {
-            for (Ref<EntityStore> ref : waveData.spawnedMobs) {
-                if (ref == null) continue;
-                if (ref == mobRef || (ref.isValid() && ref.equals(mobRef))) return true;
-                if (mobUuid != null && ref.isValid()) {
-                    Store<EntityStore> compareStore = waveData.store != null ? waveData.store : ref.getStore();
-                    if (mobUuid.equals(getEntityUuid(compareStore, ref))) return true;
-                }
-            }
-        }
-        return false;
+        if (mobUuid == null) return false;
+        WaveData waveData = mobOwners.get(mobUuid);
+        return waveData != null && activeWaves.get(waveData.blockPos) == waveData;
     }
 
     public void handleMobDeath(
             com.hypixel.hytale.component.Ref<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> mobRef) {
-        LOGGER.info("[CometWaveManager] handleMobDeath called! Checking " + activeWaves.size() + " active waves...");
         Store<EntityStore> eventStore = (mobRef != null && mobRef.isValid()) ? mobRef.getStore() : null;
+        // Only entities spawned by a wave carry the component; everything else is rejected here
+        if (eventStore != null && eventStore.getComponent(mobRef, CometWaveMob.getComponentType()) == null) {
+            return;
+        }
         java.util.UUID deadMobUuid = getEntityUuid(eventStore, mobRef);
 
-        // Check all active waves to see if this mob belongs to any of them
-        for (Map.Entry<com.hypixel.hytale.math.vector.Vector3i, WaveData> entry : activeWaves.entrySet()) {
-            WaveData waveData = entry.getValue();
-            LOGGER.info("[CometWaveManager] Checking wave at " + entry.getKey() + " with " + waveData.spawnedMobs.size()
-                    + " mobs in list");
-
-            // Check if this mob is in the list (by reference or by checking if ref matches)
-            boolean found = false;
-            for (int i = waveData.spawnedMobs.size() - 1; i >= 0; i--) {
-                Ref<EntityStore> ref = waveData.spawnedMobs.get(i);
-                // Check if refs match (same entity) - use == for reference equality or check if
-                // they point to same entity
-                boolean sameRef = ref != null && (ref == mobRef || ref.equals(mobRef) ||
-                        (mobRef != null && ref.isValid() && mobRef.isValid() && ref.getIndex() == mobRef.getIndex()));
-
-                boolean sameUuid = false;
-                if (!sameRef && deadMobUuid != null && ref != null) {
-                    Store<EntityStore> compareStore = waveData.store != null ? waveData.store
-                            : (ref.isValid() ? ref.getStore() : eventStore);
-                    java.util.UUID trackedUuid = getEntityUuid(compareStore, ref);
-                    sameUuid = deadMobUuid.equals(trackedUuid);
-                }
-
-                if (sameRef || sameUuid) {
-                    found = true;
-                    waveData.spawnedMobs.remove(i);
-                    LOGGER.info("[CometWaveManager] Mob died for wave at " + entry.getKey() + " (removed from list, " +
-                            waveData.spawnedMobs.size() + " remaining)");
-                    break;
-                }
+        // Single lookup in the reverse index instead of scanning every wave's mob list
+        WaveData indexed = deadMobUuid != null ? mobOwners.remove(deadMobUuid) : null;
+        WaveData waveData;
+        if (indexed != null) {
+            Ref<EntityStore> trackedRef = indexed.mobRefsByUuid.remove(deadMobUuid);
+            if (activeWaves.get(indexed.blockPos) != indexed) {
+                return;
             }
-
-            if (found) {
-                // Update countdown after mob death. Use player's store if valid, else mob's
-                // (e.g. player dead/DC) so completion and loot still run when boss is killed.
-                com.hypixel.hytale.component.Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store = waveData.playerRef != null
-                        && waveData.playerRef.isValid()
-                                ? waveData.playerRef.getStore()
-                                : ((mobRef != null && mobRef.isValid()) ? mobRef.getStore() : waveData.store);
-                if (store != null) {
-                    updateWaveCountdown(store, waveData.playerRef, waveData);
-                } else {
-                    LOGGER.warning("Could not update wave countdown after mob death at " + entry.getKey()
-                            + ": store unavailable");
-                }
-                return; // Found and handled, exit
+            if (trackedRef != null) {
+                indexed.spawnedMobs.remove(trackedRef);
+            }
+            waveData = indexed;
+        } else {
+            waveData = removeMobByRef(mobRef);
+            if (waveData == null) {
+                return;
             }
         }
+        if (CometLog.isEnabled(CometLog.Category.MOBS, Level.FINE)) {
+            CometLog.fine(CometLog.Category.MOBS, "[CometWaveManager] Mob died for wave at " + waveData.blockPos
+                    + " (removed from list, " + waveData.spawnedMobs.size() + " remaining)");
+        }
 
-        LOGGER.info("[CometWaveManager] Mob death not found in any active wave");
+        // Update countdown after mob death. Use player's store if valid, else mob's
+        // (e.g. player dead/DC) so completion and loot still run when boss is killed.
+        com.hypixel.hytale.component.Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store = waveData.playerRef != null
+                && waveData.playerRef.isValid()
+                        ? waveData.playerRef.getStore()
+                        : (eventStore != null ? eventStore : waveData.store);
+        if (store != null) {
+            updateWaveCountdown(store, waveData.playerRef, waveData);
+        } else {
+            LOGGER.warning("Could not update wave countdown after mob death at " + waveData.blockPos
+                    + ": store unavailable");
+        }
     }
 
     public void cleanup() {
-        activeComets.clear();
         activeWaves.clear();
-        cometTiers.clear();
-        cometOwners.clear();
-        cometThemes.clear();
+        mobOwners.clear();
+        waveTimers.clear();
+        waveDispatcher.clear();
+        waveState.clearAll();
     }
 
 }
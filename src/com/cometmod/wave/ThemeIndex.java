@@ -0,0 +1,159 @@
+package com.cometmod.wave;
+
+import com.cometmod.config.model.ThemeConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Theme lookup tables for one config snapshot, built when the config is published. Themes are
+ * numbered in config order, each tier keeps the numbers of its natural-spawn themes, and names are
+ * pre-lowercased for lookup. Each tier also has a shuffle bag that advances with a compare-and-set,
+ * so concurrent spawns pick themes without taking a lock. A reload builds a new index (and new bags).
+ */
+public final class ThemeIndex {
+
+    private static final int MAX_TIER = 5;
+
+    /** One pass through a shuffled order; immutable so a CAS swaps it whole. */
+    private static final class Bag {
+        final int[] order;
+        final int position;
+
+        Bag(int[] order, int position) {
+            this.order = order;
+            this.position = position;
+        }
+    }
+
+    private final ThemeConfig[] themes;
+    private final String[] lowerIds;
+    private final String[] lowerNames;
+    private final Map<String, Integer> ordinalById = new HashMap<>();
+    private final Map<String, Integer> ordinalByLowerName = new HashMap<>();
+    private final int[][] tierOrdinals = new int[MAX_TIER + 1][];
+    private final List<List<ThemeConfig>> tierThemes = new ArrayList<>(MAX_TIER + 1);
+    private final AtomicReferenceArray<Bag> bags = new AtomicReferenceArray<>(MAX_TIER + 1);
+
+    public ThemeIndex(List<ThemeConfig> themeList) {
+        List<ThemeConfig> valid = new ArrayList<>();
+        for (ThemeConfig theme : themeList) {
+            if (theme != null && theme.getId() != null && !theme.getId().isBlank()) {
+                valid.add(theme);
+            }
+        }
+
+        int n = valid.size();
+        themes = valid.toArray(new ThemeConfig[0]);
+        lowerIds = new String[n];
+        lowerNames = new String[n];
+        for (int i = 0; i < n; i++) {
+            ThemeConfig theme = themes[i];
+            String displayName = theme.getDisplayName() != null ? theme.getDisplayName() : theme.getId();
+            lowerIds[i] = theme.getId().toLowerCase(Locale.ROOT);
+            lowerNames[i] = displayName.toLowerCase(Locale.ROOT);
+            ordinalById.putIfAbsent(theme.getId(), i);
+            ordinalByLowerName.putIfAbsent(lowerNames[i], i);
+        }
+
+        for (int tier = 0; tier <= MAX_TIER; tier++) {
+            List<ThemeConfig> forTier = new ArrayList<>();
+            int[] ordinals = new int[n];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                // Themes with naturalSpawn: false can only be spawned manually
+                if (themes[i].isNaturalSpawn() && themes[i].isAvailableForTier(tier)) {
+                    ordinals[count++] = i;
+                    forTier.add(themes[i]);
+                }
+            }
+            tierOrdinals[tier] = Arrays.copyOf(ordinals, count);
+            tierThemes.add(Collections.unmodifiableList(forTier));
+        }
+    }
+
+    /** Natural-spawn themes available at this tier, in config order. */
+    public List<ThemeConfig> getThemesForTier(int tier) {
+        if (tier < 0 || tier > MAX_TIER) {
+            return Collections.emptyList();
+        }
+        return tierThemes.get(tier);
+    }
+
+    /**
+     * Draw the next theme from the tier's shuffle bag, or null when the tier has no themes. Every
+     * theme comes up once per pass, and a new pass never starts with the theme that ended the last.
+     */
+    public ThemeConfig selectForTier(int tier) {
+        if (tier < 0 || tier > MAX_TIER || tierOrdinals[tier].length == 0) {
+            return null;
+        }
+        int[] available = tierOrdinals[tier];
+        while (true) {
+            Bag bag = bags.get(tier);
+            Bag next;
+            if (bag == null || bag.position >= bag.order.length) {
+                int last = bag != null ? bag.order[bag.order.length - 1] : -1;
+                next = new Bag(shuffle(available, last), 1);
+            } else {
+                next = new Bag(bag.order, bag.position + 1);
+            }
+            if (bags.compareAndSet(tier, bag, next)) {
+                return themes[next.order[next.position - 1]];
+            }
+        }
+    }
+
+    /**
+     * Find a theme ID by name: exact ID (of the lowercased name), then display name ignoring case,
+     * then the first display name containing it, then the first ID containing it.
+     */
+    public String findIdByName(String name) {
+        if (name == null || name.isEmpty()) {
+            return null;
+        }
+        String lowerName = name.toLowerCase(Locale.ROOT);
+
+        Integer ordinal = ordinalById.get(lowerName);
+        if (ordinal == null) {
+            ordinal = ordinalByLowerName.get(lowerName);
+        }
+        if (ordinal != null) {
+            return themes[ordinal].getId();
+        }
+
+        int idMatch = -1;
+        for (int i = 0; i < themes.length; i++) {
+            if (lowerNames[i].contains(lowerName)) {
+                return themes[i].getId();
+            }
+            if (idMatch < 0 && lowerIds[i].contains(lowerName)) {
+                idMatch = i;
+            }
+        }
+        return idMatch >= 0 ? themes[idMatch].getId() : null;
+    }
+
+    private static int[] shuffle(int[] available, int last) {
+        int[] order = available.clone();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        if (order.length > 1 && order[0] == last) {
+            order[0] = order[1];
+            order[1] = last;
+        }
+        return order;
+    }
+}
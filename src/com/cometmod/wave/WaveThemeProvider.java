@@ -9,15 +9,7 @@ import com.cometmod.wave.*;
 
 
 import java.util.ArrayList;
-import java.util.ArrayDeque;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.Set;
 import java.util.logging.Logger;
 
 import com.cometmod.config.model.ThemeConfig;
@@ -27,109 +19,50 @@ import com.cometmod.config.model.WaveEntry;
 
 /**
  * Centralized config-based theme access.
+ * <p>
+ * Every lookup takes the config to read from, so a running wave keeps using
+ * the snapshot it started with (WaveData.config) across a reload.
  */
 public class WaveThemeProvider {
 
     private static final Logger LOGGER = Logger.getLogger(WaveThemeProvider.class.getName());
-    private static final Random RANDOM = new Random();
-    // Per-tier shuffled theme bags to avoid repeated streaks from pure nextInt selection.
-    private static final Map<Integer, Deque<String>> TIER_THEME_BAGS = new HashMap<>();
-    private static final Map<Integer, Set<String>> TIER_THEME_BAG_SIGNATURES = new HashMap<>();
-    private static final Map<Integer, String> LAST_THEME_BY_TIER = new HashMap<>();
 
     /**
      * Select a random theme ID for the given comet tier.
      * Uses config-based tier availability instead of hardcoded nativeTier.
      * 
+     * @param config  Config snapshot to read
      * @param tier The comet tier
      * @return Theme ID (string) or null if no themes available
      */
-    public static String selectTheme(CometTier tier) {
-        CometConfig config = CometConfig.getInstance();
+    public static String selectTheme(CometConfig config, CometTier tier) {
         if (config == null || !config.hasThemes()) {
             LOGGER.warning("No config or themes available!");
             return null;
         }
 
         int tierNum = getTierNumber(tier);
-        List<ThemeConfig> availableThemes = config.getThemesForTier(tierNum);
-
-        if (availableThemes.isEmpty()) {
+        ThemeConfig selected = config.getThemeIndex().selectForTier(tierNum);
+        if (selected == null) {
             LOGGER.warning("No themes available for tier " + tier.getName());
             return null;
         }
 
-        String selectedThemeId = selectThemeFromBag(tierNum, availableThemes);
-        if (selectedThemeId == null || selectedThemeId.isBlank()) {
-            LOGGER.warning("Theme bag selection failed for tier " + tier.getName());
-            return null;
-        }
-
-        ThemeConfig selected = config.getTheme(selectedThemeId);
-        String selectedName = selected != null ? selected.getDisplayName() : selectedThemeId;
-        LOGGER.info("Selected theme: " + selectedThemeId + " (" + selectedName + ") for tier "
+        String selectedThemeId = selected.getId();
+        LOGGER.info("Selected theme: " + selectedThemeId + " (" + selected.getDisplayName() + ") for tier "
                 + tier.getName());
         return selectedThemeId;
     }
 
-    private static synchronized String selectThemeFromBag(int tierNum, List<ThemeConfig> availableThemes) {
-        List<String> availableIds = new ArrayList<>();
-        for (ThemeConfig theme : availableThemes) {
-            if (theme != null && theme.getId() != null && !theme.getId().isBlank()) {
-                availableIds.add(theme.getId());
-            }
-        }
-
-        if (availableIds.isEmpty()) {
-            return null;
-        }
-
-        Set<String> availableSet = new HashSet<>(availableIds);
-        Deque<String> bag = TIER_THEME_BAGS.get(tierNum);
-        Set<String> bagSignature = TIER_THEME_BAG_SIGNATURES.get(tierNum);
-
-        if (bag == null || bag.isEmpty() || bagSignature == null || !bagSignature.equals(availableSet)) {
-            bag = createShuffledBag(availableIds, LAST_THEME_BY_TIER.get(tierNum));
-            TIER_THEME_BAGS.put(tierNum, bag);
-            TIER_THEME_BAG_SIGNATURES.put(tierNum, availableSet);
-        }
-
-        String selected = bag.pollFirst();
-        if (selected == null) {
-            return null;
-        }
-
-        LAST_THEME_BY_TIER.put(tierNum, selected);
-
-        if (bag.isEmpty()) {
-            bag = createShuffledBag(availableIds, selected);
-            TIER_THEME_BAGS.put(tierNum, bag);
-            TIER_THEME_BAG_SIGNATURES.put(tierNum, availableSet);
-        }
-
-        return selected;
-    }
-
-    private static Deque<String> createShuffledBag(List<String> availableIds, String lastSelectedTheme) {
-        List<String> shuffled = new ArrayList<>(availableIds);
-        Collections.shuffle(shuffled, RANDOM);
-
-        if (lastSelectedTheme != null && shuffled.size() > 1 && lastSelectedTheme.equals(shuffled.get(0))) {
-            Collections.swap(shuffled, 0, 1);
-        }
-
-        return new ArrayDeque<>(shuffled);
-    }
-
     /**
      * Get mob list for a theme with tier suffixes applied.
      * 
+     * @param config  Config snapshot to read
      * @param tier    The comet tier
      * @param themeId The theme ID
      * @return Array of mob NPC names ready to spawn, or null if theme not found
      */
-    public static String[] getMobListForTheme(CometTier tier, String themeId) {
-        CometConfig config = CometConfig.getInstance();
+    public static String[] getMobListForTheme(CometConfig config, CometTier tier, String themeId) {
         if (config == null)
             return null;
 
@@ -146,12 +79,12 @@ public class WaveThemeProvider {
     /**
      * Get boss list for a theme with tier suffixes applied.
      * 
+     * @param config  Config snapshot to read
      * @param tier    The comet tier
      * @param themeId The theme ID
      * @return List of boss NPC names ready to spawn
      */
-    public static List<String> getBossesForTheme(CometTier tier, String themeId) {
-        CometConfig config = CometConfig.getInstance();
+    public static List<String> getBossesForTheme(CometConfig config, CometTier tier, String themeId) {
         if (config == null)
             return new ArrayList<>();
 
@@ -168,14 +101,14 @@ public class WaveThemeProvider {
     /**
      * Get the display name for a theme.
      * 
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @return Display name or "Unknown" if not found
      */
-    public static String getThemeName(String themeId) {
+    public static String getThemeName(CometConfig config, String themeId) {
         if (themeId == null)
             return "Unknown";
 
-        CometConfig config = CometConfig.getInstance();
         if (config == null)
             return themeId;
 
@@ -186,11 +119,11 @@ public class WaveThemeProvider {
     /**
      * Get total mob count for wave 1 of a theme.
      * 
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @return Total mob count, or 5 as default
      */
-    public static int getWaveMobCount(String themeId) {
-        CometConfig config = CometConfig.getInstance();
+    public static int getWaveMobCount(CometConfig config, String themeId) {
         if (config == null)
             return 5;
 
@@ -205,11 +138,11 @@ public class WaveThemeProvider {
     /**
      * Get timeout for a tier in milliseconds.
      * 
+     * @param config  Config snapshot to read
      * @param tier The comet tier
      * @return Timeout in milliseconds
      */
-    public static long getTimeoutMillis(CometTier tier) {
-        CometConfig config = CometConfig.getInstance();
+    public static long getTimeoutMillis(CometConfig config, CometTier tier) {
         if (config == null) {
             // Fallback defaults
             return TierSettings.getDefaultForTier(getTierNumber(tier)).getTimeoutMillis();
@@ -220,11 +153,11 @@ public class WaveThemeProvider {
     /**
      * Get spawn radius range for a tier.
      * 
+     * @param config  Config snapshot to read
      * @param tier The comet tier
      * @return [minRadius, maxRadius]
      */
-    public static double[] getSpawnRadius(CometTier tier) {
-        CometConfig config = CometConfig.getInstance();
+    public static double[] getSpawnRadius(CometConfig config, CometTier tier) {
         if (config == null) {
             TierSettings ts = TierSettings.getDefaultForTier(getTierNumber(tier));
             return new double[] { ts.getMinRadius(), ts.getMaxRadius() };
@@ -235,10 +168,10 @@ public class WaveThemeProvider {
     /**
      * Get all theme IDs as array (for display/validation).
      * 
+     * @param config  Config snapshot to read
      * @return Array of all theme IDs
      */
-    public static String[] getAllThemeIds() {
-        CometConfig config = CometConfig.getInstance();
+    public static String[] getAllThemeIds(CometConfig config) {
         if (config == null)
             return new String[0];
         return config.getThemes().keySet().toArray(new String[0]);
@@ -247,10 +180,10 @@ public class WaveThemeProvider {
     /**
      * Get all theme display names.
      * 
+     * @param config  Config snapshot to read
      * @return Array of all theme display names
      */
-    public static String[] getAllThemeNames() {
-        CometConfig config = CometConfig.getInstance();
+    public static String[] getAllThemeNames(CometConfig config) {
         if (config == null)
             return new String[0];
         return config.getThemeNames();
@@ -259,57 +192,29 @@ public class WaveThemeProvider {
     /**
      * Find theme ID by name (case insensitive, partial match).
      * 
+     * @param config  Config snapshot to read
      * @param name The theme name to search for
      * @return Theme ID or null if not found
      */
-    public static String findThemeByName(String name) {
+    public static String findThemeByName(CometConfig config, String name) {
         if (name == null || name.isEmpty())
             return null;
 
-        CometConfig config = CometConfig.getInstance();
         if (config == null)
             return null;
 
-        String lowerName = name.toLowerCase();
-
-        // First try exact ID match
-        if (config.getTheme(lowerName) != null) {
-            return lowerName;
-        }
-
-        // Try exact display name match
-        for (ThemeConfig theme : config.getThemeList()) {
-            if (theme.getDisplayName().equalsIgnoreCase(name)) {
-                return theme.getId();
-            }
-        }
-
-        // Try partial match on display name
-        for (ThemeConfig theme : config.getThemeList()) {
-            if (theme.getDisplayName().toLowerCase().contains(lowerName)) {
-                return theme.getId();
-            }
-        }
-
-        // Try partial match on ID
-        for (ThemeConfig theme : config.getThemeList()) {
-            if (theme.getId().toLowerCase().contains(lowerName)) {
-                return theme.getId();
-            }
-        }
-
-        return null;
+        return config.getThemeIndex().findIdByName(name);
     }
 
     /**
      * Check if a theme is available for a specific tier.
      * 
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @param tier    The comet tier
      * @return true if theme can spawn at this tier
      */
-    public static boolean isThemeAvailableForTier(String themeId, CometTier tier) {
-        CometConfig config = CometConfig.getInstance();
+    public static boolean isThemeAvailableForTier(CometConfig config, String themeId, CometTier tier) {
         if (config == null)
             return false;
 
@@ -343,18 +248,18 @@ public class WaveThemeProvider {
     /**
      * Get boss stat multipliers for a specific boss in a theme at a tier.
      * 
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @param tier    The comet tier
      * @param bossId  The base boss ID (without tier suffix)
      * @return float[] {hpMult, damageMult, scaleMult, speedMult} or null if no
      *         multipliers
      */
-    public static float[] getBossStatMultipliers(String themeId, CometTier tier, String bossId) {
-        return getBossStatMultipliers(themeId, tier, bossId, 0);
+    public static float[] getBossStatMultipliers(CometConfig config, String themeId, CometTier tier, String bossId) {
+        return getBossStatMultipliers(config, themeId, tier, bossId, 0);
     }
 
-    public static float[] getBossStatMultipliers(String themeId, CometTier tier, String bossId, int zoneLevel) {
-        CometConfig config = CometConfig.getInstance();
+    public static float[] getBossStatMultipliers(CometConfig config, String themeId, CometTier tier, String bossId, int zoneLevel) {
         if (config == null) {
             return new com.cometmod.config.model.TierStatScalingConfig().getMultipliersForTierAndZone(
                     getTierNumber(tier),
@@ -366,18 +271,18 @@ public class WaveThemeProvider {
     /**
      * Get mob stat multipliers for a specific mob in a theme at a tier.
      * 
+     * @param config  Config snapshot to read
      * @param themeId   The theme ID
      * @param tier      The comet tier
      * @param baseMobId The base mob ID (without tier suffix)
      * @return float[] {hpMult, damageMult, scaleMult, speedMult} or null if no
      *         multipliers
      */
-    public static float[] getMobStatMultipliers(String themeId, CometTier tier, String baseMobId) {
-        return getMobStatMultipliers(themeId, tier, baseMobId, 0);
+    public static float[] getMobStatMultipliers(CometConfig config, String themeId, CometTier tier, String baseMobId) {
+        return getMobStatMultipliers(config, themeId, tier, baseMobId, 0);
     }
 
-    public static float[] getMobStatMultipliers(String themeId, CometTier tier, String baseMobId, int zoneLevel) {
-        CometConfig config = CometConfig.getInstance();
+    public static float[] getMobStatMultipliers(CometConfig config, String themeId, CometTier tier, String baseMobId, int zoneLevel) {
         if (config == null) {
             return new com.cometmod.config.model.TierStatScalingConfig().getMultipliersForTierAndZone(
                     getTierNumber(tier),
@@ -390,13 +295,14 @@ public class WaveThemeProvider {
      * Check if a theme has stat multipliers configured for a specific boss at a
      * tier.
      *
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @param tier    The comet tier
      * @param bossId  The base boss ID
      * @return true if multipliers are configured
      */
-    public static boolean hasStatMultipliers(String themeId, CometTier tier, String bossId) {
-        float[] multipliers = getBossStatMultipliers(themeId, tier, bossId);
+    public static boolean hasStatMultipliers(CometConfig config, String themeId, CometTier tier, String bossId) {
+        float[] multipliers = getBossStatMultipliers(config, themeId, tier, bossId);
         return multipliers != null
                 && multipliers.length >= 4
                 && (multipliers[0] != 1.0f || multipliers[1] != 1.0f || multipliers[2] != 1.0f || multipliers[3] != 1.0f);
@@ -407,11 +313,11 @@ public class WaveThemeProvider {
     /**
      * Check if a theme uses the multi-wave system.
      *
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @return true if theme has waves defined
      */
-    public static boolean hasMultiWave(String themeId) {
-        CometConfig config = CometConfig.getInstance();
+    public static boolean hasMultiWave(CometConfig config, String themeId) {
         if (config == null) return false;
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -421,8 +327,7 @@ public class WaveThemeProvider {
     /**
      * Get the total number of waves for a theme.
      */
-    public static int getWaveCount(String themeId) {
-        CometConfig config = CometConfig.getInstance();
+    public static int getWaveCount(CometConfig config, String themeId) {
         if (config == null) return 0;
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -432,11 +337,11 @@ public class WaveThemeProvider {
     /**
      * Get the number of normal waves for a theme.
      *
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @return Count of normal waves
      */
-    public static int getNormalWaveCount(String themeId) {
-        CometConfig config = CometConfig.getInstance();
+    public static int getNormalWaveCount(CometConfig config, String themeId) {
         if (config == null) return 0;
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -446,11 +351,11 @@ public class WaveThemeProvider {
     /**
      * Get the number of boss waves for a theme.
      *
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @return Count of boss waves
      */
-    public static int getBossWaveCount(String themeId) {
-        CometConfig config = CometConfig.getInstance();
+    public static int getBossWaveCount(CometConfig config, String themeId) {
         if (config == null) return 0;
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -460,12 +365,12 @@ public class WaveThemeProvider {
     /**
      * Check if a specific wave is a normal wave (spawns mobs).
      *
+     * @param config  Config snapshot to read
      * @param themeId   The theme ID
      * @param waveIndex The wave index (0-based)
      * @return true if wave is normal, false if boss or invalid
      */
-    public static boolean isWaveNormal(String themeId, int waveIndex) {
-        CometConfig config = CometConfig.getInstance();
+    public static boolean isWaveNormal(CometConfig config, String themeId, int waveIndex) {
         if (config == null) return false;
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -478,12 +383,12 @@ public class WaveThemeProvider {
     /**
      * Check if a specific wave is a boss wave.
      *
+     * @param config  Config snapshot to read
      * @param themeId   The theme ID
      * @param waveIndex The wave index (0-based)
      * @return true if wave is boss, false if normal or invalid
      */
-    public static boolean isWaveBoss(String themeId, int waveIndex) {
-        CometConfig config = CometConfig.getInstance();
+    public static boolean isWaveBoss(CometConfig config, String themeId, int waveIndex) {
         if (config == null) return false;
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -496,13 +401,13 @@ public class WaveThemeProvider {
     /**
      * Get mob list for a specific wave.
      *
+     * @param config  Config snapshot to read
      * @param tier      The comet tier
      * @param themeId   The theme ID
      * @param waveIndex The wave index (0-based)
      * @return Array of mob NPC names ready to spawn, or empty array if invalid
      */
-    public static String[] getMobListForWave(CometTier tier, String themeId, int waveIndex) {
-        CometConfig config = CometConfig.getInstance();
+    public static String[] getMobListForWave(CometConfig config, CometTier tier, String themeId, int waveIndex) {
         if (config == null) return new String[0];
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -518,13 +423,13 @@ public class WaveThemeProvider {
     /**
      * Get boss list for a specific wave.
      *
+     * @param config  Config snapshot to read
      * @param tier      The comet tier
      * @param themeId   The theme ID
      * @param waveIndex The wave index (0-based)
      * @return List of boss NPC names ready to spawn
      */
-    public static List<String> getBossesForWave(CometTier tier, String themeId, int waveIndex) {
-        CometConfig config = CometConfig.getInstance();
+    public static List<String> getBossesForWave(CometConfig config, CometTier tier, String themeId, int waveIndex) {
         if (config == null) return new ArrayList<>();
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -540,27 +445,29 @@ public class WaveThemeProvider {
     /**
      * Get mob stat multipliers for a specific wave.
      *
+     * @param config  Config snapshot to read
      * @param themeId   The theme ID
      * @param tier      The comet tier
      * @param waveIndex The wave index (0-based)
      * @param baseMobId The base mob ID
      * @return float[] {hp, damage, scale, speed} or null if not set
      */
-    public static float[] getMobStatMultipliersForWave(String themeId, CometTier tier, int waveIndex, String baseMobId) {
-        return getMobStatMultipliers(themeId, tier, baseMobId);
+    public static float[] getMobStatMultipliersForWave(CometConfig config, String themeId, CometTier tier, int waveIndex, String baseMobId) {
+        return getMobStatMultipliers(config, themeId, tier, baseMobId);
     }
 
     /**
      * Get boss stat multipliers for a specific wave.
      *
+     * @param config  Config snapshot to read
      * @param themeId   The theme ID
      * @param tier      The comet tier
      * @param waveIndex The wave index (0-based)
      * @param bossId    The base boss ID
      * @return float[] {hp, damage, scale, speed} or null if not set
      */
-    public static float[] getBossStatMultipliersForWave(String themeId, CometTier tier, int waveIndex, String bossId) {
-        return getBossStatMultipliers(themeId, tier, bossId);
+    public static float[] getBossStatMultipliersForWave(CometConfig config, String themeId, CometTier tier, int waveIndex, String bossId) {
+        return getBossStatMultipliers(config, themeId, tier, bossId);
     }
 
     // ========== REWARD OVERRIDE SUPPORT ==========
@@ -568,12 +475,12 @@ public class WaveThemeProvider {
     /**
      * Check if a theme has reward override for a specific tier.
      *
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @param tier    The comet tier
      * @return true if theme has custom rewards for this tier
      */
-    public static boolean hasRewardOverride(String themeId, CometTier tier) {
-        CometConfig config = CometConfig.getInstance();
+    public static boolean hasRewardOverride(CometConfig config, String themeId, CometTier tier) {
         if (config == null) return false;
 
         ThemeConfig theme = config.getTheme(themeId);
@@ -586,12 +493,12 @@ public class WaveThemeProvider {
     /**
      * Get reward override for a theme at a specific tier.
      *
+     * @param config  Config snapshot to read
      * @param themeId The theme ID
      * @param tier    The comet tier
      * @return TierRewards override or null if not set
      */
-    public static TierRewards getRewardOverride(String themeId, CometTier tier) {
-        CometConfig config = CometConfig.getInstance();
+    public static TierRewards getRewardOverride(CometConfig config, String themeId, CometTier tier) {
         if (config == null) return null;
 
         ThemeConfig theme = config.getTheme(themeId);
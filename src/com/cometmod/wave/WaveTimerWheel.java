@@ -0,0 +1,134 @@
+package com.cometmod.wave;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for wave deadlines and countdown refreshes. Three levels of 64 slots
+ * (1 tick, 64 ticks and 4096 ticks per slot) so advancing only touches timers whose bucket is due,
+ * never every active wave. Timers further out than the top level are parked in its last slot and
+ * re-filed when that slot cascades.
+ */
+public final class WaveTimerWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    /** Handle for a scheduled timer. Cancelled timers are dropped lazily when their slot is reached. */
+    public static final class Timer<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        Timer(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickMs;
+    @SuppressWarnings("unchecked")
+    private final List<Timer<T>>[][] wheels = new List[LEVELS][SLOTS];
+    private long currentTick;
+
+    public WaveTimerWheel(long tickMs, long nowMs) {
+        this.tickMs = Math.max(1L, tickMs);
+        this.currentTick = nowMs / this.tickMs;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new ArrayList<>();
+            }
+        }
+    }
+
+    /** Schedule payload to fire at the first tick at or after deadlineMs. */
+    public synchronized Timer<T> schedule(T payload, long deadlineMs) {
+        long deadlineTick = Math.max(currentTick + 1, (deadlineMs + tickMs - 1) / tickMs);
+        Timer<T> timer = new Timer<>(payload, deadlineTick);
+        place(timer);
+        return timer;
+    }
+
+    /**
+     * Advance the wheel to nowMs and append every non-cancelled timer that came due to expired.
+     * The caller owns the list, so the periodic tick can reuse one buffer.
+     */
+    public synchronized void advance(long nowMs, List<Timer<T>> expired) {
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Timer<T>> slot = wheels[0][(int) (currentTick & SLOT_MASK)];
+            if (slot.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < slot.size(); i++) {
+                Timer<T> timer = slot.get(i);
+                if (!timer.cancelled) {
+                    expired.add(timer);
+                }
+            }
+            slot.clear();
+        }
+    }
+
+    public synchronized void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot].clear();
+            }
+        }
+    }
+
+    /** Re-file the higher-level slots that start at the current tick into lower levels. */
+    private void cascade() {
+        if ((currentTick & SLOT_MASK) != 0) {
+            return;
+        }
+        // Cascade from the top down so timers can fall through more than one level in the same tick.
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            List<Timer<T>> slot = wheels[level][(int) ((currentTick >> shift) & SLOT_MASK)];
+            if (slot.isEmpty()) {
+                continue;
+            }
+            List<Timer<T>> pending = new ArrayList<>(slot);
+            slot.clear();
+            for (Timer<T> timer : pending) {
+                if (!timer.cancelled) {
+                    place(timer);
+                }
+            }
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long deadline = Math.max(timer.deadlineTick, currentTick);
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((deadline >> shift) - (currentTick >> shift) < SLOTS) {
+                wheels[level][(int) ((deadline >> shift) & SLOT_MASK)].add(timer);
+                return;
+            }
+        }
+        int topShift = SLOT_BITS * (LEVELS - 1);
+        wheels[LEVELS - 1][(int) (((currentTick >> topShift) + SLOTS - 1) & SLOT_MASK)].add(timer);
+    }
+}
@@ -0,0 +1,150 @@
+package com.cometmod.wave;
+
+import com.cometmod.CometConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A wave title/subtitle template (msgWave* in the config) compiled into literal segments and typed
+ * placeholders, so the per-second countdown renders into a reused StringBuilder instead of running
+ * chained String.replace calls. Placeholders a template does not recognize are kept as literal text,
+ * same as the old replace chain.
+ */
+public final class WaveTitleTemplate {
+
+    public enum Placeholder {
+        CURRENT_WAVE("%currentWave%"),
+        TOTAL_WAVES("%totalWaves%"),
+        THEME("%theme%"),
+        KILLED("%killed%"),
+        TOTAL("%total%"),
+        TIME("%time%"),
+        BOSS_STATUS("%bossStatus%");
+
+        final String token;
+
+        Placeholder(String token) {
+            this.token = token;
+        }
+    }
+
+    /** Values for one render. Kept per wave and refilled, so rendering allocates nothing. */
+    public static final class Values {
+        public int currentWave;
+        public int totalWaves;
+        public String theme;
+        public int killed;
+        public int total;
+        public int timeSeconds;
+        public String bossStatus;
+    }
+
+    /** The wave countdown templates of one config, compiled together. */
+    public static final class Templates {
+        public final WaveTitleTemplate bossTitle;
+        public final WaveTitleTemplate bossTitleNoCount;
+        public final WaveTitleTemplate bossSubtitle;
+        public final WaveTitleTemplate title;
+        public final WaveTitleTemplate titleNoCount;
+        public final WaveTitleTemplate subtitle;
+
+        private Templates(String bossTitle, String bossTitleNoCount, String bossSubtitle,
+                String title, String titleNoCount, String subtitle) {
+            this.bossTitle = WaveTitleTemplate.compile(bossTitle, TITLE_PLACEHOLDERS);
+            this.bossTitleNoCount = WaveTitleTemplate.compile(bossTitleNoCount, TITLE_PLACEHOLDERS);
+            this.bossSubtitle = WaveTitleTemplate.compile(bossSubtitle, Placeholder.BOSS_STATUS, Placeholder.TIME);
+            this.title = WaveTitleTemplate.compile(title, TITLE_PLACEHOLDERS);
+            this.titleNoCount = WaveTitleTemplate.compile(titleNoCount, TITLE_PLACEHOLDERS);
+            this.subtitle = WaveTitleTemplate.compile(subtitle, Placeholder.KILLED, Placeholder.TOTAL, Placeholder.TIME);
+        }
+
+        /** Compile the msgWave* templates of this config (defaults when config is null). */
+        public static Templates compile(CometConfig cfg) {
+            if (cfg == null) {
+                return DEFAULTS;
+            }
+            return new Templates(cfg.getMsgWaveBossTitle(), cfg.getMsgWaveBossTitleNoCount(), cfg.getMsgWaveBossSubtitle(),
+                    cfg.getMsgWaveTitle(), cfg.getMsgWaveTitleNoCount(), cfg.getMsgWaveSubtitle());
+        }
+    }
+
+    private static final Placeholder[] TITLE_PLACEHOLDERS = {
+            Placeholder.CURRENT_WAVE, Placeholder.TOTAL_WAVES, Placeholder.THEME };
+
+    public static final Templates DEFAULTS = new Templates(
+            "Boss Wave %currentWave%/%totalWaves%",
+            "Boss Wave!",
+            "Boss: %bossStatus% | Time: %time%",
+            "Wave %currentWave%/%totalWaves% - %theme%",
+            "%theme% Incoming!",
+            "Mobs: %killed%/%total% | Time: %time%");
+
+    /** literals[i] precedes placeholders[i]; the last literal trails the final placeholder. */
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+
+    private WaveTitleTemplate(String[] literals, Placeholder[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    public static WaveTitleTemplate compile(String source, Placeholder... recognized) {
+        if (source == null) source = "";
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int i = source.indexOf('%');
+        while (i >= 0) {
+            Placeholder match = null;
+            for (Placeholder p : recognized) {
+                if (source.startsWith(p.token, i)) {
+                    match = p;
+                    break;
+                }
+            }
+            if (match == null) {
+                i = source.indexOf('%', i + 1);
+                continue;
+            }
+            literals.add(source.substring(literalStart, i));
+            placeholders.add(match);
+            literalStart = i + match.token.length();
+            i = source.indexOf('%', literalStart);
+        }
+        literals.add(source.substring(literalStart));
+        return new WaveTitleTemplate(literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]));
+    }
+
+    /** Clear out and render this template into it. */
+    public void render(StringBuilder out, Values values) {
+        out.setLength(0);
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            switch (placeholders[i]) {
+                case CURRENT_WAVE:
+                    out.append(values.currentWave);
+                    break;
+                case TOTAL_WAVES:
+                    out.append(values.totalWaves);
+                    break;
+                case THEME:
+                    out.append(values.theme != null ? values.theme : "");
+                    break;
+                case KILLED:
+                    out.append(values.killed);
+                    break;
+                case TOTAL:
+                    out.append(values.total);
+                    break;
+                case TIME:
+                    out.append(values.timeSeconds).append('s');
+                    break;
+                case BOSS_STATUS:
+                    out.append(values.bossStatus);
+                    break;
+            }
+        }
+        out.append(literals[placeholders.length]);
+    }
+}